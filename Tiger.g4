@@ -1,25 +1,25 @@
 grammar Tiger;
 
 //Grammar
-tiger_program returns [String id]: PROGRAM ID LET declaration_segment BEGIN funct_list END {$id = $ID.text;};
+tiger_program returns [int id]: PROGRAM ID LET declaration_segment BEGIN funct_list END {$id = Identifiers.of($ID);};
 declaration_segment: type_declaration_list var_declaration_list;
 type_declaration_list: type_declaration type_declaration_list | /* epsilon */;
 var_declaration_list: var_declaration var_declaration_list | /* epsilon */;
 funct_list: funct funct_list | /* epsilon */;
-type_declaration returns [String id, Type varType]
-            : TYPE ID TASSIGN type SEMICOLON {$id = $ID.text;
+type_declaration returns [int id, Type varType]
+            : TYPE ID TASSIGN type SEMICOLON {$id = Identifiers.of($ID);
                                               $varType = $type.varType;}
             ;
 type returns [Type varType]
-            : base_type {$varType = new Type($base_type.varTypeString);}
-            | ARRAY OPENBRACK INTLIT CLOSEBRACK OF base_type {$varType = new Type($base_type.varTypeString, $INTLIT.int);}
-            | ID {$varType = new Type($ID.text);}
+            : base_type {$varType = Type.of($base_type.varTypeString);}
+            | ARRAY OPENBRACK INTLIT CLOSEBRACK OF base_type {$varType = Type.array($base_type.varTypeString, $INTLIT.int);}
+            | ID {$varType = Type.of(Identifiers.of($ID));}
             ;
 base_type returns [String varTypeString]
             : INT {$varTypeString = $INT.text;}
             | FLOAT {$varTypeString = $FLOAT.text;}
             ;
-var_declaration returns [String storageClass, Type varType, List<String> idList, boolean isAssigned, String varValue]
+var_declaration returns [String storageClass, Type varType, IntList idList, boolean isAssigned, String varValue]
             : storage_class id_list COLON type optional_init SEMICOLON {$storageClass = $storage_class.storageClass;
                                                                         $varType = $type.varType;
                                                                         $idList = $id_list.idList;
@@ -30,16 +30,19 @@ storage_class returns [String storageClass]
             : VAR {$storageClass = $VAR.text;}
             | STATIC {$storageClass = $STATIC.text;}
             ;
-id_list returns [ArrayList<String> idList = new ArrayList<String>()]
-            : ID {$idList.add($ID.text);}
-            | ID COMMA id_list {$idList.add($ID.text);
-                                $idList.addAll($id_list.idList);}
+id_list returns [IntList idList]
+            : ID {$idList = new IntList();
+                  $idList.add(Identifiers.of($ID));}
+            | ID COMMA id_list {$idList = new IntList();
+                                $idList.add(Identifiers.of($ID));
+                                for (int i = 0; i < $id_list.idList.size(); ++i)
+                                    $idList.add($id_list.idList.get(i));}
             ;
 optional_init returns [boolean isAssigned, String varValue]
             : ASSIGN const_ {$isAssigned = true; $varValue = $const_.varValue;}
             | /* epsilon */ {$isAssigned = false; $varValue = "";};
-funct returns [String id, Type retType, List<Type> params, boolean hasReturn, boolean outsideBreak, List<Integer> breakLines, boolean semError = false]
-            : FUNCTION ID OPENPAREN param_list CLOSEPAREN ret_type BEGIN stat_seq END {$id = $ID.text;
+funct returns [int id, Type retType, List<Type> params, boolean hasReturn, boolean outsideBreak, List<Integer> breakLines, boolean semError = false]
+            : FUNCTION ID OPENPAREN param_list CLOSEPAREN ret_type BEGIN stat_seq END {$id = Identifiers.of($ID);
                                                                                        $retType = $ret_type.varType;
                                                                                        $params = $param_list.params;
                                                                                        $hasReturn = $stat_seq.hasReturn;
@@ -60,27 +63,25 @@ ret_type returns [Type varType]
             : COLON type {$varType = $type.varType;}
             | /* epsilon */ {$varType = Type.VOID;}
             ;
-param returns [Type varType, String id]
+param returns [Type varType, int id]
             : ID COLON type {$varType = $type.varType;
-                             $id = $ID.text;}
+                             $id = Identifiers.of($ID);}
             ;
+// "stat | stat stat_seq" written with the common prefix factored out, so that choosing between
+// the alternatives needs one token of lookahead instead of scanning the whole statement
 stat_seq returns [boolean hasReturn, boolean outsideBreak, List<Integer> breakLines]
             : stat {$hasReturn = $stat.hasReturn;
                     $outsideBreak = $stat.outsideBreak;
                     $breakLines= $stat.breakLines;}
-            | stat stat_seq {$hasReturn = $stat.hasReturn || $stat_seq.hasReturn;
-                            $outsideBreak = $stat.outsideBreak || $stat_seq.outsideBreak;
-                            $breakLines = $stat.breakLines;
-                            $breakLines.addAll($stat_seq.breakLines);}
+              (rest=stat_seq {$hasReturn = $hasReturn || $rest.hasReturn;
+                              $outsideBreak = $outsideBreak || $rest.outsideBreak;
+                              $breakLines.addAll($rest.breakLines);})?
             ;
 stat returns [boolean hasReturn, boolean outsideBreak = false, List<Integer> breakLines = new ArrayList<>();]:
       value_stat |
       if_stat  {$hasReturn = $if_stat.hasReturn;
                 $outsideBreak = $if_stat.outsideBreak;
                 $breakLines = $if_stat.breakLines;}|
-      if_else_stat {$hasReturn = $if_else_stat.hasReturn;
-                    $outsideBreak = $if_else_stat.outsideBreak;
-                    $breakLines = $if_else_stat.breakLines;}|
       while_stat {$hasReturn = $while_stat.hasReturn;} |
       for_stat {$hasReturn = $for_stat.hasReturn;} |
       func_call_stat |
@@ -93,16 +94,16 @@ stat returns [boolean hasReturn, boolean outsideBreak = false, List<Integer> bre
 
 value_stat returns [String valueID]
             : value ASSIGN expr SEMICOLON; // TOOOOODOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOOO
+// if and if-else share one rule: as two rules the parser had to scan the whole then-branch
+// to find out which one it is looking at
 if_stat returns [boolean hasReturn, boolean outsideBreak, List<Integer> breakLines]
-                : IF expr THEN stat_seq ENDIF SEMICOLON {$hasReturn = $stat_seq.hasReturn;
-                                                         $outsideBreak = $stat_seq.outsideBreak;
-                                                         $breakLines = $stat_seq.breakLines;}
-                ;
-if_else_stat returns [boolean hasReturn, boolean outsideBreak, List<Integer> breakLines]
-                : IF expr THEN a=stat_seq ELSE b=stat_seq ENDIF SEMICOLON {$hasReturn = $a.hasReturn || $b.hasReturn;
-                                                                           $outsideBreak = $a.outsideBreak || $b.outsideBreak;
-                                                                           $breakLines = $a.breakLines;
-                                                                           $breakLines.addAll($b.breakLines);}
+                : IF expr THEN a=stat_seq {$hasReturn = $a.hasReturn;
+                                           $outsideBreak = $a.outsideBreak;
+                                           $breakLines = $a.breakLines;}
+                  (ELSE b=stat_seq {$hasReturn = $a.hasReturn || $b.hasReturn;
+                                    $outsideBreak = $outsideBreak || $b.outsideBreak;
+                                    $breakLines.addAll($b.breakLines);})?
+                  ENDIF SEMICOLON
                 ;
 while_stat returns [boolean hasReturn]: WHILE expr DO stat_seq ENDDO SEMICOLON {$hasReturn = $stat_seq.hasReturn;};
 for_stat returns [boolean hasReturn]: FOR ID ASSIGN expr TO expr DO stat_seq ENDDO SEMICOLON {$hasReturn = $stat_seq.hasReturn;};
@@ -119,46 +120,48 @@ optreturn returns [Type varType]
             : expr
             | /* epsilon */
             ;
-optprefix returns [Type varType, String id]
+optprefix returns [Type varType, int id = -1]
             : value ASSIGN {$id = $value.id;}
             | /* epsilon */
             ;
-expr returns [Type varType, boolean isSubscript, String varValue, String tail] ///////////////////////////////////////
+expr returns [Type varType, boolean isSubscript, String varValue, String tail, int place = -1] ///////////////////////////////////////
             : precedence_or {$isSubscript = $precedence_or.isSubscript;
                              $varValue = $precedence_or.varValue;
                              $tail = $precedence_or.tail;}
             ;
 precedence_or returns [Type varType, boolean isEval = false, boolean isSubscript = false,
-                       String varValue, String tail = ""]
+                       String varValue, String tail = "", int place = -1]
             : precedence_or OR precedence_and {$isEval = true; $varValue = "temp";}
             | precedence_and {$isSubscript = $precedence_and.isSubscript;
                               $varValue = $precedence_and.varValue;
                               $tail = $precedence_and.tail;}
             ;
 precedence_and returns [Type varType, boolean isEval = false, boolean isSubscript = false,
-                        String varValue, String tail = ""]
+                        String varValue, String tail = "", int place = -1]
             : precedence_and AND precedence_compare {$isEval = true; $varValue = "temp";}
             | precedence_compare {$isSubscript = $precedence_compare.isSubscript;
                                   $varValue = $precedence_compare.varValue;
                                   $tail = $precedence_compare.tail;}
             ;
 precedence_compare returns [Type varType, boolean isEval = false, boolean isSubscript = false,
-                            String varValue, String tail = ""]
-            : precedence_plus_minus ((EQUAL | NEQUAL | LESS |
-                    GREAT | GREATEQ | LESSEQ) precedence_plus_minus)+ {$varValue = "temp";}
-            | precedence_plus_minus {$isSubscript = $precedence_plus_minus.isSubscript;
-                                     $varValue = $precedence_plus_minus.varValue;
-                                     $tail = $precedence_plus_minus.tail;}
+                            String varValue, String tail = "", int place = -1]
+            : first=precedence_plus_minus {$isSubscript = $first.isSubscript;
+                                           $varValue = $first.varValue;
+                                           $tail = $first.tail;}
+              ((EQUAL | NEQUAL | LESS |
+                    GREAT | GREATEQ | LESSEQ) precedence_plus_minus {$isSubscript = false;
+                                                                      $varValue = "temp";
+                                                                      $tail = "";})*
             ;
 precedence_plus_minus returns [Type varType, boolean isEval = false, boolean isSubscript = false,
-                               String varValue, String tail = ""]
+                               String varValue, String tail = "", int place = -1]
             : precedence_plus_minus (PLUS | MINUS) precedence_mult_div {$isEval = true; $varValue = "temp";}
             | precedence_mult_div {$isSubscript = $precedence_mult_div.isSubscript;
                                    $varValue = $precedence_mult_div.varValue;
                                    $tail = $precedence_mult_div.tail;}
             ;
 precedence_mult_div returns [Type varType, boolean isEval = false, boolean isSubscript = false,
-                             String varValue, String tail = "", String action]
+                             String varValue, String tail = "", String action, int place = -1]
             : precedence_mult_div mult_div precedence_pow {$isEval = true;
                                                            $varValue = "temp";
                                                            $action = $mult_div.action;}
@@ -171,28 +174,31 @@ mult_div returns [String action]
             | DIV {$action = "div";}
             ;
 precedence_pow returns [Type varType, boolean isEval = false, boolean isSubscript = false,
-                        String varValue, String tail = ""] ///////////////////////////////////////////////////
-            : precedence_paren POW precedence_pow {$isEval = true; $varValue = "temp";}
-            | precedence_paren {$isSubscript = $precedence_paren.isSubscript;
+                        String varValue, String tail = "", int place = -1] ///////////////////////////////////////////////////
+            : precedence_paren {$isSubscript = $precedence_paren.isSubscript;
                                 $varValue = $precedence_paren.varValue;
                                 $tail = $precedence_paren.tail;}
+              (POW precedence_pow {$isEval = true;
+                                   $isSubscript = false;
+                                   $varValue = "temp";
+                                   $tail = "";})?
             ;
-precedence_paren returns [Type varType, boolean isSubscript = false, String varValue, String tail = ""]
+precedence_paren returns [Type varType, boolean isSubscript = false, String varValue, String tail = "", int place = -1]
             : OPENPAREN expr CLOSEPAREN {$varValue = "temp";}
             | precedence_trail {$varValue = $precedence_trail.varValue;}
             ;
-precedence_trail returns [Type varType, boolean isSubscript, String varValue, String tail = ""]
+precedence_trail returns [Type varType, boolean isSubscript, String varValue, String tail = "", int place = -1]
             : const_ {$isSubscript = false; $varValue = $const_.varValue;}
             | value {$isSubscript = $value.isSubscript;
-                     $varValue = $value.id;
+                     $varValue = Identifiers.name($value.id);
                      $tail = $value.tail;}
             ;
-value returns [Type varType, String id, boolean isSubscript, String tail]
-            : ID value_tail {$id = $ID.text;
+value returns [Type varType, int id, boolean isSubscript, String tail, int place = -1, int index = -1]
+            : ID value_tail {$id = Identifiers.of($ID);
                              $isSubscript = $value_tail.isSubscript;
                              $tail = $value_tail.varValue;}
             ;
-const_ returns [Type varType, String varValue]
+const_ returns [Type varType, String varValue, int place = -1]
             : INTLIT {$varType = Type.INT; $varValue = $INTLIT.text;}
             | FLOATLIT {$varType = Type.FLOAT; $varValue = $FLOATLIT.text;}
             ;
@@ -0,0 +1,77 @@
+import bench.Phases;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Runs the compiler phases for the benchmarks, see {@link Phases}.
+ */
+public class TigerPhases implements Phases {
+
+    @Override
+    public String program(int bytes) {
+        ProgramGenerator generator = new ProgramGenerator();
+        generator.seed = 8803;
+        generator.size = bytes;
+        return generator.generate();
+    }
+
+    @Override
+    public List<? extends Token> lex(String source) {
+        TigerLexer lexer = new TigerLexer(CharStreams.fromString(source));
+        lexer.removeErrorListeners();
+        lexer.setTokenFactory(IdentifierTokenFactory.DEFAULT);
+        return lexer.getAllTokens();
+    }
+
+    @Override
+    public ParseTree parse(List<? extends Token> tokens) {
+        CommonTokenStream stream = new CommonTokenStream(new ListTokenSource(tokens));
+        return Main.parse(new TigerParser(stream), stream, null, new Diagnostics());
+    }
+
+    @Override
+    public Object check(ParseTree tree) {
+        return walk(tree, false);
+    }
+
+    @Override
+    public Object lower(ParseTree tree) {
+        return walk(tree, true);
+    }
+
+    private static SemanticChecking walk(ParseTree tree, boolean lower) {
+        SemanticChecking semanticChecking = new SemanticChecking(null, lower, new Diagnostics());
+        ParseTreeWalker.DEFAULT.walk(semanticChecking, tree);
+        return semanticChecking;
+    }
+
+    @Override
+    public String emitIR(Object lowered) {
+        return ((SemanticChecking) lowered).getIRGenerator().program.toString();
+    }
+
+    @Override
+    public void logTokens(List<? extends Token> tokens, Path output) throws IOException {
+        try (TokensLogger logger = new TokensLogger(output.toString(), TigerLexer.VOCABULARY)) {
+            for (Token token : tokens)
+                logger.log(token);
+        }
+    }
+
+    @Override
+    public String graphViz(ParseTree tree) {
+        GraphVizBuilder builder = new GraphVizBuilder();
+        builder.startDigraph();
+        ParseTreeWalker.DEFAULT.walk(new ParseTreeToGraphViz(builder), tree);
+        builder.endDigraph();
+        return builder.toString();
+    }
+}
@@ -0,0 +1,100 @@
+package bench;
+
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One benchmark per compiler phase. Every phase gets the output of the previous phases prepared
+ * once per trial, so each score covers a single phase only. The exception is IR generation, which
+ * happens inside the semantic walk: irGenerator runs the walk with lowering, and the cost of the IR
+ * alone is its score minus the one of semanticChecking, which walks without lowering.
+ *
+ * Run with: java -jar cs8803_bin/benchmarks.jar [-p size=1024,1048576]
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx16g"})
+public class PhaseBenchmarks {
+
+    @Param({"1024", "65536", "1048576", "16777216", "52428800"})
+    public int size;
+
+    private Phases phases;
+    private String source;
+    private List<? extends Token> tokens;
+    private ParseTree tree;
+    private Object lowered;
+    private Path tokensFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        phases = Phases.load();
+        source = phases.program(size);
+        tokens = phases.lex(source);
+        tree = phases.parse(tokens);
+        lowered = phases.lower(tree);
+        tokensFile = Files.createTempFile("bench", ".tokens");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(tokensFile);
+    }
+
+    @Benchmark
+    public List<? extends Token> lexer() {
+        return phases.lex(source);
+    }
+
+    @Benchmark
+    public ParseTree parser() {
+        return phases.parse(tokens);
+    }
+
+    @Benchmark
+    public Object semanticChecking() {
+        return phases.check(tree);
+    }
+
+    @Benchmark
+    public Object irGenerator() {
+        return phases.lower(tree);
+    }
+
+    @Benchmark
+    public String irProgramToString() {
+        return phases.emitIR(lowered);
+    }
+
+    @Benchmark
+    public void tokensLogger() throws IOException {
+        phases.logTokens(tokens, tokensFile);
+    }
+
+    @Benchmark
+    public String graphVizBuilder() {
+        return phases.graphViz(tree);
+    }
+}
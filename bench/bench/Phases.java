@@ -0,0 +1,42 @@
+package bench;
+
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * The compiler phases as seen by the benchmarks. The compiler lives in the unnamed package, which
+ * code in a named package (as JMH requires) cannot refer to, so the implementation, TigerPhases,
+ * is looked up by name.
+ */
+public interface Phases {
+
+    static Phases load() throws ReflectiveOperationException {
+        return (Phases) Class.forName("TigerPhases").getDeclaredConstructor().newInstance();
+    }
+
+    /** A syntactically and semantically valid program of roughly the given size in bytes. */
+    String program(int bytes);
+
+    List<? extends Token> lex(String source);
+
+    ParseTree parse(List<? extends Token> tokens);
+
+    /** Runs the semantic walk without generating IR. */
+    Object check(ParseTree tree);
+
+    /**
+     * Runs the semantic walk generating IR and returns its state, which {@link #emitIR} consumes.
+     * The IR is generated as the walk checks each construct, so there is no IR step on its own.
+     */
+    Object lower(ParseTree tree);
+
+    String emitIR(Object lowered);
+
+    void logTokens(List<? extends Token> tokens, Path output) throws IOException;
+
+    String graphViz(ParseTree tree);
+}
@@ -0,0 +1,203 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Outputs of whole compiles, kept in a directory shared by any number of compiler processes
+ * (-cache). An entry is found by a hash of the source bytes, the compiler and the flags that change
+ * the outputs, and holds the diagnostics and the output files of the compile (.tokens, .st, .gv,
+ * .ir), so a hit does not lex or parse at all. The exit code follows from the diagnostics.
+ * <p>
+ * Every entry is one file, written under a temporary name and renamed into place, so readers see
+ * whole entries or none. A hit touches its entry; when the directory grows over its limit the
+ * entries used longest ago are deleted, by one thread of one process at a time. A reader that loses its entry
+ * to a concurrent eviction sees a miss.
+ */
+public class CompileCache {
+    private static final int MAGIC = 0x54434343; // "TCCC"
+    private static final int VERSION = 1;
+    private static final String ENTRY_SUFFIX = ".entry";
+    // the file lock excludes other processes only: a second lock on the file from this process would
+    // throw OverlappingFileLockException, so the threads of this one take turns on this lock first
+    private static final ReentrantLock evicting = new ReentrantLock();
+
+    private final Path directory;
+    private final long limit;
+
+    static class Entry {
+        final List<Diagnostic> diagnostics;
+        // extension (after the unit name, e.g. "st") to contents
+        final Map<String, byte[]> outputs;
+
+        Entry(List<Diagnostic> diagnostics, Map<String, byte[]> outputs) {
+            this.diagnostics = diagnostics;
+            this.outputs = outputs;
+        }
+    }
+
+    /**
+     * Entries are kept in {@code directory} until they take more than {@code limit} bytes.
+     */
+    public CompileCache(Path directory, long limit) throws IOException {
+        this.directory = directory;
+        this.limit = limit;
+        Files.createDirectories(directory);
+    }
+
+    public String key(Path source, CompileOptions options) throws IOException {
+        MessageDigest digest = FunctionCache.newDigest();
+        digest.update(CompilerVersion.HASH);
+        String flags = "lex=" + options.lex_only + " tokens=" + options.write_tokens + " gv=" + options.build_graphviz
+                + " st=" + options.save_symbol_table + " ir=" + options.build_ir + " cfg=" + options.build_cfg
+                + " O=" + options.optimization_level + " mode=" + options.prediction_mode;
+        digest.update(flags.getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            digest.update(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+        return FunctionCache.toKey(digest.digest());
+    }
+
+    /**
+     * The entry stored under {@code key}, or null. A damaged entry is a miss.
+     */
+    public Entry get(String key) {
+        Path path = path(key);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            long size = Files.size(path);
+            if (in.readInt() != MAGIC || in.readInt() != VERSION)
+                return null;
+            List<Diagnostic> diagnostics = FunctionCache.readDiagnostics(in, size);
+            int count = FunctionCache.readLength(in, size);
+            Map<String, byte[]> outputs = new LinkedHashMap<>();
+            for (int i = 0; i < count; ++i) {
+                String extension = in.readUTF();
+                byte[] contents = new byte[FunctionCache.readLength(in, size)];
+                in.readFully(contents);
+                outputs.put(extension, contents);
+            }
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+            return new Entry(diagnostics, outputs);
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public void put(String key, Entry entry) throws IOException {
+        Path temp = Files.createTempFile(directory, key, ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                FunctionCache.writeDiagnostics(out, entry.diagnostics);
+                out.writeInt(entry.outputs.size());
+                for (Map.Entry<String, byte[]> output : entry.outputs.entrySet()) {
+                    out.writeUTF(output.getKey());
+                    out.writeInt(output.getValue().length);
+                    out.write(output.getValue());
+                }
+            }
+            Files.move(temp, path(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        evict();
+    }
+
+    private Path path(String key) {
+        return directory.resolve(key + ENTRY_SUFFIX);
+    }
+
+    // a thread or process that finds the lock taken leaves the eviction to the one holding it
+    private void evict() throws IOException {
+        if (!evicting.tryLock())
+            return;
+        try {
+            evictLocked();
+        } finally {
+            evicting.unlock();
+        }
+    }
+
+    private void evictLocked() throws IOException {
+        try (FileChannel lockFile = FileChannel.open(directory.resolve("lock"), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+             FileLock lock = lockFile.tryLock()) {
+            if (lock == null)
+                return;
+            List<Path> entries;
+            try (Stream<Path> files = Files.list(directory)) {
+                entries = files.filter(p -> p.getFileName().toString().endsWith(ENTRY_SUFFIX)).collect(Collectors.toList());
+            }
+            List<long[]> stats = new ArrayList<>(entries.size()); // last use, size, index in entries
+            long total = 0;
+            for (int i = 0; i < entries.size(); ++i) {
+                try {
+                    long size = Files.size(entries.get(i));
+                    stats.add(new long[]{Files.getLastModifiedTime(entries.get(i)).toMillis(), size, i});
+                    total += size;
+                } catch (IOException e) {
+                    // deleted meanwhile
+                }
+            }
+            if (total <= limit)
+                return;
+            stats.sort((a, b) -> Long.compare(a[0], b[0]));
+            for (long[] entry : stats) {
+                if (total <= limit)
+                    break;
+                Files.deleteIfExists(entries.get((int) entry[2]));
+                total -= entry[1];
+            }
+        }
+    }
+
+    // the compiler is identified by its jar or the class files of its directory, computed once
+    static class CompilerVersion {
+        static final byte[] HASH = hash();
+
+        private static byte[] hash() {
+            MessageDigest digest = FunctionCache.newDigest();
+            CodeSource source = CompileCache.class.getProtectionDomain().getCodeSource();
+            if (source == null)
+                return digest.digest();
+            try {
+                Path root = Path.of(source.getLocation().toURI());
+                List<Path> files;
+                try (Stream<Path> walk = Files.walk(root)) {
+                    files = walk.filter(p -> Files.isRegularFile(p) && (p.equals(root) || p.toString().endsWith(".class")))
+                            .sorted().collect(Collectors.toList());
+                }
+                for (Path file : files) {
+                    digest.update(root.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                    digest.update(Files.readAllBytes(file));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException(e);
+            }
+            return digest.digest();
+        }
+    }
+}
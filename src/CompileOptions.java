@@ -0,0 +1,106 @@
+import org.antlr.v4.runtime.atn.PredictionMode;
+
+import java.io.PrintStream;
+
+/**
+ * Command line flags of one compiler invocation. The same flags are accepted by the command line
+ * and by every request sent to the compile server.
+ */
+public class CompileOptions {
+    public String source_path = null;
+    public boolean write_tokens = false;
+    public boolean build_graphviz = false;
+    public boolean save_symbol_table = false;
+    public boolean build_ir = false;
+    // control flow graphs of the IR functions, generates the IR even without -ir
+    public boolean build_cfg = false;
+    // -O1 or -O2, see Optimizer
+    public int optimization_level = 0;
+    public int threads = Runtime.getRuntime().availableProcessors();
+    // null means SLL first, full LL only when SLL fails
+    public PredictionMode prediction_mode = null;
+    public boolean print_time = false;
+    // where -time writes, the compile server points it at the response of the request
+    public PrintStream time_output = System.err;
+    public boolean collect_stats = false;
+    // only lex the input and write the tokens, no parse tree is built
+    public boolean lex_only = false;
+    // check and lower the function bodies in parallel, see ParallelChecking
+    public boolean parallel_functions = false;
+    // reuse the function bodies that did not change since the last compile, see FunctionCache
+    public boolean incremental = false;
+    // directory of the compile cache shared by compiler processes, null without one, see CompileCache
+    public String cache_dir = null;
+    public long cache_limit = 256L << 20;
+
+    public static CompileOptions parse(String[] args) {
+        CompileOptions options = new CompileOptions();
+        for(int i = 0; i < args.length; ++i){
+            if(args[i].equals("-i") && i + 1 < args.length){
+                options.source_path = args[i + 1];
+            }
+            else if(args[i].equals("-l")){
+                options.write_tokens = true;
+            }
+            if(args[i].equals("-p")){
+                options.build_graphviz = true;
+            }
+            if (args[i].equals("-st")){
+                options.save_symbol_table = true;
+            }
+            if(args[i].equals("-ir")){
+                options.build_ir = true;
+            }
+            if(args[i].equals("-cfg")){
+                options.build_cfg = true;
+            }
+            if(args[i].equals("-O0") || args[i].equals("-O1") || args[i].equals("-O2")){
+                options.optimization_level = args[i].charAt(2) - '0';
+            }
+            if(args[i].equals("-sll")){
+                options.prediction_mode = PredictionMode.SLL;
+            }
+            if(args[i].equals("-ll")){
+                options.prediction_mode = PredictionMode.LL;
+            }
+            if(args[i].equals("-lex")){
+                options.lex_only = true;
+                options.write_tokens = true;
+            }
+            if(args[i].equals("-stats")){
+                options.collect_stats = true;
+            }
+            if(args[i].equals("-par")){
+                options.parallel_functions = true;
+            }
+            if(args[i].equals("-inc")){
+                options.incremental = true;
+            }
+            if(args[i].equals("-cache") && i + 1 < args.length){
+                options.cache_dir = args[i + 1];
+            }
+            if(args[i].equals("-cache-size") && i + 1 < args.length){
+                try {
+                    options.cache_limit = Long.parseLong(args[i + 1]) << 20;
+                } catch (NumberFormatException e) {
+                    options.cache_limit = -1;
+                }
+            }
+            if(args[i].equals("-time")){
+                options.print_time = true;
+            }
+            if(args[i].equals("-j") && i + 1 < args.length){
+                try {
+                    options.threads = Integer.parseInt(args[i + 1]);
+                } catch (NumberFormatException e) {
+                    options.threads = 0;
+                }
+            }
+        }
+        return options;
+    }
+
+    public boolean isValid() {
+        return source_path != null && threads >= 1 && cache_limit >= 0;
+    }
+}
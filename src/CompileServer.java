@@ -0,0 +1,135 @@
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Long running compiler. The JVM, the JIT-compiled code and the lexer/parser DFA caches (which ANTLR
+ * keeps in static fields of TigerLexer and TigerParser) stay warm between requests.
+ *
+ * Protocol: every request is one line holding the usual command line flags separated by whitespace,
+ * e.g. "-i /home/me/prog.tiger -l -st". The server does not know the working directory of the client,
+ * so the source and cache paths must be absolute (a request with a relative one fails with an
+ * argument error), and they cannot contain whitespace. The response is the diagnostics report (and
+ * the per-file status lines for a directory, and the -time report), followed by a line "exit N" where
+ * N is the exit code the command line compiler would have returned. A "quit" line or end of input closes the session, "shutdown" also stops a
+ * socket server.
+ */
+public class CompileServer {
+    private volatile boolean running = true;
+    private volatile ServerSocketChannel server = null;
+
+    /**
+     * Serves requests read from {@code in} one after the other until end of input.
+     */
+    public void serve(InputStream in, OutputStream out) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty())
+                continue;
+            if (line.equals("quit"))
+                break;
+            if (line.equals("shutdown")) {
+                running = false;
+                if (server != null)
+                    server.close(); // wakes up the accepting thread
+                break;
+            }
+            out.write(handle(line).getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+    }
+
+    /**
+     * Accepts connections on a Unix domain socket, each connection is served on its own thread.
+     */
+    public void listen(Path socketPath) throws IOException {
+        Files.deleteIfExists(socketPath);
+        ExecutorService connections = Executors.newCachedThreadPool();
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            this.server = server;
+            server.bind(UnixDomainSocketAddress.of(socketPath));
+            while (running) {
+                SocketChannel channel;
+                try {
+                    channel = server.accept();
+                } catch (ClosedChannelException e) {
+                    break;
+                }
+                connections.submit(() -> {
+                    try (channel) {
+                        serve(Channels.newInputStream(channel), Channels.newOutputStream(channel));
+                    } catch (IOException e) {
+                        // the connection broke, so its client is gone and there is no response to
+                        // report to; compile failures never get here, handle() reports them
+                    }
+                    return null;
+                });
+            }
+        } finally {
+            connections.shutdown();
+            Files.deleteIfExists(socketPath);
+        }
+    }
+
+    /**
+     * Runs one request and returns the complete response text. Nothing goes to the server's own
+     * output: a request that fails gets an internal error in its response.
+     */
+    public String handle(String request) {
+        CompileOptions options = CompileOptions.parse(request.split("\\s+"));
+        if (!options.isValid())
+            return "exit " + Error.ARGUMENT_ERROR.getValue() + "\n";
+
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(response, false, StandardCharsets.UTF_8);
+        options.time_output = out;
+        Error result;
+        File file = new File(options.source_path);
+        try {
+            String relative = !file.isAbsolute() ? options.source_path
+                    : options.cache_dir != null && !new File(options.cache_dir).isAbsolute() ? options.cache_dir : null;
+            if (relative != null) {
+                result = report(out, Error.ARGUMENT_ERROR, "relative path " + relative
+                        + " in a request, the server cannot resolve it against the directory of the client");
+            } else if (file.isDirectory()) {
+                result = Main.compileAll(Main.getTigerFiles(options.source_path), options, out, out);
+            } else {
+                Diagnostics diagnostics = Main.compileSafely(file, options);
+                diagnostics.print(out, "");
+                result = diagnostics.getStatus();
+            }
+        } catch (IOException e) {
+            result = report(out, Error.ARGUMENT_ERROR, e.toString());
+        } catch (RuntimeException e) {
+            result = report(out, Error.INTERNAL_ERROR, "internal compiler error: " + e);
+        }
+        out.println("exit " + result.getValue());
+        out.flush();
+        return response.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Error report(PrintStream out, Error error, String message) {
+        Diagnostics diagnostics = new Diagnostics();
+        diagnostics.add(error, message);
+        diagnostics.print(out, "");
+        return error;
+    }
+}
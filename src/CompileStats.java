@@ -0,0 +1,142 @@
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wall time, CPU time and allocated bytes of every compiler phase plus a few counters, written as
+ * JSON when the compiler runs with -stats. A disabled instance ignores every call, so the compiler
+ * can report unconditionally. Phases are measured on the thread that runs them; work other threads
+ * do for a phase, like the function bodies of -par, is added with {@link #addWork}.
+ */
+public class CompileStats {
+    private final boolean enabled;
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final List<Phase> phases;
+    private final Map<String, Long> counters;
+
+    private String phase = null;
+    private long wallStart, cpuStart, allocatedStart;
+    private long cpuWork, allocatedWork;
+
+    private static class Phase {
+        final String name;
+        long wallNanos, cpuNanos, allocatedBytes;
+
+        Phase(String name, long wallNanos, long cpuNanos, long allocatedBytes) {
+            this.name = name;
+            this.wallNanos = wallNanos;
+            this.cpuNanos = cpuNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+
+    public CompileStats(boolean enabled) {
+        this.enabled = enabled;
+        threadBean = enabled ? (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean() : null;
+        phases = new ArrayList<>();
+        counters = new LinkedHashMap<>();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Ends the running phase, if any, and starts measuring the next one on the current thread.
+     */
+    public void start(String name) {
+        if (!enabled)
+            return;
+        stop();
+        phase = name;
+        long thread = Thread.currentThread().getId();
+        allocatedStart = threadBean.getThreadAllocatedBytes(thread);
+        cpuStart = threadBean.getCurrentThreadCpuTime();
+        wallStart = System.nanoTime();
+    }
+
+    public void stop() {
+        if (!enabled || phase == null)
+            return;
+        long wall = System.nanoTime() - wallStart;
+        long cpu = threadBean.getCurrentThreadCpuTime() - cpuStart + cpuWork;
+        long allocated = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocatedStart + allocatedWork;
+        cpuWork = allocatedWork = 0;
+        // a phase that runs several times, like output writing, is reported once with the sums
+        for (Phase p : phases) {
+            if (p.name.equals(phase)) {
+                p.wallNanos += wall;
+                p.cpuNanos += cpu;
+                p.allocatedBytes += allocated;
+                phase = null;
+                return;
+            }
+        }
+        phases.add(new Phase(phase, wall, cpu, allocated));
+        phase = null;
+    }
+
+    /**
+     * The CPU time and allocated bytes of the current thread so far, null when disabled. Any thread
+     * may call this.
+     */
+    public long[] threadUsage() {
+        if (!enabled)
+            return null;
+        return new long[]{threadBean.getCurrentThreadCpuTime(), threadBean.getThreadAllocatedBytes(Thread.currentThread().getId())};
+    }
+
+    /**
+     * Adds CPU time and allocations of another thread, as differences of {@link #threadUsage}, to the
+     * running phase. Called by the thread that runs the phase.
+     */
+    public void addWork(long cpuNanos, long allocatedBytes) {
+        if (!enabled || phase == null)
+            return;
+        cpuWork += cpuNanos;
+        allocatedWork += allocatedBytes;
+    }
+
+    public void count(String name, long value) {
+        if (enabled)
+            counters.merge(name, value, Long::sum);
+    }
+
+    public String toJson(String unit) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"unit\": \"").append(unit.replace("\\", "\\\\").replace("\"", "\\\"")).append("\", \"phases\": [");
+        long wall = 0, cpu = 0, allocated = 0;
+        for (int i = 0; i < phases.size(); ++i) {
+            Phase p = phases.get(i);
+            if (i != 0) json.append(", ");
+            json.append("{\"name\": \"").append(p.name)
+                    .append("\", \"wallNanos\": ").append(p.wallNanos)
+                    .append(", \"cpuNanos\": ").append(p.cpuNanos)
+                    .append(", \"allocatedBytes\": ").append(p.allocatedBytes).append('}');
+            wall += p.wallNanos;
+            cpu += p.cpuNanos;
+            allocated += p.allocatedBytes;
+        }
+        json.append("], \"total\": {\"wallNanos\": ").append(wall)
+                .append(", \"cpuNanos\": ").append(cpu)
+                .append(", \"allocatedBytes\": ").append(allocated).append("}, \"counters\": {");
+        boolean first = true;
+        for (var counter : counters.entrySet()) {
+            if (!first) json.append(", ");
+            json.append('"').append(counter.getKey()).append("\": ").append(counter.getValue());
+            first = false;
+        }
+        return json.append("}}").toString();
+    }
+
+    public void toFile(String path, String unit) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(path))) {
+            writer.append(toJson(unit)).append('\n');
+        }
+    }
+}
@@ -0,0 +1,375 @@
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Basic blocks and control flow of one IR function, with its dominator tree and loop nesting.
+ * Blocks are numbered in instruction order, block b holds the instructions from {@link #start(int)}
+ * up to {@link #end(int)} (exclusive) and block 0 is the entry. Edges, dominator tree children and
+ * the rest are kept in int arrays indexed by block (adjacency lists in one array with offsets), so
+ * building and walking the graph is linear in the size of the function.
+ * <p>
+ * Blocks that cannot be reached from the entry have no dominator and are in no loop.
+ */
+public class ControlFlowGraph {
+    private final IRFunction function;
+    private final int numBlocks;
+    // first instruction of every block, and the number of instructions at the end
+    private final int[] starts;
+    private final int[] successorStarts, successors;
+    private final int[] predecessorStarts, predecessors;
+    // reachable blocks in reverse postorder, and the position of every block in it (-1 if unreachable)
+    private final int[] order;
+    private final int[] orderIndex;
+    private final int[] idom;
+    private final int[] childStarts, children;
+    // preorder interval of every block in the dominator tree, a dominates b iff b's lies in a's
+    private final int[] domPre, domPost;
+    // innermost loop around every block, for a loop header the loop around its own loop, -1 for none
+    private final int[] loopParent;
+    private final boolean[] loopHeader;
+    private final int[] loopDepth;
+
+    public ControlFlowGraph(IRFunction function) {
+        this.function = function;
+        List<Instruction> instructions = function.instructions;
+        int size = instructions.size();
+
+        // leaders: the first instruction, labels, and whatever follows a jump
+        boolean[] leader = new boolean[size + 1];
+        leader[0] = true;
+        for (int i = 0; i < size; ++i) {
+            Opcode opcode = instructions.get(i).opcode;
+            if (opcode == Opcode.LABEL)
+                leader[i] = true;
+            if (opcode == Opcode.GOTO || opcode == Opcode.RETURN || opcode.isBranch())
+                leader[i + 1] = true;
+        }
+        int count = 0;
+        for (int i = 0; i < size; ++i) {
+            if (leader[i])
+                count++;
+        }
+        numBlocks = Math.max(count, 1);
+        starts = new int[numBlocks + 1];
+        int[] labelBlocks = new int[function.numLabels()];
+        int block = -1;
+        for (int i = 0; i < size; ++i) {
+            if (leader[i])
+                starts[++block] = i;
+            Instruction instruction = instructions.get(i);
+            if (instruction.opcode == Opcode.LABEL)
+                labelBlocks[Operand.index(instruction.operands[0])] = block;
+        }
+        starts[numBlocks] = size;
+
+        // at most two successors per block: the jump target and the fall through
+        int[] targets = new int[2 * numBlocks];
+        int[] targetCounts = new int[numBlocks];
+        int edges = 0;
+        for (int b = 0; b < numBlocks; ++b) {
+            Instruction last = starts[b + 1] > starts[b] ? instructions.get(starts[b + 1] - 1) : null;
+            int n = 0;
+            if (last != null && (last.opcode == Opcode.GOTO || last.opcode.isBranch()))
+                targets[2 * b + n++] = labelBlocks[Operand.index(last.operands[0])];
+            boolean fallsThrough = last == null || (last.opcode != Opcode.GOTO && last.opcode != Opcode.RETURN);
+            if (fallsThrough && b + 1 < numBlocks && (n == 0 || targets[2 * b] != b + 1))
+                targets[2 * b + n++] = b + 1;
+            targetCounts[b] = n;
+            edges += n;
+        }
+        successorStarts = new int[numBlocks + 1];
+        successors = new int[edges];
+        predecessorStarts = new int[numBlocks + 1];
+        predecessors = new int[edges];
+        for (int b = 0; b < numBlocks; ++b) {
+            successorStarts[b + 1] = successorStarts[b] + targetCounts[b];
+            for (int i = 0; i < targetCounts[b]; ++i) {
+                successors[successorStarts[b] + i] = targets[2 * b + i];
+                predecessorStarts[targets[2 * b + i] + 1]++;
+            }
+        }
+        for (int b = 0; b < numBlocks; ++b)
+            predecessorStarts[b + 1] += predecessorStarts[b];
+        int[] fill = Arrays.copyOf(predecessorStarts, numBlocks);
+        for (int b = 0; b < numBlocks; ++b) {
+            for (int i = successorStarts[b]; i < successorStarts[b + 1]; ++i)
+                predecessors[fill[successors[i]]++] = b;
+        }
+
+        // reverse postorder by an explicit depth first search
+        orderIndex = new int[numBlocks];
+        Arrays.fill(orderIndex, -1);
+        int[] postorder = new int[numBlocks];
+        int reached = 0;
+        int[] stack = new int[numBlocks];
+        int[] next = new int[numBlocks];
+        boolean[] visited = new boolean[numBlocks];
+        int top = 0;
+        stack[top++] = 0;
+        visited[0] = true;
+        while (top > 0) {
+            int b = stack[top - 1];
+            if (successorStarts[b] + next[b] < successorStarts[b + 1]) {
+                int s = successors[successorStarts[b] + next[b]++];
+                if (!visited[s]) {
+                    visited[s] = true;
+                    stack[top++] = s;
+                }
+            } else {
+                postorder[reached++] = b;
+                top--;
+            }
+        }
+        order = new int[reached];
+        for (int i = 0; i < reached; ++i) {
+            order[i] = postorder[reached - 1 - i];
+            orderIndex[order[i]] = i;
+        }
+
+        idom = dominators();
+
+        // dominator tree children, and preorder intervals for constant time dominance queries
+        childStarts = new int[numBlocks + 1];
+        for (int b : order) {
+            if (b != 0)
+                childStarts[idom[b] + 1]++;
+        }
+        for (int b = 0; b < numBlocks; ++b)
+            childStarts[b + 1] += childStarts[b];
+        children = new int[Math.max(reached - 1, 0)];
+        fill = Arrays.copyOf(childStarts, numBlocks);
+        for (int b : order) {
+            if (b != 0)
+                children[fill[idom[b]]++] = b;
+        }
+        domPre = new int[numBlocks];
+        domPost = new int[numBlocks];
+        Arrays.fill(domPre, -1);
+        Arrays.fill(domPost, -1);
+        Arrays.fill(next, 0);
+        int clock = 0;
+        top = 0;
+        stack[top++] = 0;
+        domPre[0] = clock++;
+        while (top > 0) {
+            int b = stack[top - 1];
+            if (childStarts[b] + next[b] < childStarts[b + 1]) {
+                int c = children[childStarts[b] + next[b]++];
+                domPre[c] = clock++;
+                stack[top++] = c;
+            } else {
+                domPost[b] = clock++;
+                top--;
+            }
+        }
+
+        loopParent = new int[numBlocks];
+        loopHeader = new boolean[numBlocks];
+        loopDepth = new int[numBlocks];
+        findLoops();
+    }
+
+    // Cooper, Harvey and Kennedy: iterate idom(b) = intersection of the processed predecessors
+    private int[] dominators() {
+        int[] idom = new int[numBlocks];
+        Arrays.fill(idom, -1);
+        if (order.length == 0)
+            return idom;
+        idom[0] = 0;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = 1; i < order.length; ++i) {
+                int b = order[i];
+                int dominator = -1;
+                for (int p = predecessorStarts[b]; p < predecessorStarts[b + 1]; ++p) {
+                    int predecessor = predecessors[p];
+                    if (idom[predecessor] == -1)
+                        continue;
+                    dominator = dominator == -1 ? predecessor : intersect(idom, predecessor, dominator);
+                }
+                if (idom[b] != dominator) {
+                    idom[b] = dominator;
+                    changed = true;
+                }
+            }
+        }
+        idom[0] = -1;
+        return idom;
+    }
+
+    private int intersect(int[] idom, int a, int b) {
+        while (a != b) {
+            while (orderIndex[a] > orderIndex[b])
+                a = idom[a];
+            while (orderIndex[b] > orderIndex[a])
+                b = idom[b];
+        }
+        return a;
+    }
+
+    // Loops are found innermost first by taking headers in postorder: the body of a header is
+    // everything reaching one of its back edges backwards without passing the header, where a
+    // block of a loop found earlier stands for its whole outermost loop found so far.
+    private void findLoops() {
+        Arrays.fill(loopParent, -1);
+        int[] stack = new int[numBlocks];
+        for (int i = order.length - 1; i >= 0; --i) {
+            int header = order[i];
+            int top = 0;
+            for (int p = predecessorStarts[header]; p < predecessorStarts[header + 1]; ++p) {
+                int predecessor = predecessors[p];
+                if (orderIndex[predecessor] < 0 || !dominates(header, predecessor))
+                    continue;
+                loopHeader[header] = true;
+                if (predecessor != header)
+                    stack[top++] = predecessor;
+            }
+            while (top > 0) {
+                int b = outermost(stack[--top]);
+                if (b == header)
+                    continue;
+                loopParent[b] = header;
+                for (int p = predecessorStarts[b]; p < predecessorStarts[b + 1]; ++p) {
+                    int predecessor = predecessors[p];
+                    if (orderIndex[predecessor] >= 0 && outermost(predecessor) != header) {
+                        if (top == stack.length)
+                            stack = Arrays.copyOf(stack, 2 * stack.length);
+                        stack[top++] = predecessor;
+                    }
+                }
+            }
+        }
+        // outer headers come first in reverse postorder
+        for (int b : order) {
+            int parent = loopParent[b];
+            int depth = parent == -1 ? 0 : loopDepth[parent];
+            loopDepth[b] = loopHeader[b] ? depth + 1 : depth;
+        }
+    }
+
+    private int outermost(int b) {
+        while (loopParent[b] != -1)
+            b = loopParent[b];
+        return b;
+    }
+
+    public IRFunction getFunction() {
+        return function;
+    }
+
+    public int numBlocks() {
+        return numBlocks;
+    }
+
+    public int start(int block) {
+        return starts[block];
+    }
+
+    public int end(int block) {
+        return starts[block + 1];
+    }
+
+    public int numSuccessors(int block) {
+        return successorStarts[block + 1] - successorStarts[block];
+    }
+
+    public int successor(int block, int i) {
+        return successors[successorStarts[block] + i];
+    }
+
+    public int numPredecessors(int block) {
+        return predecessorStarts[block + 1] - predecessorStarts[block];
+    }
+
+    public int predecessor(int block, int i) {
+        return predecessors[predecessorStarts[block] + i];
+    }
+
+    /**
+     * The reachable blocks in reverse postorder, the entry first. Do not modify.
+     */
+    public int[] reversePostorder() {
+        return order;
+    }
+
+    public boolean isReachable(int block) {
+        return orderIndex[block] >= 0;
+    }
+
+    /**
+     * Immediate dominator of the block, -1 for the entry and unreachable blocks.
+     */
+    public int idom(int block) {
+        return idom[block];
+    }
+
+    public int numChildren(int block) {
+        return childStarts[block + 1] - childStarts[block];
+    }
+
+    /**
+     * The i-th block immediately dominated by the block.
+     */
+    public int child(int block, int i) {
+        return children[childStarts[block] + i];
+    }
+
+    /**
+     * Whether {@code a} dominates {@code b}, every block dominates itself.
+     */
+    public boolean dominates(int a, int b) {
+        return domPre[a] >= 0 && domPre[b] >= 0 && domPre[a] <= domPre[b] && domPost[b] <= domPost[a];
+    }
+
+    public boolean isLoopHeader(int block) {
+        return loopHeader[block];
+    }
+
+    /**
+     * Header of the innermost loop containing the block, not counting the loop a header starts, or -1.
+     */
+    public int loopParent(int block) {
+        return loopParent[block];
+    }
+
+    /**
+     * Number of loops containing the block, a loop header is in its own loop.
+     */
+    public int loopDepth(int block) {
+        return loopDepth[block];
+    }
+
+    /**
+     * Adds the graph as a cluster named after the function, one node per block holding its instructions.
+     */
+    public void toGraphViz(GraphVizBuilder builder) {
+        String name = function.getName();
+        builder.startSubgraph("cluster_" + name);
+        StringBuilder label = new StringBuilder();
+        StringBuilder text = new StringBuilder();
+        for (int b = 0; b < numBlocks; ++b) {
+            String node = name + "_B" + b;
+            label.setLength(0);
+            label.append("\"B").append(b);
+            if (idom[b] >= 0)
+                label.append(" idom B").append(idom[b]);
+            if (loopDepth[b] > 0)
+                label.append(" loop depth ").append(loopDepth[b]);
+            if (!isReachable(b))
+                label.append(" unreachable");
+            label.append("\\l");
+            for (int i = starts[b]; i < starts[b + 1]; ++i) {
+                text.setLength(0);
+                function.appendInstruction(text, function.instructions.get(i));
+                label.append(text.toString().trim()).append("\\l");
+            }
+            label.append('"');
+            builder.addAttribute(node, "shape", "box");
+            builder.addAttribute(node, "label", label.toString());
+            for (int i = successorStarts[b]; i < successorStarts[b + 1]; ++i)
+                builder.addArrow(node, name + "_B" + successors[i]);
+        }
+        builder.endSubgraph();
+    }
+}
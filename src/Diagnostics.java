@@ -0,0 +1,113 @@
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Collects every error reported while compiling one unit. Nothing is printed while the compiler runs,
+ * the whole report is written once by {@link #print(PrintStream, String)}.
+ */
+public class Diagnostics {
+    private final List<Diagnostic> diagnostics;
+
+    public Diagnostics() {
+        diagnostics = new ArrayList<>();
+    }
+
+    public void add(Diagnostic diagnostic) {
+        diagnostics.add(diagnostic);
+    }
+
+    /**
+     * An error that has no position in the source, like an unreadable input file.
+     */
+    public void add(Error error, String message) {
+        add(new Diagnostic(error, -1, -1, null, message));
+    }
+
+    public void addSyntax(Error error, int line, int column, String message) {
+        add(new Diagnostic(error, line, column, null, message));
+    }
+
+    public void addSemantic(SemanticChecking.ErrorType type, int line, String message) {
+        add(new Diagnostic(Error.SEMANTIC_ERROR, line, -1, type, message));
+    }
+
+    public List<Diagnostic> getDiagnostics() {
+        return Collections.unmodifiableList(diagnostics);
+    }
+
+    public boolean hasErrors() {
+        return !diagnostics.isEmpty();
+    }
+
+    public boolean has(Error error) {
+        for (Diagnostic diagnostic : diagnostics) {
+            if (diagnostic.error == error)
+                return true;
+        }
+        return false;
+    }
+
+    // earlier compiler stages win: a lexical error makes the whole unit a lexical failure
+    public Error getStatus() {
+        if (has(Error.LEXICAL_ERROR))
+            return Error.LEXICAL_ERROR;
+        if (has(Error.SYNTAX_ERROR))
+            return Error.SYNTAX_ERROR;
+        if (has(Error.SEMANTIC_ERROR))
+            return Error.SEMANTIC_ERROR;
+        if (has(Error.INTERNAL_ERROR))
+            return Error.INTERNAL_ERROR;
+        if (has(Error.ARGUMENT_ERROR))
+            return Error.ARGUMENT_ERROR;
+        return Error.NO_ERROR;
+    }
+
+    public String toString(String prefix) {
+        StringBuilder builder = new StringBuilder();
+        for (Diagnostic diagnostic : diagnostics) {
+            builder.append(prefix).append(diagnostic).append('\n');
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return toString("");
+    }
+
+    public void print(PrintStream stream, String prefix) {
+        if (diagnostics.isEmpty())
+            return;
+        stream.print(toString(prefix));
+        stream.flush();
+    }
+}
+
+class Diagnostic {
+    public final Error error;
+    // -1 when the error has no position
+    public final int line;
+    // -1 when the error has a line only
+    public final int column;
+    public final SemanticChecking.ErrorType type;
+    public final String message;
+
+    public Diagnostic(Error error, int line, int column, SemanticChecking.ErrorType type, String message) {
+        this.error = error;
+        this.line = line;
+        this.column = column;
+        this.type = type;
+        this.message = message;
+    }
+
+    @Override
+    public String toString() {
+        if (line < 0)
+            return message;
+        if (column < 0)
+            return "line " + line + ": " + message;
+        return "line " + line + ":" + column + " " + message;
+    }
+}
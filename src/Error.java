@@ -3,7 +3,8 @@ public enum Error {
     ARGUMENT_ERROR(1),
     LEXICAL_ERROR(2),
     SYNTAX_ERROR(3),
-    SEMANTIC_ERROR(4);
+    SEMANTIC_ERROR(4),
+    INTERNAL_ERROR(5);
 
     private final int value;
 
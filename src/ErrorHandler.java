@@ -9,16 +9,15 @@ import java.util.BitSet;
 
 public class ErrorHandler implements ANTLRErrorListener {
     private Error error_type;
-//    private boolean error_occured;
-    public ErrorHandler(Error error_type){
+    private Diagnostics diagnostics;
+    public ErrorHandler(Error error_type, Diagnostics diagnostics){
         this.error_type = error_type;
-//        error_occured = false;
+        this.diagnostics = diagnostics;
     }
 
     @Override
     public void syntaxError(Recognizer<?, ?> recognizer, Object o, int i, int i1, String s, RecognitionException e) {
-//        error_occured = true;
-        System.exit(error_type.getValue());
+        diagnostics.addSyntax(error_type, i, i1, s);
     }
 
     @Override
@@ -36,7 +35,7 @@ public class ErrorHandler implements ANTLRErrorListener {
 
     }
 
-//    public boolean isError_occured() {
-//        return error_occured;
-//    }
+    public Error getError_type() {
+        return error_type;
+    }
 }
@@ -0,0 +1,203 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of checking and lowering single function bodies, kept on disk between compiles of a unit
+ * (-inc). An entry is found by a hash of everything the body depends on (see
+ * {@link ParallelChecking}), and holds the diagnostics, the -st dump and the IR of the body. Lines
+ * of diagnostics are relative to the first line of the function, so an entry stays valid when
+ * the function moves. The file is tied to the compiler that wrote it (see
+ * {@link CompileCache.CompilerVersion}): any other build of the compiler starts from an empty cache.
+ */
+public class FunctionCache {
+    private static final int MAGIC = 0x54494743; // "TIGC"
+
+    static class Entry {
+        // lines relative to the first line of the function
+        final List<Diagnostic> diagnostics;
+        // null when the body was checked without a dump or lowered without IR
+        final String dump;
+        final String ir;
+
+        Entry(List<Diagnostic> diagnostics, String dump, String ir) {
+            this.diagnostics = diagnostics;
+            this.dump = dump;
+            this.ir = ir;
+        }
+    }
+
+    // what the last compile left, and what this one used or added, which is all that is saved
+    private final Map<String, Entry> entries;
+    private final Map<String, Entry> used = new LinkedHashMap<>();
+
+    private FunctionCache(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    public static FunctionCache empty() {
+        return new FunctionCache(new HashMap<>());
+    }
+
+    /**
+     * Reads the cache written by {@link #save(Path)}. A missing, damaged or outdated file is an
+     * empty cache.
+     */
+    public static FunctionCache load(Path path) {
+        Map<String, Entry> entries = new HashMap<>();
+        if (!Files.exists(path))
+            return new FunctionCache(entries);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            long size = Files.size(path);
+            byte[] version = new byte[CompileCache.CompilerVersion.HASH.length];
+            if (in.readInt() != MAGIC)
+                return empty();
+            in.readFully(version);
+            if (!Arrays.equals(version, CompileCache.CompilerVersion.HASH))
+                return empty();
+            int count = in.readInt();
+            for (int i = 0; i < count; ++i) {
+                String key = in.readUTF();
+                List<Diagnostic> diagnostics = readDiagnostics(in, size);
+                String dump = readString(in, size);
+                String ir = readString(in, size);
+                entries.put(key, new Entry(diagnostics, dump, ir));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            return empty();
+        }
+        return new FunctionCache(entries);
+    }
+
+    public Entry get(String key) {
+        Entry entry = used.get(key);
+        if (entry == null)
+            entry = entries.get(key);
+        return entry;
+    }
+
+    /**
+     * Keeps the entry for the next compile, {@code entry} is either new or was returned by
+     * {@link #get(String)}.
+     */
+    public void put(String key, Entry entry) {
+        used.put(key, entry);
+    }
+
+    /**
+     * Writes the entries used by this compile, replacing the file in one step so a concurrent
+     * compile of the same unit reads either the old or the new cache.
+     */
+    public void save(Path path) throws IOException {
+        Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.write(CompileCache.CompilerVersion.HASH);
+                out.writeInt(used.size());
+                for (Map.Entry<String, Entry> e : used.entrySet()) {
+                    Entry entry = e.getValue();
+                    out.writeUTF(e.getKey());
+                    writeDiagnostics(out, entry.diagnostics);
+                    writeString(out, entry.dump);
+                    writeString(out, entry.ir);
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    static void writeDiagnostics(DataOutputStream out, List<Diagnostic> diagnostics) throws IOException {
+        out.writeInt(diagnostics.size());
+        for (Diagnostic diagnostic : diagnostics) {
+            out.writeUTF(diagnostic.error.name());
+            out.writeInt(diagnostic.line);
+            out.writeInt(diagnostic.column);
+            out.writeUTF(diagnostic.type == null ? "" : diagnostic.type.name());
+            writeString(out, diagnostic.message);
+        }
+    }
+
+    // an unknown error name is an IllegalArgumentException; fileSize bounds the counts and lengths
+    // read, see readLength
+    static List<Diagnostic> readDiagnostics(DataInputStream in, long fileSize) throws IOException {
+        int count = readLength(in, fileSize);
+        List<Diagnostic> diagnostics = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            Error error = Error.valueOf(in.readUTF());
+            int line = in.readInt();
+            int column = in.readInt();
+            String type = in.readUTF();
+            String message = readString(in, fileSize);
+            diagnostics.add(new Diagnostic(error, line, column,
+                    type.isEmpty() ? null : SemanticChecking.ErrorType.valueOf(type), message));
+        }
+        return diagnostics;
+    }
+
+    // writeUTF is limited to 64K, the dump and the IR of a function are not
+    static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInputStream in, long fileSize) throws IOException {
+        int length = in.readInt();
+        if (length == -1)
+            return null;
+        byte[] bytes = new byte[checkLength(length, fileSize)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a count or a length of a file of {@code fileSize} bytes. In a damaged file it may be
+     * anything, and allocating by it could fail with a NegativeArraySizeException or an
+     * OutOfMemoryError, so one that is negative or larger than the file is an IOException.
+     */
+    static int readLength(DataInputStream in, long fileSize) throws IOException {
+        return checkLength(in.readInt(), fileSize);
+    }
+
+    private static int checkLength(int length, long fileSize) throws IOException {
+        if (length < 0 || length > fileSize)
+            throw new IOException("damaged cache file: length " + length + " in " + fileSize + " bytes");
+        return length;
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String toKey(byte[] digest) {
+        StringBuilder key = new StringBuilder(digest.length * 2);
+        for (byte b : digest)
+            key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        return key.toString();
+    }
+}
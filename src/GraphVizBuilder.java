@@ -20,6 +20,14 @@ public class GraphVizBuilder {
         builder.append("}");
     }
 
+    public void startSubgraph(String name){
+        builder.append("subgraph ").append(name).append(" {").append("\n");
+    }
+
+    public void endSubgraph(){
+        builder.append("}").append("\n");
+    }
+
     public void addAttribute(String node, String attribute, String value){
         builder.append("\"").append(node).append("\"")
                 .append(" [").append(attribute).append(" = ").append(value).append(" ]").append("\n");
@@ -33,8 +41,8 @@ public class GraphVizBuilder {
         return builder.toString();
     }
     public void toFile(String path) throws IOException {
-        BufferedWriter writer = new BufferedWriter(new FileWriter(path));
-        writer.append(this.toString());
-        writer.flush();
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(path))) {
+            writer.append(this.toString());
+        }
     }
 }
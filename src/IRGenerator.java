@@ -1,58 +1,620 @@
-import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+/**
+ * Instructions of the Tiger IR. Operands are kept in the order they are printed: arithmetic is
+ * {@code op, x, y, result}, branches are {@code br, label, x, y}, {@code array_store, value, array,
+ * index}, {@code array_load, result, array, index}, {@code call, function, args...} and
+ * {@code callr, result, function, args...}. An array is initialized by {@code assign, array, size,
+ * value}.
+ */
+enum Opcode {
+    ASSIGN("assign"), ADD("add"), SUB("sub"), MULT("mult"), DIV("div"), AND("and"), OR("or"),
+    GOTO("goto"), BREQ("breq"), BRNEQ("brneq"), BRLT("brlt"), BRGT("brgt"), BRLEQ("brleq"), BRGEQ("brgeq"),
+    RETURN("return"), CALL("call"), CALLR("callr"), ARRAY_STORE("array_store"), ARRAY_LOAD("array_load"),
+    LABEL(null),
+    // only in SSA form: phi, result, one argument per predecessor
+    PHI("phi");
+
+    public final String text;
+
+    Opcode(String text) {
+        this.text = text;
+    }
 
-enum Command {
-    ASSIGN, EXPR, WHILE_LOOP, FOR_LOOP, RETURN
+    public boolean isBranch() {
+        return compareTo(BREQ) >= 0 && compareTo(BRGEQ) <= 0;
+    }
 }
 
+/**
+ * Operands are ints with the kind in the top bits and an index below: locals index the variables
+ * of their function (parameters, declared variables and temporaries), globals those of the program,
+ * constants the constant pool of the function, functions are identifiers. Values only appear in SSA
+ * form and index the values of an {@link SSAFunction}.
+ */
+final class Operand {
+    public static final int NONE = -1;
+    public static final int LOCAL = 0, GLOBAL = 1, INT_CONST = 2, FLOAT_CONST = 3, LABEL = 4, FUNCTION = 5, VALUE = 6;
+
+    private Operand() {
+    }
+
+    public static int of(int kind, int index) {
+        return kind << 28 | index;
+    }
+
+    public static int kind(int operand) {
+        return operand >>> 28;
+    }
+
+    public static int index(int operand) {
+        return operand & 0x0fffffff;
+    }
+
+    public static boolean isConstant(int operand) {
+        int kind = kind(operand);
+        return kind == INT_CONST || kind == FLOAT_CONST;
+    }
+}
+
+class Instruction {
+    public final Opcode opcode;
+    public final int[] operands;
+
+    public Instruction(Opcode opcode, int... operands) {
+        this.opcode = opcode;
+        this.operands = operands;
+    }
+}
+
+/**
+ * Lowers the program to IR while SemanticChecking walks it. Expressions come in as the operands
+ * holding their values and go out as the operand of the result, statements are emitted into the
+ * active function as their parts are seen.
+ */
 public class IRGenerator {
+    // larger constant exponents keep the loop of pow
+    static final int MAX_EXPANDED_EXPONENT = 8;
+
     public IRProgram program;
     public IRFunction activeFunction = null;
+    // with a writer, every function goes to it when it is complete and is not kept in the program
+    private IRWriter writer = null;
+    private boolean headerWritten = false;
+    // a detached generator lowers functions of a program built elsewhere and only keeps them
+    private final boolean detached;
+    private IRFunction lastFunction = null;
+    // with a builder, the control flow graph of every complete function is added to it
+    private GraphVizBuilder cfgBuilder = null;
+    private Optimizer optimizer = null;
+
+    // else (then end) labels of the open if statements, start and end labels of the open loops
+    private final IntList ifLabels = new IntList();
+    private final IntList loopStarts = new IntList();
+    private final IntList loopEnds = new IntList();
+
+    public IRGenerator() {
+        detached = false;
+    }
+
+    /**
+     * A generator for function bodies of {@code program}, whose variables are declared and which
+     * is read-only from here. Finished functions are not added to the program or written, see
+     * {@link #getLastFunction()}.
+     */
+    public IRGenerator(IRProgram program) {
+        this.program = program;
+        detached = true;
+    }
 
-    public void startProgram(String programName) {
+    public IRFunction getLastFunction() {
+        return lastFunction;
+    }
+
+    public void setWriter(IRWriter writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Optimizes every complete function before it is written or kept.
+     */
+    public void setOptimizer(Optimizer optimizer) {
+        this.optimizer = optimizer;
+    }
+
+    public void setGraphViz(GraphVizBuilder cfgBuilder) {
+        this.cfgBuilder = cfgBuilder;
+    }
+
+    public void startProgram(int programName) {
         program = new IRProgram(programName);
     }
 
-    public void startFunction(String functionName, Type returnType) {
-        activeFunction = new IRFunction(functionName, returnType);
-        program.addFunction(activeFunction);
+    public void endProgram() {
+        if (writer == null)
+            return;
+        writeHeader();
+        writer.writeEnd(program);
+    }
+
+    // static variables are all declared before the first function
+    private void writeHeader() {
+        if (!headerWritten)
+            writer.writeHeader(program);
+        headerWritten = true;
+    }
+
+    public void startFunction(int functionName, Type returnType) {
+        activeFunction = new IRFunction(functionName, returnType, program);
+        if (writer != null)
+            writeHeader();
+        else if (!detached)
+            program.addFunction(activeFunction);
+        // static variables are initialized when the program starts, that is in main
+        if (Identifiers.name(functionName).equals("main")) {
+            for (IRProgram.Init init : program.inits) {
+                int value = constant(init.constType, init.text);
+                initialize(init.var, init.size, value, init.isFloat);
+            }
+        }
+    }
+
+    public void endFunction() {
+        List<Instruction> instructions = activeFunction.instructions;
+        if (activeFunction.returnType.getKind() == Type.Kind.VOID &&
+                (instructions.isEmpty() || instructions.get(instructions.size() - 1).opcode != Opcode.RETURN))
+            emit(Opcode.RETURN);
+        if (optimizer != null)
+            optimizer.optimize(activeFunction);
+        if (writer != null)
+            writer.writeFunction(activeFunction);
+        if (cfgBuilder != null && !detached)
+            new ControlFlowGraph(activeFunction).toGraphViz(cfgBuilder);
+        lastFunction = activeFunction;
+        activeFunction = null;
+    }
+
+    private IRScope activeScope() {
+        return (activeFunction == null) ? program : activeFunction;
+    }
+
+    /**
+     * Declares a variable of the given resolved type and returns its operand.
+     */
+    public int addVar(int name, Type type) {
+        int size = type.isArray() ? type.getArraySize() : 0;
+        return activeScope().addVariable(Identifiers.name(name), type.getKind() == Type.Kind.FLOAT, size);
+    }
+
+    public int addParam(int paramName, Type type) {
+        return activeFunction.addParam(paramName, type);
+    }
+
+    public int constant(Type type, String text) {
+        if (activeFunction == null)
+            return Operand.NONE;
+        return activeFunction.constant(type.getKind() == Type.Kind.FLOAT, text);
+    }
+
+    /**
+     * Initializes a declared variable with a constant. Static variables are initialized at the start
+     * of main.
+     */
+    public void initialize(int var, Type type, Type constType, String text) {
+        boolean isFloat = type.getKind() == Type.Kind.FLOAT;
+        int size = type.isArray() ? type.getArraySize() : 0;
+        if (activeFunction == null)
+            program.inits.add(new IRProgram.Init(var, size, isFloat, constType, text));
+        else
+            initialize(var, size, constant(constType, text), isFloat);
+    }
+
+    private void initialize(int var, int size, int value, boolean isFloat) {
+        if (isFloat)
+            value = toFloat(value);
+        if (size == 0)
+            emit(Opcode.ASSIGN, var, value);
+        else
+            emit(Opcode.ASSIGN, var, activeFunction.constant(false, Integer.toString(size)), value);
+    }
+
+    public boolean isFloat(int operand) {
+        return activeFunction.isFloat(operand);
+    }
+
+    /**
+     * Returns the operand, converted to float if {@code toFloat} is set and it is an int.
+     */
+    public int convert(int operand, boolean toFloat) {
+        return toFloat ? toFloat(operand) : operand;
+    }
+
+    private int toFloat(int operand) {
+        if (isFloat(operand))
+            return operand;
+        if (Operand.kind(operand) == Operand.INT_CONST)
+            return activeFunction.constant(true, activeFunction.constantText(operand) + ".0");
+        int temp = activeFunction.newTemp(true);
+        emit(Opcode.ASSIGN, temp, operand);
+        return temp;
+    }
+
+    public void assign(int target, int value) {
+        // assigning an int to a float variable converts it, only constants are rewritten
+        if (isFloat(target) && Operand.kind(value) == Operand.INT_CONST)
+            value = toFloat(value);
+        emit(Opcode.ASSIGN, target, value);
+    }
+
+    public int binary(Opcode opcode, int left, int right, boolean isFloat) {
+        int folded = fold(opcode, left, right, isFloat);
+        if (folded != Operand.NONE)
+            return folded;
+        if (isFloat) {
+            left = toFloat(left);
+            right = toFloat(right);
+        }
+        int result = activeFunction.newTemp(isFloat);
+        emit(opcode, left, right, result);
+        return result;
+    }
+
+    /**
+     * Evaluates a comparison to 1 or 0; {@code branch} is the branch taken when it holds.
+     */
+    public int compare(Opcode branch, int left, int right) {
+        Integer x = intValue(left), y = intValue(right);
+        if (x != null && y != null)
+            return activeFunction.constant(false, ConstantPropagation.compare(branch, x, y) ? "1" : "0");
+        if (isFloat(left) || isFloat(right)) {
+            left = toFloat(left);
+            right = toFloat(right);
+        }
+        int result = activeFunction.newTemp(false);
+        int done = activeFunction.newLabel();
+        emit(Opcode.ASSIGN, result, activeFunction.constant(false, "1"));
+        emit(branch, done, left, right);
+        emit(Opcode.ASSIGN, result, activeFunction.constant(false, "0"));
+        emit(Opcode.LABEL, done);
+        return result;
+    }
+
+    /**
+     * Raises {@code base} to the int {@code exponent} by repeated multiplication. A constant exponent
+     * up to {@link #MAX_EXPANDED_EXPONENT} is expanded into the multiplications, in the order the
+     * loop does them; with an int constant base as well the power is computed (with wraparound).
+     */
+    public int pow(int base, int exponent, boolean isFloat) {
+        Integer n = intValue(exponent);
+        if (n != null) {
+            Integer x = isFloat ? null : intValue(base);
+            if (x != null)
+                return activeFunction.constant(false, Integer.toString(intPower(x, n)));
+            if (n <= 0)
+                return activeFunction.constant(isFloat, isFloat ? "1.0" : "1");
+            if (n <= MAX_EXPANDED_EXPONENT) {
+                base = convert(base, isFloat);
+                int result = base;
+                for (int i = 1; i < n; ++i)
+                    result = binary(Opcode.MULT, base, result, isFloat);
+                return result;
+            }
+        }
+        if (isFloat)
+            base = toFloat(base);
+        int result = activeFunction.newTemp(isFloat);
+        int counter = activeFunction.newTemp(false);
+        int start = activeFunction.newLabel();
+        int end = activeFunction.newLabel();
+        emit(Opcode.ASSIGN, result, activeFunction.constant(isFloat, isFloat ? "1.0" : "1"));
+        emit(Opcode.ASSIGN, counter, activeFunction.constant(false, "0"));
+        emit(Opcode.LABEL, start);
+        emit(Opcode.BRGEQ, end, counter, exponent);
+        emit(Opcode.MULT, result, base, result);
+        emit(Opcode.ADD, counter, activeFunction.constant(false, "1"), counter);
+        emit(Opcode.GOTO, start);
+        emit(Opcode.LABEL, end);
+        return result;
+    }
+
+    public int arrayLoad(int array, int index, boolean isFloat) {
+        int result = activeFunction.newTemp(isFloat);
+        emit(Opcode.ARRAY_LOAD, result, array, index);
+        return result;
+    }
+
+    public void arrayStore(int value, int array, int index) {
+        emit(Opcode.ARRAY_STORE, convert(value, isFloat(array)), array, index);
+    }
+
+    public void call(int function, IntList args) {
+        int[] operands = new int[args.size() + 1];
+        operands[0] = Operand.of(Operand.FUNCTION, function);
+        for (int i = 0; i < args.size(); ++i)
+            operands[i + 1] = args.get(i);
+        emit(Opcode.CALL, operands);
+    }
+
+    /**
+     * Calls a function and returns a temporary holding its result.
+     */
+    public int callr(int function, IntList args, boolean isFloat) {
+        int result = activeFunction.newTemp(isFloat);
+        int[] operands = new int[args.size() + 2];
+        operands[0] = result;
+        operands[1] = Operand.of(Operand.FUNCTION, function);
+        for (int i = 0; i < args.size(); ++i)
+            operands[i + 2] = args.get(i);
+        emit(Opcode.CALLR, operands);
+        return result;
+    }
+
+    public void ret(int value) {
+        if (value == Operand.NONE) {
+            emit(Opcode.RETURN);
+            return;
+        }
+        emit(Opcode.RETURN, convert(value, activeFunction.returnType.getKind() == Type.Kind.FLOAT));
+    }
+
+    public void startIf(int condition) {
+        int otherwise = activeFunction.newLabel();
+        emit(Opcode.BREQ, otherwise, condition, activeFunction.constant(false, "0"));
+        ifLabels.add(otherwise);
+    }
+
+    public void startElse() {
+        int otherwise = ifLabels.removeLast();
+        int end = activeFunction.newLabel();
+        emit(Opcode.GOTO, end);
+        emit(Opcode.LABEL, otherwise);
+        ifLabels.add(end);
+    }
+
+    public void endIf() {
+        emit(Opcode.LABEL, ifLabels.removeLast());
     }
 
-    public void addInt(String intVar, int arrSize) {
-        IRScope activeScope = (activeFunction == null) ? program : activeFunction;
-        activeScope.addInt(intVar, arrSize);
+    public void startWhile() {
+        int start = activeFunction.newLabel();
+        loopStarts.add(start);
+        loopEnds.add(activeFunction.newLabel());
+        emit(Opcode.LABEL, start);
     }
 
-    public void addFloat(String floatVar, int arrSize) {
-        IRScope activeScope = (activeFunction == null) ? program : activeFunction;
-        activeScope.addFloat(floatVar, arrSize);
+    public void whileCondition(int condition) {
+        emit(Opcode.BREQ, loopEnds.last(), condition, activeFunction.constant(false, "0"));
     }
 
-    public void addParam(String paramName, Type type) {
-        activeFunction.addParam(paramName, type);
+    public void endWhile() {
+        emit(Opcode.GOTO, loopStarts.removeLast());
+        emit(Opcode.LABEL, loopEnds.removeLast());
     }
 
-    public void addCommand(Command command, String... args) {
-//         activeFunction.addCommand(command, args);
+    /**
+     * The counter of a for loop gets the first value, the loop runs while it is at most the bound,
+     * which is evaluated once.
+     */
+    public void startFor(int counter, int first) {
+        assign(counter, first);
     }
 
+    public void forBound(int counter, int bound) {
+        int last = activeFunction.newTemp(false);
+        emit(Opcode.ASSIGN, last, bound);
+        int start = activeFunction.newLabel();
+        int end = activeFunction.newLabel();
+        loopStarts.add(start);
+        loopEnds.add(end);
+        emit(Opcode.LABEL, start);
+        emit(Opcode.BRGT, end, counter, last);
+    }
+
+    public void endFor(int counter) {
+        emit(Opcode.ADD, counter, activeFunction.constant(false, "1"), counter);
+        endWhile();
+    }
+
+    public void breakLoop() {
+        if (!loopEnds.isEmpty())
+            emit(Opcode.GOTO, loopEnds.last());
+    }
+
+    // Constant operands are folded and identities simplified while lowering: int arithmetic on
+    // constants with 32 bit wraparound like ConstantPropagation, float arithmetic on constants in
+    // single precision like the target, x + 0, x - 0, x * 1, x / 1, and for ints x * 0, x & 0 and
+    // x | 0. A float result that is not finite or needs an exponent has no literal and is left to the
+    // target, and x + 0.0 stays because it turns -0.0 into 0.0 (x * 0.0 because of NaN and -0.0). A
+    // simplified int operand of a float operation is still converted.
+    private int fold(Opcode opcode, int left, int right, boolean isFloat) {
+        if (!isFloat) {
+            Integer x = intValue(left), y = intValue(right);
+            Integer result = x == null || y == null ? null : ConstantPropagation.fold(opcode, x, y);
+            if (result != null)
+                return activeFunction.constant(false, Integer.toString(result));
+        } else {
+            Float x = floatValue(left), y = floatValue(right);
+            String result = x == null || y == null ? null : foldFloat(opcode, x, y);
+            if (result != null)
+                return activeFunction.constant(true, result);
+        }
+        switch (opcode) {
+            case ADD:
+                if (isFloat)
+                    break;
+                if (isConstant(right, 0))
+                    return left;
+                if (isConstant(left, 0))
+                    return right;
+                break;
+            case SUB:
+                if (isConstant(right, 0))
+                    return convert(left, isFloat);
+                break;
+            case MULT:
+                if (isConstant(right, 1))
+                    return convert(left, isFloat);
+                if (isConstant(left, 1))
+                    return convert(right, isFloat);
+                if (!isFloat && (isConstant(left, 0) || isConstant(right, 0)))
+                    return activeFunction.constant(false, "0");
+                break;
+            case DIV:
+                if (isConstant(right, 1))
+                    return convert(left, isFloat);
+                break;
+            case AND:
+                if (isConstant(left, 0) || isConstant(right, 0))
+                    return activeFunction.constant(false, "0");
+                break;
+            case OR:
+                if (isConstant(right, 0))
+                    return left;
+                if (isConstant(left, 0))
+                    return right;
+                break;
+            default:
+                break;
+        }
+        return Operand.NONE;
+    }
+
+    private boolean isConstant(int operand, double value) {
+        return Operand.isConstant(operand) && Double.parseDouble(activeFunction.constantText(operand)) == value;
+    }
+
+    // the value of an int constant operand, null for other operands and literals that do not fit
+    private Integer intValue(int operand) {
+        if (Operand.kind(operand) != Operand.INT_CONST)
+            return null;
+        try {
+            return Integer.valueOf(activeFunction.constantText(operand));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // the value of a constant operand as a float, an int constant promoted, null for other operands
+    private Float floatValue(int operand) {
+        if (!Operand.isConstant(operand))
+            return null;
+        try {
+            return Float.valueOf(activeFunction.constantText(operand));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // the literal of a float operation on constants, null if it is not folded
+    private static String foldFloat(Opcode opcode, float x, float y) {
+        float result;
+        switch (opcode) {
+            case ADD:
+                result = x + y;
+                break;
+            case SUB:
+                result = x - y;
+                break;
+            case MULT:
+                result = x * y;
+                break;
+            case DIV:
+                result = x / y;
+                break;
+            default:
+                return null;
+        }
+        String text = Float.toString(result);
+        return Float.isFinite(result) && text.indexOf('E') < 0 ? text : null;
+    }
+
+    // like the loop of pow: 1 for exponents up to 0
+    private static int intPower(int base, int exponent) {
+        int result = 1;
+        for (; exponent > 0; exponent >>= 1) {
+            if ((exponent & 1) != 0)
+                result *= base;
+            base *= base;
+        }
+        return result;
+    }
+
+    private void emit(Opcode opcode, int... operands) {
+        if (opcode == Opcode.LABEL || opcode.isBranch() || opcode == Opcode.GOTO) {
+            int label = operands[0];
+            operands[0] = Operand.of(Operand.LABEL, label);
+        }
+        activeFunction.instructions.add(new Instruction(opcode, operands));
+    }
 }
 
 abstract class IRScope {
-    public abstract void addInt(String intVar, int arrSize);
-    public abstract void addFloat(String floatVar, int arrSize);
+    // variables in declaration order: names, element counts (0 for scalars) and which are floats
+    protected final List<String> varNames = new ArrayList<>();
+    protected final IntList varSizes = new IntList();
+    protected final BitSet floats = new BitSet();
+    private final Set<String> usedNames = new HashSet<>();
+
+    protected abstract int kind();
+
+    /**
+     * Adds a variable and returns its operand. A name already taken (by a shadowing declaration in
+     * a nested let, or by a static variable) gets a numbered suffix.
+     */
+    public int addVariable(String name, boolean isFloat, int size) {
+        String unique = name;
+        for (int i = 1; isTaken(unique) || !usedNames.add(unique); ++i)
+            unique = name + "_" + i;
+        int index = varNames.size();
+        varNames.add(unique);
+        varSizes.add(size);
+        floats.set(index, isFloat);
+        return Operand.of(kind(), index);
+    }
+
+    protected boolean isTaken(String name) {
+        return false;
+    }
+
+    public boolean hasVariable(String name) {
+        return usedNames.contains(name);
+    }
 
-    protected String varsListToString(List<Map.Entry<String, Integer>> vars) {
+    public String varName(int index) {
+        return varNames.get(index);
+    }
+
+    public boolean isFloatVar(int index) {
+        return floats.get(index);
+    }
+
+    public int varSize(int index) {
+        return varSizes.get(index);
+    }
+
+    public int numVars() {
+        return varNames.size();
+    }
+
+    protected String varsListToString(boolean floatList) {
         StringBuilder listBuilder = new StringBuilder();
 
-        for (int i = 0; i < vars.size(); i++) {
-            if (i != 0) listBuilder.append(", ");
-            listBuilder.append(vars.get(i).getKey());
+        boolean first = true;
+        for (int i = 0; i < varNames.size(); i++) {
+            if (floats.get(i) != floatList)
+                continue;
+            if (!first) listBuilder.append(", ");
+            first = false;
+            listBuilder.append(varNames.get(i));
 
-            if (vars.get(i).getValue() != 0)
-                listBuilder.append("[").append(vars.get(i).getValue()).append("]");
+            if (varSizes.get(i) != 0)
+                listBuilder.append("[").append(varSizes.get(i)).append("]");
         }
 
         return listBuilder.toString();
@@ -62,122 +624,215 @@ abstract class IRScope {
 class IRProgram extends IRScope {
     private final String name;
 
-    private final List<Map.Entry<String, Integer>> intList;
-    private final List<Map.Entry<String, Integer>> floatList;
     private final List<IRFunction> functionList;
+    // initial values of static variables, emitted at the start of main
+    final List<Init> inits;
+
+    static class Init {
+        final int var, size;
+        final boolean isFloat;
+        final Type constType;
+        final String text;
+
+        Init(int var, int size, boolean isFloat, Type constType, String text) {
+            this.var = var;
+            this.size = size;
+            this.isFloat = isFloat;
+            this.constType = constType;
+            this.text = text;
+        }
+    }
 
-    public IRProgram(String programName) {
-        this.name = programName;
+    public IRProgram(int programName) {
+        this.name = Identifiers.name(programName);
 
-        intList = new ArrayList<>();
-        floatList = new ArrayList<>();
         functionList = new ArrayList<>();
+        inits = new ArrayList<>();
     }
 
     @Override
-    public void addInt(String intVar, int arrSize) {
-        intList.add(new AbstractMap.SimpleEntry<>(intVar, arrSize));
-    }
-
-    @Override
-    public void addFloat(String floatVar, int arrSize) {
-        floatList.add(new AbstractMap.SimpleEntry<>(floatVar, arrSize));
+    protected int kind() {
+        return Operand.GLOBAL;
     }
 
     public void addFunction(IRFunction function) {
         functionList.add(function);
     }
 
+    public List<IRFunction> getFunctions() {
+        return functionList;
+    }
+
+    public void appendHeader(StringBuilder programBuilder) {
+        programBuilder.append("start-program ").append(this.name).append('\n');
+        programBuilder.append("\tstatic-int-list: ").append(varsListToString(false)).append("\n");
+        programBuilder.append("\tstatic-float-list: ").append(varsListToString(true)).append("\n");
+    }
+
+    public void appendEnd(StringBuilder programBuilder) {
+        programBuilder.append("end-program ").append(this.name);
+    }
+
     @Override
     public String toString() {
         StringBuilder programBuilder = new StringBuilder();
 
-        programBuilder.append("start-program ").append(this.name).append('\n');
-        programBuilder.append("\tstatic-int-list: ").append(varsListToString(intList)).append("\n");
-        programBuilder.append("\tstatic-float-list: ").append(varsListToString(floatList)).append("\n");
-
+        appendHeader(programBuilder);
         for (IRFunction function : functionList) {
             programBuilder.append('\n');
-            programBuilder.append(function.toString());
+            function.appendTo(programBuilder);
         }
-
-        programBuilder.append("\nend-program ").append(this.name);
+        appendEnd(programBuilder);
 
         return programBuilder.toString();
     }
 }
 
 class IRFunction extends IRScope {
+    public final int id;
     private final String name;
-    private final List<Map.Entry<String, String>> paramList;
-    private final String returnType;
+    private final IRProgram program;
+    private final IntList paramList;
+    public final Type returnType;
 
-    private final List<Map.Entry<String, Integer>> intList;
-    private final List<Map.Entry<String, Integer>> floatList;
-    private final List<String> commandList;
+    public final List<Instruction> instructions;
+    private final List<String> constants;
+    private final Map<String, Integer> constantIndex;
 
     private int temp_count;
+    private int label_count;
 
-    public IRFunction(String name, Type returnType) {
-        this.name = name;
-        this.returnType = returnType.getBaseType();
-        this.paramList = new ArrayList<>();
+    public IRFunction(int name, Type returnType, IRProgram program) {
+        this.id = name;
+        this.name = Identifiers.name(name);
+        this.program = program;
+        this.returnType = returnType;
+        this.paramList = new IntList();
 
-        intList = new ArrayList<>();
-        floatList = new ArrayList<>();
-        commandList = new ArrayList<>();
+        instructions = new ArrayList<>();
+        constants = new ArrayList<>();
+        constantIndex = new HashMap<>();
 
         temp_count = 0;
+        label_count = 0;
     }
 
     @Override
-    public void addInt(String intVar, int arrSize) {
-        intList.add(new AbstractMap.SimpleEntry<>(intVar, arrSize));
+    protected int kind() {
+        return Operand.LOCAL;
     }
 
+    // locals must not hide the static variables in the text
     @Override
-    public void addFloat(String floatVar, int arrSize) {
-        floatList.add(new AbstractMap.SimpleEntry<>(floatVar, arrSize));
+    protected boolean isTaken(String name) {
+        return program.hasVariable(name);
     }
 
-    public void addParam(String paramName, Type paramType) {
-        String type = paramType.getBaseType();
-        paramList.add(new AbstractMap.SimpleEntry<>(paramName, type));
+    public String getName() {
+        return name;
+    }
 
-        List<Map.Entry<String, Integer>> varList = (type.equals("int")) ? intList : floatList;
-        varList.add(new AbstractMap.SimpleEntry<>(paramName, 0));
+    public IRProgram getProgram() {
+        return program;
     }
 
-    public void addCommand(Command command, String... args) {
-        StringBuilder commandBuilder = new StringBuilder();
+    public int addParam(int paramName, Type paramType) {
+        int operand = addVariable(Identifiers.name(paramName), paramType.getKind() == Type.Kind.FLOAT, 0);
+        paramList.add(operand);
+        return operand;
+    }
 
-//        switch (command) {
-//            case ASSIGN:
-//                String secondArg = args[1];
-//                if (args[1] == "temp") secondArg = "_t" + temp_count;
-//                commandBuilder.append("assign ").append(args[0]).append(secondArg);
-//                break;
-//        }
+    public IntList getParams() {
+        return paramList;
+    }
 
-        commandList.add(commandBuilder.toString());
+    public int newTemp(boolean isFloat) {
+        return addVariable("_t" + temp_count++, isFloat, 0);
     }
 
-    @Override
-    public String toString() {
-        StringBuilder funcBuilder = new StringBuilder();
+    public int newLabel() {
+        return label_count++;
+    }
 
+    public int numLabels() {
+        return label_count;
+    }
+
+    public int constant(boolean isFloat, String text) {
+        Integer index = constantIndex.get(text);
+        if (index == null) {
+            index = constants.size();
+            constants.add(text);
+            constantIndex.put(text, index);
+        }
+        return Operand.of(isFloat ? Operand.FLOAT_CONST : Operand.INT_CONST, index);
+    }
+
+    public String constantText(int operand) {
+        return constants.get(Operand.index(operand));
+    }
+
+    public boolean isFloat(int operand) {
+        switch (Operand.kind(operand)) {
+            case Operand.LOCAL:
+                return isFloatVar(Operand.index(operand));
+            case Operand.GLOBAL:
+                return program.isFloatVar(Operand.index(operand));
+            case Operand.FLOAT_CONST:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public String operandToString(int operand) {
+        int index = Operand.index(operand);
+        switch (Operand.kind(operand)) {
+            case Operand.LOCAL:
+                return varName(index);
+            case Operand.GLOBAL:
+                return program.varName(index);
+            case Operand.INT_CONST:
+            case Operand.FLOAT_CONST:
+                return constants.get(index);
+            case Operand.LABEL:
+                return "_L" + index;
+            case Operand.FUNCTION:
+                return Identifiers.name(index);
+            default:
+                throw new IllegalArgumentException("bad operand " + operand);
+        }
+    }
+
+    public void appendInstruction(StringBuilder builder, Instruction instruction) {
+        if (instruction.opcode == Opcode.LABEL) {
+            builder.append('\t').append(operandToString(instruction.operands[0])).append(":\n");
+            return;
+        }
+        builder.append("\t\t").append(instruction.opcode.text);
+        for (int operand : instruction.operands)
+            builder.append(", ").append(operandToString(operand));
+        builder.append('\n');
+    }
+
+    public void appendTo(StringBuilder funcBuilder) {
         funcBuilder.append("start-function ").append(this.name).append('\n');
-        funcBuilder.append("\t").append(returnType).append(" ").append(name).
+        funcBuilder.append("\t").append(returnType.getBaseType()).append(" ").append(name).
                     append(" (").append(paramListToString()).append(")\n");
-        funcBuilder.append("\tstatic-int-list: ").append(varsListToString(intList)).append("\n");
-        funcBuilder.append("\tstatic-float-list: ").append(varsListToString(floatList)).append("\n");
+        funcBuilder.append("\tstatic-int-list: ").append(varsListToString(false)).append("\n");
+        funcBuilder.append("\tstatic-float-list: ").append(varsListToString(true)).append("\n");
         funcBuilder.append("\t").append(name).append(":\n");
 
-        for (String command : commandList)
-            funcBuilder.append(command);
+        for (Instruction instruction : instructions)
+            appendInstruction(funcBuilder, instruction);
 
-        funcBuilder.append("end-function ").append(this.name);
+        funcBuilder.append("end-function ").append(this.name).append('\n');
+    }
 
+    @Override
+    public String toString() {
+        StringBuilder funcBuilder = new StringBuilder();
+        appendTo(funcBuilder);
         return funcBuilder.toString();
     }
 
@@ -186,8 +841,9 @@ class IRFunction extends IRScope {
 
         for (int i = 0; i < paramList.size(); i++) {
             if (i != 0) listBuilder.append(", ");
-            listBuilder.append(paramList.get(i).getValue()); // type
-            listBuilder.append(paramList.get(i).getKey()); // var name
+            int index = Operand.index(paramList.get(i));
+            listBuilder.append(isFloatVar(index) ? "float" : "int").append(' '); // type
+            listBuilder.append(varName(index)); // var name
         }
 
         return listBuilder.toString();
@@ -0,0 +1,81 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes the IR of a program one function at a time, as the generator completes them, so only the
+ * function being generated is held in memory. The text of a function is assembled in a reused
+ * builder and copied as ASCII bytes to a large buffer that goes to the file channel when full.
+ */
+public class IRWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final StringBuilder text = new StringBuilder();
+
+    public IRWriter(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    public void writeHeader(IRProgram program) {
+        program.appendHeader(text);
+        flushText();
+    }
+
+    public void writeFunction(IRFunction function) {
+        text.append('\n');
+        function.appendTo(text);
+        flushText();
+    }
+
+    /**
+     * Writes a function formatted by {@link IRFunction#appendTo} earlier.
+     */
+    public void writeFunction(String function) {
+        text.append('\n').append(function);
+        flushText();
+    }
+
+    public void writeEnd(IRProgram program) {
+        program.appendEnd(text);
+        text.append('\n');
+        flushText();
+    }
+
+    // identifiers and numbers are ASCII, so every char is one byte
+    private void flushText() {
+        try {
+            for (int i = 0; i < text.length(); ++i) {
+                if (!buffer.hasRemaining())
+                    drain();
+                buffer.put((byte) text.charAt(i));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        text.setLength(0);
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            drain();
+        } finally {
+            channel.close();
+        }
+    }
+}
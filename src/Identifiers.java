@@ -0,0 +1,101 @@
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process wide intern table of identifiers. Every distinct name gets a small dense int id once, when
+ * the lexer produces it; from then on the compiler compares and indexes ids instead of hashing and
+ * comparing strings. Ids are never reused, so they are stable across units compiled in one JVM.
+ */
+public final class Identifiers {
+    private static final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[256];
+    private static int count = 0;
+
+    private Identifiers() {
+    }
+
+    public static int intern(String name) {
+        Integer id = ids.get(name);
+        if (id != null)
+            return id;
+        synchronized (Identifiers.class) {
+            id = ids.get(name);
+            if (id != null)
+                return id;
+            if (count == names.length)
+                names = Arrays.copyOf(names, count * 2);
+            names[count] = name;
+            // publish the name before the id, so that whoever sees the id also sees the name
+            ids.put(name, count);
+            return count++;
+        }
+    }
+
+    /**
+     * Returns the id of an already interned name, or -1.
+     */
+    public static int lookup(String name) {
+        Integer id = ids.get(name);
+        return id == null ? -1 : id;
+    }
+
+    public static String name(int id) {
+        return names[id];
+    }
+
+    /**
+     * Upper bound of all ids handed out so far.
+     */
+    public static int size() {
+        return names.length;
+    }
+
+    /**
+     * Id of an ID token; tokens made by {@link IdentifierTokenFactory} carry it already.
+     */
+    public static int of(Token token) {
+        if (token instanceof IdentifierToken)
+            return ((IdentifierToken) token).identifier;
+        return intern(token.getText());
+    }
+}
+
+class IdentifierToken extends CommonToken {
+    private static final long serialVersionUID = 1L;
+
+    public final int identifier;
+
+    public IdentifierToken(Pair<TokenSource, CharStream> source, int type, int channel, int start, int stop, int identifier) {
+        super(source, type, channel, start, stop);
+        this.identifier = identifier;
+        // the canonical instance, so token texts of one name share a single string
+        setText(Identifiers.name(identifier));
+    }
+}
+
+/**
+ * Creates {@link IdentifierToken}s for ID tokens, interning their text as they are lexed.
+ */
+class IdentifierTokenFactory extends CommonTokenFactory {
+    public static final IdentifierTokenFactory DEFAULT = new IdentifierTokenFactory();
+
+    @Override
+    public CommonToken create(Pair<TokenSource, CharStream> source, int type, String text, int channel,
+                              int start, int stop, int line, int charPositionInLine) {
+        if (type != TigerLexer.ID || text != null)
+            return super.create(source, type, text, channel, start, stop, line, charPositionInLine);
+        int identifier = Identifiers.intern(source.b.getText(Interval.of(start, stop)));
+        IdentifierToken token = new IdentifierToken(source, type, channel, start, stop, identifier);
+        token.setLine(line);
+        token.setCharPositionInLine(charPositionInLine);
+        return token;
+    }
+}
@@ -0,0 +1,193 @@
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map from non-negative int keys to values, without boxing the keys.
+ */
+public class IntMap<V> {
+    private static final int EMPTY = -1;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+    // 32 - log2(keys.length): the hash keeps the top bits of the product, which mix all key bits
+    private int shift;
+
+    public IntMap() {
+        this(8);
+    }
+
+    public IntMap(int capacity) {
+        int slots = Integer.highestOneBit(Math.max(4, capacity) * 2 - 1) * 2;
+        keys = new int[slots];
+        Arrays.fill(keys, EMPTY);
+        values = new Object[slots];
+        shift = Integer.numberOfLeadingZeros(slots) + 1;
+    }
+
+    private int slot(int key) {
+        int mask = keys.length - 1;
+        int i = (key * 0x9E3779B9) >>> shift;
+        while (keys[i] != EMPTY && keys[i] != key)
+            i = (i + 1) & mask;
+        return i;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int i = slot(key);
+        return keys[i] == EMPTY ? null : (V) values[i];
+    }
+
+    public boolean containsKey(int key) {
+        return keys[slot(key)] != EMPTY;
+    }
+
+    public void put(int key, V value) {
+        int i = slot(key);
+        if (keys[i] == EMPTY) {
+            if ((size + 1) * 4 > keys.length * 3) {
+                grow();
+                i = slot(key);
+            }
+            keys[i] = key;
+            size++;
+        }
+        values[i] = value;
+    }
+
+    public void remove(int key) {
+        int mask = keys.length - 1;
+        int i = slot(key);
+        if (keys[i] == EMPTY)
+            return;
+        keys[i] = EMPTY;
+        values[i] = null;
+        size--;
+        // re-insert the rest of the probe run, so that no later key becomes unreachable
+        for (int j = (i + 1) & mask; keys[j] != EMPTY; j = (j + 1) & mask) {
+            int key2 = keys[j];
+            Object value = values[j];
+            keys[j] = EMPTY;
+            values[j] = null;
+            int k = slot(key2);
+            keys[k] = key2;
+            values[k] = value;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        values = new Object[oldKeys.length * 2];
+        shift--;
+        for (int i = 0; i < oldKeys.length; ++i) {
+            if (oldKeys[i] != EMPTY) {
+                int j = slot(oldKeys[i]);
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+}
+
+/**
+ * Growable list of ints, without boxing.
+ */
+class IntList {
+    private int[] items;
+    private int size;
+
+    public IntList() {
+        this(8);
+    }
+
+    public IntList(int capacity) {
+        items = new int[Math.max(1, capacity)];
+    }
+
+    public void add(int value) {
+        if (size == items.length)
+            items = Arrays.copyOf(items, size * 2);
+        items[size++] = value;
+    }
+
+    /**
+     * Inserts the value before position {@code index}, which may be the size.
+     */
+    public void insert(int index, int value) {
+        if (index > size)
+            throw new IndexOutOfBoundsException(index);
+        if (size == items.length)
+            items = Arrays.copyOf(items, size * 2);
+        System.arraycopy(items, index, items, index + 1, size - index);
+        items[index] = value;
+        size++;
+    }
+
+    public int get(int index) {
+        if (index >= size)
+            throw new IndexOutOfBoundsException(index);
+        return items[index];
+    }
+
+    public void set(int index, int value) {
+        if (index >= size)
+            throw new IndexOutOfBoundsException(index);
+        items[index] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int removeLast() {
+        return items[--size];
+    }
+
+    public int last() {
+        return items[size - 1];
+    }
+
+    public int indexOf(int value) {
+        for (int i = 0; i < size; ++i) {
+            if (items[i] == value)
+                return i;
+        }
+        return -1;
+    }
+
+    public void remove(int index) {
+        if (index >= size)
+            throw new IndexOutOfBoundsException(index);
+        System.arraycopy(items, index + 1, items, index, size - index - 1);
+        size--;
+    }
+
+    public void removeValue(int value) {
+        for (int i = 0; i < size; ++i) {
+            if (items[i] == value) {
+                System.arraycopy(items, i + 1, items, i, size - i - 1);
+                size--;
+                return;
+            }
+        }
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(items, size);
+    }
+}
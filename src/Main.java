@@ -1,90 +1,349 @@
 import org.antlr.v4.runtime.*;
 import org.antlr.v4.runtime.atn.ATNConfigSet;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.*;
 
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileWriter;
 import java.io.FilenameFilter;
 import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 
 public class Main {
 
-    public static File[] getTigerFiles(String path) throws Exception {
+    public static File[] getTigerFiles(String path) throws IOException {
         File folder = new File(path);
-        return folder.listFiles(new FilenameFilter() {
+        File[] files = folder.listFiles(new FilenameFilter() {
             @Override
             public boolean accept(File dir, String name) {
                 return name.endsWith(".tiger");
             }
         });
+        if (files == null)
+            throw new IOException("cannot list directory " + path);
+        Arrays.sort(files);
+        return files;
     }
 
-    public static void compile(File file, boolean build_graphviz, boolean write_tokens, boolean build_ir, boolean save_symbol_table) throws IOException {
-        CharStream codePointCharStream = CharStreams.fromPath(Path.of(file.getAbsolutePath()));
-        TigerLexer lexer = new TigerLexer(codePointCharStream);
-        lexer.addErrorListener(new ErrorHandler(Error.LEXICAL_ERROR));
-        TigerParser parser = new TigerParser(new CommonTokenStream(lexer));
-        parser.addErrorListener(new ErrorHandler(Error.SYNTAX_ERROR));
-        ParseTree tree = parser.tiger_program();
-        ParseTreeWalker walker = new ParseTreeWalker();
-
-        File folder = file.getParentFile();
+    public static Diagnostics compile(File file, CompileOptions options) throws IOException {
+        Diagnostics diagnostics = new Diagnostics();
+        CompileStats stats = new CompileStats(options.collect_stats);
+        File folder = file.getAbsoluteFile().getParentFile();
         String name = file.getName();
         name = name.substring(0, name.lastIndexOf("tiger"));
-        SemanticChecking semanticChecking = new SemanticChecking(save_symbol_table, Path.of(folder.getAbsolutePath(), name + "st"));
-        walker.walk(semanticChecking, tree);
-        if(write_tokens) {
-            walker.walk(new TokensLogger(Path.of(folder.getAbsolutePath(), name + "tokens").toString(),
-                    lexer.getVocabulary()), tree);
-        }
-        if(build_graphviz){
-            GraphVizBuilder builder = new GraphVizBuilder();
-            builder.startDigraph();
-            ParseTreeToGraphViz converter = new ParseTreeToGraphViz(builder);
-            walker.walk(converter, tree);
+        try {
+            if (options.cache_dir == null)
+                compile(file, folder, name, options, diagnostics, stats, new ArrayList<>());
+            else
+                compileCached(new CompileCache(Path.of(options.cache_dir), options.cache_limit), file, folder, name,
+                        options, diagnostics, stats);
+        } finally {
+            stats.stop();
+            if (stats.isEnabled())
+                stats.toFile(Path.of(folder.getAbsolutePath(), name + "stats.json").toString(), file.getPath());
+        }
+        return diagnostics;
+    }
+
+    // a hit restores the outputs and the diagnostics of an earlier compile of the same source
+    private static void compileCached(CompileCache cache, File file, File folder, String name, CompileOptions options,
+                                      Diagnostics diagnostics, CompileStats stats) throws IOException {
+        stats.start("cache");
+        String key = cache.key(Path.of(file.getAbsolutePath()), options);
+        CompileCache.Entry entry = cache.get(key);
+        if (entry != null) {
+            stats.count("cacheHits", 1);
+            for (Map.Entry<String, byte[]> output : entry.outputs.entrySet())
+                Files.write(Path.of(folder.getAbsolutePath(), name + output.getKey()), output.getValue());
+            // like the compile it replays, a hit without IR leaves no .ir behind
+            if (options.build_ir && !entry.outputs.containsKey("ir"))
+                Files.deleteIfExists(Path.of(folder.getAbsolutePath(), name + "ir"));
+            for (Diagnostic diagnostic : entry.diagnostics)
+                diagnostics.add(diagnostic);
+            return;
+        }
+        stats.count("cacheHits", 0);
+        List<Path> outputs = new ArrayList<>();
+        compile(file, folder, name, options, diagnostics, stats, outputs);
+        Map<String, byte[]> contents = new LinkedHashMap<>();
+        for (Path output : outputs)
+            contents.put(output.getFileName().toString().substring(name.length()), Files.readAllBytes(output));
+        cache.put(key, new CompileCache.Entry(diagnostics.getDiagnostics(), contents));
+    }
+
+    // every output file written is added to outputs
+    private static void compile(File file, File folder, String name, CompileOptions options,
+                                Diagnostics diagnostics, CompileStats stats, List<Path> outputs) throws IOException {
+        stats.start("lex");
+        CharStream charStream = MappedCharStream.fromPath(Path.of(file.getAbsolutePath()));
+        TigerLexer lexer = new TigerLexer(charStream);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(new ErrorHandler(Error.LEXICAL_ERROR, diagnostics));
+        String tokens_path = Path.of(folder.getAbsolutePath(), name + "tokens").toString();
+        if (options.lex_only) {
+            outputs.add(Path.of(tokens_path));
+            try (TokensLogger logger = new TokensLogger(tokens_path, lexer.getVocabulary())) {
+                stats.count("tokens", logger.logAll(lexer));
+            }
+            return;
+        }
+        lexer.setTokenFactory(IdentifierTokenFactory.DEFAULT);
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        tokens.fill();
+        stats.count("tokens", tokens.size() - 1); // without EOF
+
+        stats.start("parse");
+        TigerParser parser = new TigerParser(tokens);
+        long start = System.nanoTime();
+        ParseTree tree = parse(parser, tokens, options.prediction_mode, diagnostics);
+        if (options.print_time) {
+            options.time_output.println(file.getPath() + ": parse " + parser.getInterpreter().getPredictionMode()
+                    + " " + (System.nanoTime() - start) / 1000 + " us");
+        }
+        stats.stop();
+        if (stats.isEnabled())
+            stats.count("parseTreeNodes", countNodes(tree));
+        if (diagnostics.hasErrors())
+            return;
+        if(options.write_tokens) {
+            // the terminals of the tree are the buffered tokens up to the last one the parser consumed
+            stats.start("tokens");
+            outputs.add(Path.of(tokens_path));
+            try (TokensLogger logger = new TokensLogger(tokens_path, lexer.getVocabulary())) {
+                logger.log(tokens.getTokens(), ((ParserRuleContext) tree).getStop().getTokenIndex());
+            }
+        }
+        // the passes share one traversal; the walker is iterative because long statement and
+        // function lists make the tree too deep for a recursive walk
+        MultiplexListener passes = new MultiplexListener();
+        GraphVizBuilder builder = null;
+        GraphVizBuilder cfgBuilder = options.build_cfg ? new GraphVizBuilder() : null;
+        // the control flow graphs are built from the IR
+        boolean lower = options.build_ir || options.build_cfg;
+        long scopePushes, symbolLookups;
+        Path ir_path = Path.of(folder.getAbsolutePath(), name + "ir");
+        Path table_path = Path.of(folder.getAbsolutePath(), name + "st");
+        if (options.save_symbol_table)
+            outputs.add(table_path);
+        if (options.build_ir)
+            outputs.add(ir_path);
+        // the symbol table and the IR go to their files as they are built, there is no dump when
+        // it is not asked for
+        try (Writer table = options.save_symbol_table ? new BufferedWriter(new FileWriter(table_path.toString())) : null;
+             IRWriter ir = options.build_ir ? new IRWriter(ir_path) : null) {
+            // incremental compiles check function by function like the parallel checker does
+            boolean by_function = options.parallel_functions || options.incremental;
+            SemanticChecking semanticChecking = null;
+            Optimizer optimizer = options.optimization_level > 0 ? new Optimizer(options.optimization_level) : null;
+            if (!by_function) {
+                semanticChecking = new SemanticChecking(table, lower, diagnostics);
+                semanticChecking.getIRGenerator().setWriter(ir);
+                semanticChecking.getIRGenerator().setGraphViz(cfgBuilder);
+                semanticChecking.getIRGenerator().setOptimizer(optimizer);
+                passes.add(semanticChecking);
+            }
+            if (cfgBuilder != null)
+                cfgBuilder.startDigraph();
+            if(options.build_graphviz){
+                builder = new GraphVizBuilder();
+                builder.startDigraph();
+                passes.add(new ParseTreeToGraphViz(builder));
+            }
+            stats.start("walk");
+            if (!passes.isEmpty())
+                new IterativeParseTreeWalker().walk(passes, tree);
+            if (by_function) {
+                ParallelChecking parallelChecking = new ParallelChecking(table, lower, diagnostics);
+                parallelChecking.setWriter(ir);
+                parallelChecking.setGraphViz(cfgBuilder);
+                parallelChecking.setOptimizationLevel(options.optimization_level);
+                parallelChecking.setThreads(options.threads);
+                parallelChecking.setStats(stats);
+                Path cache_path = Path.of(folder.getAbsolutePath(), name + "cache");
+                FunctionCache cache = options.incremental ? FunctionCache.load(cache_path) : null;
+                parallelChecking.setCache(cache);
+                parallelChecking.check((TigerParser.Tiger_programContext) tree);
+                if (cache != null) {
+                    cache.save(cache_path);
+                    stats.count("reusedFunctions", parallelChecking.getReusedFunctions());
+                }
+                scopePushes = parallelChecking.getScopePushes();
+                symbolLookups = parallelChecking.getSymbolLookups();
+                if (optimizer != null) {
+                    stats.count("eliminatedInstructions", parallelChecking.getEliminatedInstructions());
+                    stats.count("hoistedInstructions", parallelChecking.getHoistedInstructions());
+                    stats.count("reducedMultiplications", parallelChecking.getReducedMultiplications());
+                }
+            } else {
+                scopePushes = semanticChecking.getSymbolTable().getScopePushes();
+                symbolLookups = semanticChecking.getSymbolTable().getSymbolLookups();
+                if (optimizer != null) {
+                    stats.count("eliminatedInstructions", optimizer.getEliminatedInstructions());
+                    stats.count("hoistedInstructions", optimizer.getHoistedInstructions());
+                    stats.count("reducedMultiplications", optimizer.getReducedMultiplications());
+                }
+            }
+            stats.start("output");
+        }
+        stats.count("scopePushes", scopePushes);
+        stats.count("symbolLookups", symbolLookups);
+        // functions written before a later semantic error are not a valid program
+        if(options.build_ir && diagnostics.hasErrors()) {
+            Files.deleteIfExists(ir_path);
+            outputs.remove(ir_path);
+        }
+        if(builder != null){
             builder.endDigraph();
-            builder.toFile(Path.of(folder.getAbsolutePath(), name + "gv").toString());
+            Path gv_path = Path.of(folder.getAbsolutePath(), name + "gv");
+            builder.toFile(gv_path.toString());
+            outputs.add(gv_path);
         }
-        if(semanticChecking.semanticErrorOccurred()){
-            System.exit(Error.SEMANTIC_ERROR.getValue());
+        if (cfgBuilder != null && !diagnostics.hasErrors()) {
+            cfgBuilder.endDigraph();
+            Path cfg_path = Path.of(folder.getAbsolutePath(), name + "cfg.gv");
+            cfgBuilder.toFile(cfg_path.toString());
+            outputs.add(cfg_path);
         }
     }
 
-    public static void main(String[] args) throws IOException {
-        String source_path = null;
-        boolean write_tokens = false;
-        boolean build_graphviz = false;
-        boolean save_symbol_table = false;
-        boolean build_ir = false;
-        for(int i = 0; i < args.length; ++i){
-            if(args[i].equals("-i")){
-                source_path = args[i + 1];
+    // iterative, parse trees of long statement lists are too deep for recursion
+    private static long countNodes(ParseTree tree) {
+        long count = 0;
+        ArrayDeque<ParseTree> stack = new ArrayDeque<>();
+        stack.push(tree);
+        while (!stack.isEmpty()) {
+            ParseTree node = stack.pop();
+            count++;
+            for (int i = 0; i < node.getChildCount(); ++i)
+                stack.push(node.getChild(i));
+        }
+        return count;
+    }
+
+    /**
+     * Parses with the fast SLL prediction first and with full LL only when SLL fails. SLL reports
+     * no false positives, so a successful SLL parse is the same tree full LL would build; on a failure
+     * the input is rewound and parsed again with full LL and normal error recovery and reporting.
+     * When {@code mode} is not null that single prediction mode is used instead.
+     */
+    public static ParseTree parse(TigerParser parser, CommonTokenStream tokens, PredictionMode mode, Diagnostics diagnostics) {
+        if (mode == null) {
+            parser.removeErrorListeners();
+            parser.setErrorHandler(new BailErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            try {
+                return parser.tiger_program();
+            } catch (ParseCancellationException e) {
+                tokens.seek(0);
+                parser.reset();
+                parser.setErrorHandler(new DefaultErrorStrategy());
             }
-            else if(args[i].equals("-l")){
-                write_tokens = true;
+            mode = PredictionMode.LL;
+        }
+        parser.removeErrorListeners();
+        parser.addErrorListener(new ErrorHandler(Error.SYNTAX_ERROR, diagnostics));
+        parser.getInterpreter().setPredictionMode(mode);
+        return parser.tiger_program();
+    }
+
+    /**
+     * Like {@link #compile} but never throws: failures that are not compile errors are recorded
+     * in the returned diagnostics, so one broken unit cannot take down a whole batch.
+     */
+    public static Diagnostics compileSafely(File file, CompileOptions options) {
+        try {
+            return compile(file, options);
+        } catch (IOException e) {
+            Diagnostics diagnostics = new Diagnostics();
+            diagnostics.add(Error.ARGUMENT_ERROR, e.toString());
+            return diagnostics;
+        } catch (RuntimeException e) {
+            Diagnostics diagnostics = new Diagnostics();
+            diagnostics.add(Error.INTERNAL_ERROR, "internal compiler error: " + e);
+            return diagnostics;
+        }
+    }
+
+    /**
+     * Compiles every .tiger file of the directory inside this JVM on a work-stealing pool.
+     * A failing file does not stop the others; the status of each file is printed in directory order
+     * and the most severe status (see {@link #severity}) becomes the result.
+     */
+    public static Error compileAll(File[] files, CompileOptions options, PrintStream out, PrintStream err) {
+        ForkJoinPool pool = new ForkJoinPool(options.threads);
+        try {
+            List<ForkJoinTask<Diagnostics>> tasks = new ArrayList<>(files.length);
+            for (File f : files) {
+                tasks.add(pool.submit(() -> compileSafely(f, options)));
             }
-            if(args[i].equals("-p")){
-                build_graphviz = true;
+            Error result = Error.NO_ERROR;
+            for (int i = 0; i < files.length; ++i) {
+                Diagnostics diagnostics = tasks.get(i).join();
+                Error status = diagnostics.getStatus();
+                diagnostics.print(err, files[i].getPath() + ": ");
+                out.println(files[i].getPath() + ": " + status);
+                if (severity(status) > severity(result))
+                    result = status;
             }
-            if (args[i].equals("-st")){
-                save_symbol_table = true;
+            return result;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // a unit that could not be read at all ranks above one with errors in it, so an unreadable file
+    // is not hidden behind the compile errors of the rest of the batch; internal errors rank highest
+    private static int severity(Error status) {
+        switch (status) {
+            case ARGUMENT_ERROR:
+                return Error.SEMANTIC_ERROR.getValue() + 1;
+            case INTERNAL_ERROR:
+                return Error.SEMANTIC_ERROR.getValue() + 2;
+            default:
+                return status.getValue();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        for(int i = 0; i < args.length; ++i){
+            if(args[i].equals("-daemon")){
+                new CompileServer().serve(System.in, System.out);
+                System.exit(Error.NO_ERROR.getValue());
             }
-            if(args[i].equals("-ir")){
-                build_ir = true;
+            if(args[i].equals("-socket") && i + 1 < args.length){
+                new CompileServer().listen(Path.of(args[i + 1]));
+                System.exit(Error.NO_ERROR.getValue());
             }
         }
-        if (source_path == null){
+        CompileOptions options = CompileOptions.parse(args);
+        if (!options.isValid()){
             System.exit(Error.ARGUMENT_ERROR.getValue());
         }
-        File file = new File(source_path);
-        compile(file, build_graphviz, write_tokens, build_ir, save_symbol_table);
-//        File[] files = getTigerFiles(source_path);
-//        for(File f: files){
-//            compile(f, build_graphviz, write_tokens);
-//        }
+        File file = new File(options.source_path);
+        Error result;
+        if (file.isDirectory()) {
+            result = compileAll(getTigerFiles(options.source_path), options, System.out, System.err);
+        } else {
+            Diagnostics diagnostics = compile(file, options);
+            diagnostics.print(System.err, "");
+            result = diagnostics.getStatus();
+        }
 
-        System.exit(Error.NO_ERROR.getValue());
+        System.exit(result.getValue());
     }
 }
@@ -0,0 +1,136 @@
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A character stream that reads an ASCII source file straight from a memory mapping. Unlike
+ * {@link CharStreams#fromPath(Path)} nothing is decoded or copied up front, the lexer reads one byte
+ * per character from the page cache. Files with non-ASCII bytes or too large to map in one piece
+ * are read by {@link #fromPath(Path)} with the usual UTF-8 decoding instead.
+ */
+public class MappedCharStream implements CharStream {
+    private final ByteBuffer data;
+    private final int size;
+    private final String name;
+    private int position = 0;
+
+    private MappedCharStream(ByteBuffer data, String name) {
+        this.data = data;
+        this.size = data.limit();
+        this.name = name;
+    }
+
+    public static CharStream fromPath(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE)
+                return CharStreams.fromPath(path);
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            if (!isAscii(data))
+                return CharStreams.fromPath(path);
+            return new MappedCharStream(data, path.toString());
+        }
+    }
+
+    private static boolean isAscii(ByteBuffer data) {
+        int limit = data.limit();
+        int i = 0;
+        for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+            if ((data.getLong(i) & 0x8080808080808080L) != 0)
+                return false;
+        }
+        for (; i < limit; ++i) {
+            if (data.get(i) < 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Copies the characters start..stop (inclusive) into {@code target} as ASCII bytes, which must
+     * have room for them.
+     */
+    public void copy(int start, int stop, ByteBuffer target) {
+        int length = stop - start + 1;
+        target.put(target.position(), data, start, length);
+        target.position(target.position() + length);
+    }
+
+    @Override
+    public void consume() {
+        if (position >= size)
+            throw new IllegalStateException("cannot consume EOF");
+        position++;
+    }
+
+    @Override
+    public int LA(int i) {
+        int offset;
+        if (i > 0) {
+            offset = position + i - 1;
+            if (offset >= size)
+                return IntStream.EOF;
+        } else if (i < 0) {
+            offset = position + i;
+            if (offset < 0)
+                return IntStream.EOF;
+        } else {
+            return 0; // undefined
+        }
+        return data.get(offset);
+    }
+
+    @Override
+    public int mark() {
+        return -1;
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public int index() {
+        return position;
+    }
+
+    @Override
+    public void seek(int index) {
+        position = index;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getSourceName() {
+        return name;
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        int start = Math.min(interval.a, size);
+        int length = Math.min(interval.b - interval.a + 1, size - start);
+        if (length <= 0)
+            return "";
+        byte[] bytes = new byte[length];
+        data.get(start, bytes, 0, length);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public String toString() {
+        return getText(Interval.of(0, size - 1));
+    }
+}
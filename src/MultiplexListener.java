@@ -0,0 +1,59 @@
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Forwards one walk of the parse tree to several listeners, so that all passes share a single
+ * traversal. Every event reaches the listeners in the order they were added, and each listener
+ * sees exactly the events, in exactly the order, a walk of its own would have produced.
+ */
+public class MultiplexListener implements ParseTreeListener {
+    private final List<ParseTreeListener> listeners;
+
+    public MultiplexListener() {
+        listeners = new ArrayList<>();
+    }
+
+    public void add(ParseTreeListener listener) {
+        listeners.add(listener);
+    }
+
+    public boolean isEmpty() {
+        return listeners.isEmpty();
+    }
+
+    @Override
+    public void enterEveryRule(ParserRuleContext ctx) {
+        // the walker only dispatches the rule specific methods to TigerListeners, which this is not
+        for (ParseTreeListener listener : listeners) {
+            listener.enterEveryRule(ctx);
+            ctx.enterRule(listener);
+        }
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+        for (ParseTreeListener listener : listeners) {
+            ctx.exitRule(listener);
+            listener.exitEveryRule(ctx);
+        }
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {
+        for (ParseTreeListener listener : listeners) {
+            listener.visitTerminal(node);
+        }
+    }
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {
+        for (ParseTreeListener listener : listeners) {
+            listener.visitErrorNode(node);
+        }
+    }
+}
@@ -0,0 +1,1210 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Optimizes the IR of a function in SSA form (see {@link SSAFunction}) before it is written. -O1
+ * propagates copies, removes computations repeated within a block and removes dead code, -O2 also
+ * propagates constants and folds branches on them (sparse conditional constant propagation),
+ * removes computations repeated anywhere they are dominated by the first one, moves loop invariant
+ * computations out of loops and turns multiplications of induction variables into additions. Level
+ * 0 leaves the IR as generated.
+ */
+public class Optimizer {
+    private final int level;
+    private long eliminatedInstructions = 0;
+    private long hoistedInstructions = 0;
+    private long reducedMultiplications = 0;
+
+    public Optimizer(int level) {
+        this.level = level;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Instructions value numbering found redundant, in all functions optimized so far.
+     */
+    public long getEliminatedInstructions() {
+        return eliminatedInstructions;
+    }
+
+    /**
+     * Instructions moved out of loops, in all functions optimized so far.
+     */
+    public long getHoistedInstructions() {
+        return hoistedInstructions;
+    }
+
+    /**
+     * Multiplications of induction variables replaced by additions, in all functions optimized so far.
+     */
+    public long getReducedMultiplications() {
+        return reducedMultiplications;
+    }
+
+    public void optimize(IRFunction function) {
+        if (level <= 0)
+            return;
+        SSAFunction ssa = new SSAFunction(function);
+        if (level >= 2)
+            new ConstantPropagation(ssa).run();
+        CopyPropagation.run(ssa);
+        eliminatedInstructions += new ValueNumbering(ssa, level >= 2).run();
+        if (level >= 2) {
+            LoopOptimization loops = new LoopOptimization(ssa);
+            loops.run();
+            hoistedInstructions += loops.getHoisted();
+            reducedMultiplications += loops.getReduced();
+        }
+        DeadCodeElimination.run(ssa);
+        ssa.toIR();
+    }
+}
+
+/**
+ * Sparse conditional constant propagation (Wegman and Zadeck): values are unknown until proven
+ * constant or varying, and only blocks reachable over edges that can be taken count. Integer
+ * arithmetic is folded with 32 bit wraparound and truncating division; float arithmetic is not
+ * folded, only float constants and converted integer constants are propagated. Uses of constant
+ * values become the constants, branches decided by constants become jumps, and blocks that cannot be
+ * reached are removed.
+ */
+class ConstantPropagation {
+    private static final byte UNKNOWN = 0, CONSTANT = 1, VARYING = 2;
+    private static final int ALWAYS = 1, NEVER = 2;
+
+    private final SSAFunction ssa;
+    private final IRFunction function;
+    private final byte[] states;
+    private final int[] constants;
+    private final boolean[] reached;
+    // per block, whether the edge from each predecessor can be taken
+    private final boolean[][] executable;
+    private final SSAFunction.Users users;
+    private final IntList edgeWork = new IntList();
+    private final IntList valueWork = new IntList();
+
+    ConstantPropagation(SSAFunction ssa) {
+        this.ssa = ssa;
+        function = ssa.function;
+        states = new byte[ssa.numValues()];
+        constants = new int[ssa.numValues()];
+        reached = new boolean[ssa.numBlocks];
+        executable = new boolean[ssa.numBlocks][];
+        for (int b = 0; b < ssa.numBlocks; ++b)
+            executable[b] = new boolean[ssa.predecessors[b].size()];
+        users = ssa.users();
+    }
+
+    /**
+     * Returns whether the function changed.
+     */
+    boolean run() {
+        for (int v = 0; v < ssa.numValues(); ++v) {
+            if (ssa.valueDefs.get(v) < 0)
+                states[v] = VARYING;
+        }
+        reached[0] = true;
+        visit(0);
+        while (!edgeWork.isEmpty() || !valueWork.isEmpty()) {
+            while (!edgeWork.isEmpty()) {
+                int to = edgeWork.removeLast();
+                int from = edgeWork.removeLast();
+                int index = ssa.predecessors[to].indexOf(from);
+                if (executable[to][index])
+                    continue;
+                executable[to][index] = true;
+                if (!reached[to]) {
+                    reached[to] = true;
+                    visit(to);
+                } else {
+                    for (int i = 0; i < ssa.phis[to].size(); ++i)
+                        evaluate(ssa.phis[to].get(i));
+                }
+            }
+            while (!valueWork.isEmpty()) {
+                int v = valueWork.removeLast();
+                for (int u = users.starts[v]; u < users.starts[v + 1]; ++u) {
+                    int id = users.users[u];
+                    if (reached[ssa.instructionBlocks.get(id)])
+                        evaluate(id);
+                }
+            }
+        }
+        return apply();
+    }
+
+    private void visit(int b) {
+        for (int i = 0; i < ssa.phis[b].size(); ++i)
+            evaluate(ssa.phis[b].get(i));
+        for (int i = 0; i < ssa.code[b].size(); ++i)
+            evaluate(ssa.code[b].get(i));
+        Instruction last = ssa.last(b);
+        if (last == null || (last.opcode != Opcode.GOTO && !last.opcode.isBranch())) {
+            for (int i = 0; i < ssa.successors[b].size(); ++i)
+                addEdge(b, ssa.successors[b].get(i));
+        }
+    }
+
+    private void addEdge(int from, int to) {
+        edgeWork.add(from);
+        edgeWork.add(to);
+    }
+
+    private void evaluate(int id) {
+        Instruction instruction = ssa.instructions.get(id);
+        if (instruction == null)
+            return;
+        int[] operands = instruction.operands;
+        int block = ssa.instructionBlocks.get(id);
+        if (instruction.opcode == Opcode.GOTO) {
+            addEdge(block, ssa.labelBlocks[Operand.index(operands[0])]);
+            return;
+        }
+        if (instruction.opcode.isBranch()) {
+            int target = ssa.labelBlocks[Operand.index(operands[0])];
+            byte left = state(operands[1]), right = state(operands[2]);
+            if (left == UNKNOWN || right == UNKNOWN)
+                return;
+            if (left == CONSTANT && right == CONSTANT && isInt(operands[1]) && isInt(operands[2])) {
+                Integer x = intValue(constant(operands[1])), y = intValue(constant(operands[2]));
+                if (x != null && y != null) {
+                    boolean taken = compare(instruction.opcode, x, y);
+                    addEdge(block, taken ? target : fallthrough(block, target));
+                    return;
+                }
+            }
+            for (int i = 0; i < ssa.successors[block].size(); ++i)
+                addEdge(block, ssa.successors[block].get(i));
+            return;
+        }
+        int def = SSAFunction.defValue(instruction);
+        if (def < 0 || states[def] == VARYING)
+            return;
+        switch (instruction.opcode) {
+            case PHI: {
+                byte state = UNKNOWN;
+                int constant = 0;
+                for (int i = 1; i < operands.length; ++i) {
+                    if (!executable[block][i - 1])
+                        continue;
+                    byte s = state(operands[i]);
+                    if (s == UNKNOWN)
+                        continue;
+                    if (s == VARYING || (state == CONSTANT && constant(operands[i]) != constant)) {
+                        state = VARYING;
+                        break;
+                    }
+                    state = CONSTANT;
+                    constant = constant(operands[i]);
+                }
+                set(def, state, constant);
+                break;
+            }
+            case ASSIGN: {
+                byte s = state(operands[1]);
+                if (s != CONSTANT) {
+                    set(def, s, 0);
+                    break;
+                }
+                int constant = constant(operands[1]);
+                boolean isFloat = ssa.isFloat(def);
+                if (isFloat == (Operand.kind(constant) == Operand.FLOAT_CONST))
+                    set(def, CONSTANT, constant);
+                else if (isFloat)
+                    set(def, CONSTANT, function.constant(true, function.constantText(constant) + ".0"));
+                else
+                    set(def, VARYING, 0);
+                break;
+            }
+            case ADD:
+            case SUB:
+            case MULT:
+            case DIV:
+            case AND:
+            case OR: {
+                byte left = state(operands[0]), right = state(operands[1]);
+                if (left == VARYING || right == VARYING || ssa.isFloat(def)) {
+                    set(def, VARYING, 0);
+                    break;
+                }
+                if (left == UNKNOWN || right == UNKNOWN)
+                    break;
+                Integer x = intValue(constant(operands[0])), y = intValue(constant(operands[1]));
+                Integer result = x == null || y == null ? null : fold(instruction.opcode, x, y);
+                if (result == null)
+                    set(def, VARYING, 0);
+                else
+                    set(def, CONSTANT, function.constant(false, Integer.toString(result)));
+                break;
+            }
+            default:
+                set(def, VARYING, 0);
+        }
+    }
+
+    private int fallthrough(int block, int target) {
+        IntList successors = ssa.successors[block];
+        for (int i = 0; i < successors.size(); ++i) {
+            if (successors.get(i) != target)
+                return successors.get(i);
+        }
+        return target;
+    }
+
+    private byte state(int operand) {
+        switch (Operand.kind(operand)) {
+            case Operand.VALUE:
+                return states[Operand.index(operand)];
+            case Operand.INT_CONST:
+            case Operand.FLOAT_CONST:
+                return CONSTANT;
+            default:
+                return VARYING;
+        }
+    }
+
+    private int constant(int operand) {
+        return Operand.kind(operand) == Operand.VALUE ? constants[Operand.index(operand)] : operand;
+    }
+
+    private boolean isInt(int operand) {
+        return Operand.kind(constant(operand)) == Operand.INT_CONST;
+    }
+
+    // null for literals that do not fit
+    private Integer intValue(int constant) {
+        try {
+            return Integer.valueOf(function.constantText(constant));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void set(int v, byte state, int constant) {
+        if (state == CONSTANT && states[v] == CONSTANT && constants[v] != constant)
+            state = VARYING;
+        if (state <= states[v])
+            return;
+        states[v] = state;
+        constants[v] = constant;
+        valueWork.add(v);
+    }
+
+    // null when the operation cannot be folded (a division by zero happens when the program runs)
+    static Integer fold(Opcode opcode, int x, int y) {
+        switch (opcode) {
+            case ADD:
+                return x + y;
+            case SUB:
+                return x - y;
+            case MULT:
+                return x * y;
+            case DIV:
+                return y == 0 ? null : x / y;
+            case AND:
+                return x & y;
+            case OR:
+                return x | y;
+            default:
+                return null;
+        }
+    }
+
+    static boolean compare(Opcode branch, int x, int y) {
+        switch (branch) {
+            case BREQ:
+                return x == y;
+            case BRNEQ:
+                return x != y;
+            case BRLT:
+                return x < y;
+            case BRGT:
+                return x > y;
+            case BRLEQ:
+                return x <= y;
+            default:
+                return x >= y;
+        }
+    }
+
+    private boolean apply() {
+        boolean changed = false;
+        // branches that always or never jump, decided before edges go away and predecessors move
+        int[] decided = new int[ssa.numBlocks];
+        for (int b = 0; b < ssa.numBlocks; ++b) {
+            Instruction last = ssa.removed[b] || !reached[b] ? null : ssa.last(b);
+            if (last == null || !last.opcode.isBranch())
+                continue;
+            int target = ssa.labelBlocks[Operand.index(last.operands[0])];
+            int fallthrough = fallthrough(b, target);
+            boolean taken = executable[target][ssa.predecessors[target].indexOf(b)];
+            boolean notTaken = executable[fallthrough][ssa.predecessors[fallthrough].indexOf(b)];
+            if (target == fallthrough)
+                decided[b] = NEVER;
+            else if (taken != notTaken)
+                decided[b] = taken ? ALWAYS : NEVER;
+        }
+        for (int b = 0; b < ssa.numBlocks; ++b) {
+            if (ssa.removed[b] || reached[b])
+                continue;
+            while (!ssa.successors[b].isEmpty())
+                ssa.removeEdge(b, ssa.successors[b].last());
+            for (int i = 0; i < ssa.phis[b].size(); ++i)
+                ssa.delete(ssa.phis[b].get(i));
+            for (int i = 0; i < ssa.code[b].size(); ++i)
+                ssa.delete(ssa.code[b].get(i));
+            ssa.removed[b] = true;
+            changed = true;
+        }
+        for (int b = 0; b < ssa.numBlocks; ++b) {
+            if (ssa.removed[b])
+                continue;
+            if (decided[b] != 0) {
+                int id = ssa.lastId(b);
+                Instruction branch = ssa.instructions.get(id);
+                int target = ssa.labelBlocks[Operand.index(branch.operands[0])];
+                int fallthrough = fallthrough(b, target);
+                if (decided[b] == ALWAYS) {
+                    ssa.instructions.set(id, new Instruction(Opcode.GOTO, branch.operands[0]));
+                    ssa.removeEdge(b, fallthrough);
+                } else {
+                    ssa.delete(id);
+                    if (target != fallthrough)
+                        ssa.removeEdge(b, target);
+                }
+                changed = true;
+            }
+            changed |= replaceConstants(ssa.phis[b]) | replaceConstants(ssa.code[b]);
+        }
+        return changed;
+    }
+
+    private boolean replaceConstants(IntList ids) {
+        boolean changed = false;
+        for (int i = 0; i < ids.size(); ++i) {
+            Instruction instruction = ssa.instructions.get(ids.get(i));
+            if (instruction == null)
+                continue;
+            int def = SSAFunction.defIndex(instruction);
+            int[] operands = instruction.operands;
+            for (int j = 0; j < operands.length; ++j) {
+                if (j != def && Operand.kind(operands[j]) == Operand.VALUE && states[Operand.index(operands[j])] == CONSTANT) {
+                    operands[j] = constants[Operand.index(operands[j])];
+                    changed = true;
+                }
+            }
+        }
+        return changed;
+    }
+}
+
+/**
+ * Replaces the values of copies, and of phis whose arguments are all one value, with that value,
+ * then drops the copies and phis. A copy of a value computed only for it is folded into the
+ * instruction computing it instead, which then writes the copied variable ({@code add a, b, _t0;
+ * assign x, _t0} becomes {@code add a, b, x}). A conversion of an int to a float is not a copy.
+ */
+class CopyPropagation {
+    static boolean run(SSAFunction ssa) {
+        int[] replacements = new int[ssa.numValues()];
+        Arrays.fill(replacements, Operand.NONE);
+        List<Instruction> instructions = ssa.instructions;
+        boolean changed = foldCopies(ssa);
+        boolean again = true;
+        while (again) {
+            again = false;
+            for (Instruction instruction : instructions) {
+                if (instruction == null)
+                    continue;
+                int def = SSAFunction.defValue(instruction);
+                if (def < 0 || replacements[def] != Operand.NONE)
+                    continue;
+                int replacement = Operand.NONE;
+                if (instruction.opcode == Opcode.ASSIGN) {
+                    int source = resolve(instruction.operands[1], replacements);
+                    if (sameType(ssa, def, source))
+                        replacement = source;
+                } else if (instruction.opcode == Opcode.PHI) {
+                    for (int i = 1; i < instruction.operands.length; ++i) {
+                        int argument = resolve(instruction.operands[i], replacements);
+                        if (argument == Operand.of(Operand.VALUE, def) || argument == replacement)
+                            continue;
+                        if (replacement != Operand.NONE) {
+                            replacement = Operand.NONE;
+                            break;
+                        }
+                        replacement = argument;
+                    }
+                }
+                if (replacement != Operand.NONE) {
+                    replacements[def] = replacement;
+                    again = changed = true;
+                }
+            }
+        }
+        if (!changed)
+            return false;
+        for (int id = 0; id < instructions.size(); ++id) {
+            Instruction instruction = instructions.get(id);
+            if (instruction == null)
+                continue;
+            int def = SSAFunction.defValue(instruction);
+            if (def >= 0 && replacements[def] != Operand.NONE) {
+                ssa.delete(id);
+                continue;
+            }
+            int defIndex = SSAFunction.defIndex(instruction);
+            for (int i = 0; i < instruction.operands.length; ++i) {
+                if (i != defIndex)
+                    instruction.operands[i] = resolve(instruction.operands[i], replacements);
+            }
+        }
+        return true;
+    }
+
+    private static boolean foldCopies(SSAFunction ssa) {
+        SSAFunction.Users users = ssa.users();
+        boolean changed = false;
+        for (int id = 0; id < ssa.instructions.size(); ++id) {
+            Instruction copy = ssa.instructions.get(id);
+            if (copy == null || copy.opcode != Opcode.ASSIGN || SSAFunction.defValue(copy) < 0
+                    || Operand.kind(copy.operands[1]) != Operand.VALUE)
+                continue;
+            int target = SSAFunction.defValue(copy);
+            int source = Operand.index(copy.operands[1]);
+            int def = ssa.valueDefs.get(source);
+            if (def < 0 || users.starts[source + 1] - users.starts[source] != 1
+                    || ssa.instructions.get(def).opcode == Opcode.PHI || ssa.isFloat(target) != ssa.isFloat(source))
+                continue;
+            Instruction definition = ssa.instructions.get(def);
+            definition.operands[SSAFunction.defIndex(definition)] = Operand.of(Operand.VALUE, target);
+            ssa.valueDefs.set(target, def);
+            ssa.valueDefs.set(source, -1);
+            ssa.delete(id);
+            changed = true;
+        }
+        return changed;
+    }
+
+    static int resolve(int operand, int[] replacements) {
+        int resolved = operand;
+        while (Operand.kind(resolved) == Operand.VALUE && replacements[Operand.index(resolved)] != Operand.NONE)
+            resolved = replacements[Operand.index(resolved)];
+        while (operand != resolved && Operand.kind(operand) == Operand.VALUE) {
+            int next = replacements[Operand.index(operand)];
+            replacements[Operand.index(operand)] = resolved;
+            operand = next;
+        }
+        return resolved;
+    }
+
+    private static boolean sameType(SSAFunction ssa, int def, int operand) {
+        switch (Operand.kind(operand)) {
+            case Operand.VALUE:
+                return ssa.isFloat(def) == ssa.isFloat(Operand.index(operand));
+            case Operand.INT_CONST:
+                return !ssa.isFloat(def);
+            case Operand.FLOAT_CONST:
+                return ssa.isFloat(def);
+            default:
+                return false;
+        }
+    }
+}
+
+/**
+ * Value numbering: a computation of a value that is already there, the same operation on the same
+ * operands, is removed and its value replaced by the first one. Locally only earlier instructions of
+ * the block count, globally also those of the blocks dominating it (the table is scoped along the
+ * dominator tree). Operands of commutative operations are ordered, and phis of one block with the
+ * same arguments, or with one argument besides themselves, are one value. Array elements and static
+ * variables are only matched within a block, up to the next instruction that can write memory.
+ */
+class ValueNumbering {
+    private final SSAFunction ssa;
+    private final boolean global;
+    private final int[] replacements;
+    private final Map<Expression, Integer> table = new HashMap<>();
+    // memory changes at every block and at every store, call or write to a static variable
+    private int memory = 0;
+    private int eliminated = 0;
+
+    private static final class Expression {
+        final Opcode opcode;
+        final boolean isFloat;
+        // 0 when the operation does not read memory, the block for phis
+        final int memory;
+        final int[] operands;
+
+        Expression(Opcode opcode, boolean isFloat, int memory, int[] operands) {
+            this.opcode = opcode;
+            this.isFloat = isFloat;
+            this.memory = memory;
+            this.operands = operands;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Expression))
+                return false;
+            Expression e = (Expression) o;
+            return opcode == e.opcode && isFloat == e.isFloat && memory == e.memory && Arrays.equals(operands, e.operands);
+        }
+
+        @Override
+        public int hashCode() {
+            return ((opcode.hashCode() * 31 + memory) * 31 + Arrays.hashCode(operands)) * 2 + (isFloat ? 1 : 0);
+        }
+    }
+
+    ValueNumbering(SSAFunction ssa, boolean global) {
+        this.ssa = ssa;
+        this.global = global;
+        replacements = new int[ssa.numValues()];
+        Arrays.fill(replacements, Operand.NONE);
+    }
+
+    /**
+     * Returns the number of instructions removed.
+     */
+    int run() {
+        if (global)
+            walkDominatorTree();
+        else {
+            for (int b = 0; b < ssa.numBlocks; ++b) {
+                if (!ssa.removed[b]) {
+                    visit(b, null);
+                    table.clear();
+                }
+            }
+        }
+        if (eliminated == 0)
+            return 0;
+        for (Instruction instruction : ssa.instructions) {
+            if (instruction == null)
+                continue;
+            int def = SSAFunction.defIndex(instruction);
+            for (int i = 0; i < instruction.operands.length; ++i) {
+                if (i != def)
+                    instruction.operands[i] = CopyPropagation.resolve(instruction.operands[i], replacements);
+            }
+        }
+        return eliminated;
+    }
+
+    private void walkDominatorTree() {
+        int[] starts = new int[ssa.numBlocks + 2];
+        for (int b = 1; b < ssa.numBlocks; ++b) {
+            if (!ssa.removed[b])
+                starts[ssa.idom[b] + 2]++;
+        }
+        for (int b = 0; b < ssa.numBlocks; ++b)
+            starts[b + 2] += starts[b + 1];
+        int[] children = new int[starts[ssa.numBlocks + 1]];
+        for (int b = 1; b < ssa.numBlocks; ++b) {
+            if (!ssa.removed[b])
+                children[starts[ssa.idom[b] + 1]++] = b;
+        }
+        // expressions added by the blocks on the way down, taken out again on the way up
+        List<Expression> added = new ArrayList<>();
+        int[] stack = new int[ssa.numBlocks];
+        int[] marks = new int[ssa.numBlocks];
+        int[] next = new int[ssa.numBlocks];
+        int top = 0;
+        stack[top++] = 0;
+        visit(0, added);
+        while (top > 0) {
+            int b = stack[top - 1];
+            if (next[b] < starts[b + 1] - starts[b]) {
+                int child = children[starts[b] + next[b]++];
+                stack[top++] = child;
+                marks[child] = added.size();
+                visit(child, added);
+            } else {
+                while (added.size() > marks[b])
+                    table.remove(added.remove(added.size() - 1));
+                top--;
+            }
+        }
+    }
+
+    private void visit(int b, List<Expression> added) {
+        memory++;
+        for (int i = 0; i < ssa.phis[b].size(); ++i) {
+            int id = ssa.phis[b].get(i);
+            Instruction phi = ssa.instructions.get(id);
+            if (phi == null)
+                continue;
+            int def = Operand.index(phi.operands[0]);
+            int[] arguments = new int[phi.operands.length - 1];
+            int only = Operand.NONE;
+            for (int j = 0; j < arguments.length; ++j) {
+                arguments[j] = CopyPropagation.resolve(phi.operands[j + 1], replacements);
+                if (arguments[j] != phi.operands[0])
+                    only = only == Operand.NONE || only == arguments[j] ? arguments[j] : Operand.of(Operand.VALUE, def);
+            }
+            if (only != Operand.NONE && only != phi.operands[0]) {
+                replace(id, def, only);
+                continue;
+            }
+            number(id, def, new Expression(Opcode.PHI, ssa.isFloat(def), b, arguments), added);
+        }
+        for (int i = 0; i < ssa.code[b].size(); ++i) {
+            int id = ssa.code[b].get(i);
+            Instruction instruction = ssa.instructions.get(id);
+            if (instruction == null)
+                continue;
+            int defIndex = SSAFunction.defIndex(instruction);
+            int def = SSAFunction.defValue(instruction);
+            if (def >= 0 && instruction.opcode != Opcode.CALLR) {
+                int[] operands = new int[instruction.operands.length - 1];
+                boolean readsMemory = instruction.opcode == Opcode.ARRAY_LOAD;
+                for (int j = 0, k = 0; j < instruction.operands.length; ++j) {
+                    if (j == defIndex)
+                        continue;
+                    operands[k] = CopyPropagation.resolve(instruction.operands[j], replacements);
+                    readsMemory |= Operand.kind(operands[k++]) == Operand.GLOBAL;
+                }
+                if (isCommutative(instruction.opcode) && operands[0] > operands[1]) {
+                    int swap = operands[0];
+                    operands[0] = operands[1];
+                    operands[1] = swap;
+                }
+                number(id, def, new Expression(instruction.opcode, ssa.isFloat(def), readsMemory ? memory : 0, operands), added);
+            } else if (instruction.opcode != Opcode.LABEL && instruction.opcode != Opcode.GOTO
+                    && !instruction.opcode.isBranch()) {
+                memory++;
+            }
+        }
+    }
+
+    private void number(int id, int def, Expression expression, List<Expression> added) {
+        Integer first = table.get(expression);
+        if (first != null) {
+            replace(id, def, Operand.of(Operand.VALUE, first));
+            return;
+        }
+        table.put(expression, def);
+        if (added != null)
+            added.add(expression);
+    }
+
+    private void replace(int id, int def, int replacement) {
+        replacements[def] = replacement;
+        ssa.delete(id);
+        eliminated++;
+    }
+
+    private static boolean isCommutative(Opcode opcode) {
+        return opcode == Opcode.ADD || opcode == Opcode.MULT || opcode == Opcode.AND || opcode == Opcode.OR;
+    }
+}
+
+/**
+ * Loop optimizations, innermost loops first. Computations whose operands do not change in the loop
+ * move to its preheader, the single block outside the loop that enters it (a loop without one is
+ * left alone). Only arithmetic and copies move, and a division only by a constant other than zero,
+ * so running them when the loop body would not have does no harm; static variables count as
+ * unchanged when the loop has no stores, calls or writes to static variables.
+ * <p>
+ * Then multiplications of a basic induction variable of the loop, a phi of the header that every
+ * iteration increments by the same positive constant, with constants get a variable of their own
+ * that starts at the product and is incremented by the increment times the factor after the
+ * induction variable is. This is done only when the induction variable is used for nothing but
+ * those products and comparisons with constants, the exit test among them, which then compare the
+ * first product against scaled constants and leave the induction variable dead.
+ */
+class LoopOptimization {
+    private final SSAFunction ssa;
+    private final IRFunction function;
+    // blocks of the loop being optimized
+    private final boolean[] inBody;
+    private final IntList body = new IntList();
+    // the products reduced in the loop being optimized and the variables replacing them
+    private final IntList products = new IntList(), replacements = new IntList();
+    private boolean writesMemory;
+    private int hoisted = 0;
+    private int reduced = 0;
+
+    LoopOptimization(SSAFunction ssa) {
+        this.ssa = ssa;
+        function = ssa.function;
+        inBody = new boolean[ssa.numBlocks];
+    }
+
+    int getHoisted() {
+        return hoisted;
+    }
+
+    int getReduced() {
+        return reduced;
+    }
+
+    void run() {
+        // a nested loop is deeper than the loops around it
+        IntList headers = new IntList();
+        int maxDepth = 0;
+        for (int b = 0; b < ssa.numBlocks; ++b)
+            maxDepth = Math.max(maxDepth, ssa.loopDepth[b]);
+        for (int depth = maxDepth; depth > 0; --depth) {
+            for (int b = 0; b < ssa.numBlocks; ++b) {
+                if (ssa.loopHeader[b] && !ssa.removed[b] && ssa.loopDepth[b] == depth)
+                    headers.add(b);
+            }
+        }
+        for (int h = 0; h < headers.size(); ++h) {
+            int header = headers.get(h);
+            int preheader = preheader(header);
+            if (preheader < 0)
+                continue;
+            for (int b = 0; b < ssa.numBlocks; ++b) {
+                inBody[b] = !ssa.removed[b] && ssa.inLoop(b, header);
+                if (inBody[b])
+                    body.add(b);
+            }
+            writesMemory = false;
+            for (int i = 0; i < body.size(); ++i) {
+                IntList code = ssa.code[body.get(i)];
+                for (int j = 0; j < code.size(); ++j) {
+                    Instruction instruction = ssa.instructions.get(code.get(j));
+                    if (instruction != null && writesMemory(instruction))
+                        writesMemory = true;
+                }
+            }
+            hoist(preheader);
+            reduce(header, preheader);
+            if (!products.isEmpty())
+                replaceProducts();
+            body.clear();
+        }
+    }
+
+    private void replaceProducts() {
+        int[] values = new int[ssa.numValues()];
+        Arrays.fill(values, Operand.NONE);
+        for (int i = 0; i < products.size(); ++i)
+            values[products.get(i)] = replacements.get(i);
+        for (Instruction instruction : ssa.instructions) {
+            if (instruction == null)
+                continue;
+            int def = SSAFunction.defIndex(instruction);
+            for (int i = 0; i < instruction.operands.length; ++i) {
+                int operand = instruction.operands[i];
+                if (i != def && Operand.kind(operand) == Operand.VALUE && values[Operand.index(operand)] != Operand.NONE)
+                    instruction.operands[i] = values[Operand.index(operand)];
+            }
+        }
+        products.clear();
+        replacements.clear();
+    }
+
+    // the only predecessor of the header outside the loop, if the header is its only successor
+    private int preheader(int header) {
+        int preheader = -1;
+        IntList predecessors = ssa.predecessors[header];
+        for (int i = 0; i < predecessors.size(); ++i) {
+            int p = predecessors.get(i);
+            if (ssa.inLoop(p, header))
+                continue;
+            if (preheader >= 0)
+                return -1;
+            preheader = p;
+        }
+        if (preheader < 0 || ssa.successors[preheader].size() != 1)
+            return -1;
+        return preheader;
+    }
+
+    private void hoist(int preheader) {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = 0; i < body.size(); ++i) {
+                IntList code = ssa.code[body.get(i)];
+                for (int j = 0; j < code.size(); ++j) {
+                    int id = code.get(j);
+                    Instruction instruction = ssa.instructions.get(id);
+                    if (instruction == null || !canHoist(instruction))
+                        continue;
+                    ssa.moveBeforeJump(id, preheader);
+                    hoisted++;
+                    changed = true;
+                    --j;
+                }
+            }
+        }
+    }
+
+    private boolean canHoist(Instruction instruction) {
+        if (SSAFunction.defValue(instruction) < 0)
+            return false;
+        int def = SSAFunction.defIndex(instruction);
+        switch (instruction.opcode) {
+            case DIV: {
+                int divisor = instruction.operands[1];
+                if (!Operand.isConstant(divisor) || Double.parseDouble(function.constantText(divisor)) == 0)
+                    return false;
+                break;
+            }
+            case ASSIGN:
+            case ADD:
+            case SUB:
+            case MULT:
+            case AND:
+            case OR:
+                break;
+            default:
+                return false;
+        }
+        for (int i = 0; i < instruction.operands.length; ++i) {
+            if (i != def && !isInvariant(instruction.operands[i]))
+                return false;
+        }
+        return true;
+    }
+
+    private boolean isInvariant(int operand) {
+        switch (Operand.kind(operand)) {
+            case Operand.INT_CONST:
+            case Operand.FLOAT_CONST:
+                return true;
+            case Operand.GLOBAL:
+                return !writesMemory;
+            case Operand.VALUE: {
+                int def = ssa.valueDefs.get(Operand.index(operand));
+                return def < 0 || !inBody[ssa.instructionBlocks.get(def)];
+            }
+            default:
+                return false;
+        }
+    }
+
+    private boolean isInvariantInt(int operand) {
+        if (Operand.kind(operand) == Operand.VALUE)
+            return !ssa.isFloat(Operand.index(operand)) && isInvariant(operand);
+        return Operand.kind(operand) != Operand.FLOAT_CONST && isInvariant(operand);
+    }
+
+    private static boolean writesMemory(Instruction instruction) {
+        switch (instruction.opcode) {
+            case ARRAY_STORE:
+            case CALL:
+            case CALLR:
+                return true;
+            default:
+                // the array form of assign stores to every element and defines nothing; any other
+                // instruction whose destination is not a value, like the add of a static loop
+                // counter, writes a variable
+                if (instruction.opcode == Opcode.ASSIGN && SSAFunction.defIndex(instruction) < 0)
+                    return true;
+                return SSAFunction.defIndex(instruction) >= 0 && SSAFunction.defValue(instruction) < 0;
+        }
+    }
+
+    // Reduction trades a multiplication for an addition in every iteration, which alone executes no
+    // fewer instructions. It only pays when the induction variable itself goes away: then its
+    // increment is saved as well. So the multiplications of an induction variable are reduced only
+    // when they are by constants and its other uses are comparisons with constants, which are
+    // rewritten to compare one of the new variables instead (linear function test replacement).
+    private void reduce(int header, int preheader) {
+        IntList predecessors = ssa.predecessors[header];
+        int entry = predecessors.indexOf(preheader) + 1;
+        // step of every basic induction variable, the instruction incrementing it and its first value
+        IntMap<int[]> inductions = new IntMap<>();
+        IntList variables = new IntList();
+        for (int i = 0; i < ssa.phis[header].size(); ++i) {
+            Instruction phi = ssa.instructions.get(ssa.phis[header].get(i));
+            if (phi == null || ssa.isFloat(Operand.index(phi.operands[0])))
+                continue;
+            int next = Operand.NONE;
+            for (int j = 1; j < phi.operands.length; ++j) {
+                if (j == entry)
+                    continue;
+                if (next != Operand.NONE && phi.operands[j] != next) {
+                    next = Operand.NONE;
+                    break;
+                }
+                next = phi.operands[j];
+            }
+            if (next == Operand.NONE || Operand.kind(next) != Operand.VALUE)
+                continue;
+            int increment = ssa.valueDefs.get(Operand.index(next));
+            if (increment < 0 || !inBody[ssa.instructionBlocks.get(increment)])
+                continue;
+            Instruction add = ssa.instructions.get(increment);
+            int[] operands = add.operands;
+            int step;
+            if (add.opcode == Opcode.ADD && operands[0] == phi.operands[0])
+                step = operands[1];
+            else if ((add.opcode == Opcode.ADD && operands[1] == phi.operands[0])
+                    || (add.opcode == Opcode.SUB && operands[0] == phi.operands[0]))
+                step = add.opcode == Opcode.ADD ? operands[0] : operands[1];
+            else
+                continue;
+            if (isInvariantInt(step)) {
+                inductions.put(Operand.index(phi.operands[0]), new int[]{step, increment, phi.operands[entry], ssa.phis[header].get(i)});
+                variables.add(Operand.index(phi.operands[0]));
+            }
+        }
+        if (inductions.size() == 0)
+            return;
+        // the multiplications of every induction variable by a constant
+        IntMap<IntList> multiplications = new IntMap<>();
+        for (int i = 0; i < body.size(); ++i) {
+            IntList code = ssa.code[body.get(i)];
+            for (int j = 0; j < code.size(); ++j) {
+                int id = code.get(j);
+                Instruction mult = ssa.instructions.get(id);
+                if (mult == null || mult.opcode != Opcode.MULT || SSAFunction.defValue(mult) < 0
+                        || ssa.isFloat(SSAFunction.defValue(mult)))
+                    continue;
+                int variable = inductionFactor(mult, 0, inductions);
+                if (variable < 0)
+                    variable = inductionFactor(mult, 1, inductions);
+                if (variable < 0)
+                    continue;
+                if (multiplications.get(variable) == null)
+                    multiplications.put(variable, new IntList());
+                multiplications.get(variable).add(id);
+            }
+        }
+        SSAFunction.Users users = null;
+        for (int v = 0; v < variables.size(); ++v) {
+            int variable = variables.get(v);
+            IntList mults = multiplications.get(variable);
+            if (mults == null)
+                continue;
+            if (users == null)
+                users = ssa.users();
+            int[] induction = inductions.get(variable);
+            int factor = replaceableFactor(header, variable, induction, mults, users);
+            if (factor == 0)
+                continue;
+            int replacement = Operand.NONE;
+            for (int i = 0; i < mults.size(); ++i) {
+                Instruction mult = ssa.instructions.get(mults.get(i));
+                int constant = mult.operands[Operand.kind(mult.operands[0]) == Operand.INT_CONST ? 0 : 1];
+                int current = reduce(header, preheader, entry, induction, constant, mults.get(i));
+                if (replacement == Operand.NONE && intValue(constant) == factor)
+                    replacement = current;
+            }
+            // the comparisons now read the replacement, the induction variable is left dead
+            int value = Operand.of(Operand.VALUE, variable);
+            for (int u = users.starts[variable]; u < users.starts[variable + 1]; ++u) {
+                Instruction compare = ssa.instructions.get(users.users[u]);
+                // a comparison reading the variable twice is listed twice
+                if (compare == null || !compare.opcode.isBranch() || indexOf(compare.operands, value) < 0)
+                    continue;
+                for (int i = 1; i < compare.operands.length; ++i) {
+                    if (compare.operands[i] == value)
+                        compare.operands[i] = replacement;
+                    else
+                        compare.operands[i] = function.constant(false,
+                                Integer.toString(intValue(compare.operands[i]) * factor));
+                }
+            }
+            // later loops read fresh users
+            users = null;
+        }
+    }
+
+    // the induction variable multiplied by a constant at operand i of the multiplication, or -1
+    private int inductionFactor(Instruction mult, int i, IntMap<int[]> inductions) {
+        int variable = mult.operands[i], factor = mult.operands[1 - i];
+        if (Operand.kind(variable) != Operand.VALUE || inductions.get(Operand.index(variable)) == null
+                || Operand.kind(factor) != Operand.INT_CONST || intValue(factor) == null)
+            return -1;
+        return Operand.index(variable);
+    }
+
+    /**
+     * A positive factor of the multiplications that the comparisons of the induction variable can
+     * be scaled by, or 0 when the variable cannot be replaced. That takes a loop counting up from a
+     * constant by a constant step, which the header leaves once the variable passes a constant
+     * (like every for loop with constant bounds), so that the variable and its products stay in a
+     * known range and scaled comparisons cannot overflow where the originals did not. The variable
+     * may only be read by its increment, the multiplications and comparisons with constants, and
+     * its incremented value only by its phi.
+     */
+    private int replaceableFactor(int header, int variable, int[] induction, IntList mults, SSAFunction.Users users) {
+        int step = induction[0], increment = induction[1], first = induction[2], phi = induction[3];
+        Instruction add = ssa.instructions.get(increment);
+        if (add.opcode != Opcode.ADD || Operand.kind(step) != Operand.INT_CONST || Operand.kind(first) != Operand.INT_CONST)
+            return 0;
+        Integer stepValue = intValue(step), firstValue = intValue(first);
+        if (stepValue == null || stepValue <= 0 || firstValue == null)
+            return 0;
+        // the exit test of the header: brgt or brgeq out of the loop on the variable and a constant
+        IntList code = ssa.code[header];
+        Instruction test = code.isEmpty() ? null : ssa.instructions.get(code.get(code.size() - 1));
+        if (test == null || (test.opcode != Opcode.BRGT && test.opcode != Opcode.BRGEQ)
+                || test.operands[1] != Operand.of(Operand.VALUE, variable)
+                || Operand.kind(test.operands[2]) != Operand.INT_CONST
+                || inBody[ssa.labelBlocks[Operand.index(test.operands[0])]])
+            return 0;
+        Integer bound = intValue(test.operands[2]);
+        if (bound == null)
+            return 0;
+        int factor = 0;
+        for (int i = 0; i < mults.size() && factor == 0; ++i) {
+            Instruction mult = ssa.instructions.get(mults.get(i));
+            int constant = intValue(mult.operands[Operand.kind(mult.operands[0]) == Operand.INT_CONST ? 0 : 1]);
+            if (constant > 0)
+                factor = constant;
+        }
+        if (factor == 0)
+            return 0;
+        // every value the variable and its increment take, scaled
+        long highest = Math.max(firstValue, (long) bound + stepValue);
+        if (!fits((long) firstValue * factor) || !fits(highest * factor))
+            return 0;
+        for (int u = users.starts[variable]; u < users.starts[variable + 1]; ++u) {
+            int user = users.users[u];
+            Instruction instruction = ssa.instructions.get(user);
+            if (user == increment || mults.indexOf(user) >= 0)
+                continue;
+            if (!instruction.opcode.isBranch())
+                return 0;
+            for (int i = 1; i < instruction.operands.length; ++i) {
+                int operand = instruction.operands[i];
+                if (operand == Operand.of(Operand.VALUE, variable))
+                    continue;
+                Integer constant = Operand.kind(operand) == Operand.INT_CONST ? intValue(operand) : null;
+                if (constant == null || !fits((long) constant * factor))
+                    return 0;
+            }
+        }
+        int next = SSAFunction.defValue(add);
+        for (int u = users.starts[next]; u < users.starts[next + 1]; ++u) {
+            if (users.users[u] != phi)
+                return 0;
+        }
+        return factor;
+    }
+
+    private static int indexOf(int[] operands, int operand) {
+        for (int i = 0; i < operands.length; ++i) {
+            if (operands[i] == operand)
+                return i;
+        }
+        return -1;
+    }
+
+    private static boolean fits(long value) {
+        return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+    }
+
+    // i * factor becomes a variable of its own, initialized in the preheader and incremented with i
+    private int reduce(int header, int preheader, int entry, int[] induction, int factor, int multId) {
+        int step = induction[0], increment = induction[1], first = induction[2];
+        Instruction mult = ssa.instructions.get(multId);
+        int var = Operand.index(function.newTemp(false));
+        int start = product(first, factor, var, preheader);
+        int stepVar = Operand.index(function.newTemp(false));
+        int scaledStep = product(step, factor, stepVar, preheader);
+
+        int current = Operand.of(Operand.VALUE, ssa.newValue(var, -1));
+        int next = Operand.of(Operand.VALUE, ssa.newValue(var, -1));
+        int[] arguments = new int[ssa.predecessors[header].size() + 1];
+        Arrays.fill(arguments, next);
+        arguments[0] = current;
+        arguments[entry] = start;
+        int phi = ssa.add(new Instruction(Opcode.PHI, arguments), header);
+        ssa.phis[header].add(phi);
+        ssa.valueDefs.set(Operand.index(current), phi);
+        Opcode opcode = ssa.instructions.get(increment).opcode;
+        int add = ssa.insertAfter(new Instruction(opcode, current, scaledStep, next), increment);
+        ssa.valueDefs.set(Operand.index(next), add);
+
+        products.add(SSAFunction.defValue(mult));
+        replacements.add(current);
+        ssa.delete(multId);
+        reduced++;
+        return current;
+    }
+
+    // the product as a constant if both are constants, else a value computed in the preheader
+    private int product(int x, int y, int var, int preheader) {
+        if (Operand.kind(x) == Operand.INT_CONST && Operand.kind(y) == Operand.INT_CONST) {
+            Integer a = intValue(x), b = intValue(y);
+            if (a != null && b != null)
+                return function.constant(false, Integer.toString(a * b));
+        }
+        int value = Operand.of(Operand.VALUE, ssa.newValue(var, -1));
+        int id = ssa.insertBeforeJump(new Instruction(Opcode.MULT, x, y, value), preheader);
+        ssa.valueDefs.set(Operand.index(value), id);
+        return value;
+    }
+
+    private Integer intValue(int constant) {
+        try {
+            return Integer.valueOf(function.constantText(constant));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
+
+/**
+ * Removes instructions whose values are never needed. Control flow, stores, calls and writes to
+ * static variables are needed, and so is every value they read, transitively.
+ */
+class DeadCodeElimination {
+    static boolean run(SSAFunction ssa) {
+        List<Instruction> instructions = ssa.instructions;
+        boolean[] needed = new boolean[instructions.size()];
+        IntList work = new IntList();
+        for (int id = 0; id < instructions.size(); ++id) {
+            Instruction instruction = instructions.get(id);
+            if (instruction != null && hasEffect(instruction)) {
+                needed[id] = true;
+                work.add(id);
+            }
+        }
+        while (!work.isEmpty()) {
+            Instruction instruction = instructions.get(work.removeLast());
+            int def = SSAFunction.defIndex(instruction);
+            for (int i = 0; i < instruction.operands.length; ++i) {
+                int operand = instruction.operands[i];
+                if (i == def || Operand.kind(operand) != Operand.VALUE)
+                    continue;
+                int definition = ssa.valueDefs.get(Operand.index(operand));
+                if (definition >= 0 && !needed[definition]) {
+                    needed[definition] = true;
+                    work.add(definition);
+                }
+            }
+        }
+        boolean changed = false;
+        for (int id = 0; id < instructions.size(); ++id) {
+            if (instructions.get(id) != null && !needed[id]) {
+                ssa.delete(id);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private static boolean hasEffect(Instruction instruction) {
+        switch (instruction.opcode) {
+            case ASSIGN:
+            case ADD:
+            case SUB:
+            case MULT:
+            case DIV:
+            case AND:
+            case OR:
+            case ARRAY_LOAD:
+            case PHI:
+                return SSAFunction.defValue(instruction) < 0;
+            default:
+                return true;
+        }
+    }
+}
@@ -0,0 +1,365 @@
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.tree.IterativeParseTreeWalker;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Semantic checking and IR generation with the function bodies checked in parallel. A body only
+ * depends on the program scope and on the functions declared before it, so the declarations and all
+ * function headers are checked first, in order, and then every body is checked and lowered as its
+ * own fork-join task against a read-only view of the program scope as it was at that function. The
+ * tasks run in a pool of {@link #setThreads} workers, or in the pool of the batch when the program is
+ * compiled as part of one. Diagnostics, the symbol table dump and the IR are merged back in source
+ * order, function by function, so the output is exactly the one of a sequential
+ * {@link SemanticChecking} walk.
+ * <p>
+ * With a {@link FunctionCache} a body is only checked and lowered again when it or what it can
+ * see changed: its key hashes the text of the function, the program declarations and the headers
+ * of the functions up to it, with whether each header was correct (a function with errors in its
+ * header is only visible in its own body), and the optimization level.
+ */
+public class ParallelChecking {
+    private final Writer table_writer;
+    private final boolean build_ir;
+    private final Diagnostics diagnostics;
+    private IRWriter writer = null;
+    private IRProgram program = null;
+    private FunctionCache cache = null;
+    private GraphVizBuilder cfgBuilder = null;
+    private int optimization_level = 0;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private CompileStats stats = null;
+    private int reusedFunctions = 0;
+    private long eliminatedInstructions = 0;
+    private long hoistedInstructions = 0;
+    private long reducedMultiplications = 0;
+    private boolean semanticErrorOccurred = false;
+    private long scopePushes = 0;
+    private long symbolLookups = 0;
+    // one table per worker, reused for every body the worker checks
+    private final ThreadLocal<SymbolTable> tables;
+    private final Queue<SymbolTable> allTables = new ConcurrentLinkedQueue<>();
+
+    private static class Body {
+        List<Diagnostic> diagnostics;
+        // null without a dump
+        CharSequence dump;
+        // null when the body has errors or no IR is generated, cached bodies only have the text
+        IRFunction function;
+        String ir;
+        long eliminatedInstructions, hoistedInstructions, reducedMultiplications;
+        // CPU time and allocations of a worker other than the one merging the bodies
+        long cpuNanos, allocatedBytes;
+    }
+
+    public ParallelChecking(Writer table_writer, boolean build_ir, Diagnostics diagnostics) {
+        this.table_writer = table_writer;
+        this.build_ir = build_ir;
+        this.diagnostics = diagnostics;
+        tables = ThreadLocal.withInitial(() -> {
+            SymbolTable table = new SymbolTable(new GenericScope());
+            allTables.add(table);
+            return table;
+        });
+    }
+
+    public void setWriter(IRWriter writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Optimizes the IR of every body, see {@link Optimizer}.
+     */
+    public void setOptimizationLevel(int optimization_level) {
+        this.optimization_level = optimization_level;
+    }
+
+    /**
+     * Size of the pool the bodies are checked in. Within a batch the bodies run in the pool of the
+     * batch instead.
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Adds the CPU time and allocations of the workers to the running phase of {@code stats}, which
+     * otherwise only measures the thread that calls {@link #check}.
+     */
+    public void setStats(CompileStats stats) {
+        this.stats = stats;
+    }
+
+    /**
+     * Adds the control flow graph of every function to {@code cfgBuilder}, in source order. The
+     * graphs are built from the lowered functions, so no body is reused from the cache.
+     */
+    public void setGraphViz(GraphVizBuilder cfgBuilder) {
+        this.cfgBuilder = cfgBuilder;
+    }
+
+    /**
+     * Reuses the bodies found in {@code cache} and adds the others to it. Cached IR can only be
+     * written, not added to the program, so with IR there has to be a writer.
+     */
+    public void setCache(FunctionCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * The IR of the program, with its functions when there is no writer.
+     */
+    public IRProgram getProgram() {
+        return program;
+    }
+
+    public boolean semanticErrorOccurred() {
+        return semanticErrorOccurred;
+    }
+
+    public long getScopePushes() {
+        return scopePushes;
+    }
+
+    public long getSymbolLookups() {
+        return symbolLookups;
+    }
+
+    public int getReusedFunctions() {
+        return reusedFunctions;
+    }
+
+    /**
+     * Instructions the optimizer found redundant in the bodies that were not reused.
+     */
+    public long getEliminatedInstructions() {
+        return eliminatedInstructions;
+    }
+
+    public long getHoistedInstructions() {
+        return hoistedInstructions;
+    }
+
+    public long getReducedMultiplications() {
+        return reducedMultiplications;
+    }
+
+    public void check(TigerParser.Tiger_programContext tree) {
+        if (cache != null && cfgBuilder == null && build_ir && writer == null)
+            throw new IllegalStateException("cached functions can only be written");
+        List<TigerParser.FunctContext> functions = new ArrayList<>();
+        for (TigerParser.Funct_listContext list = tree.funct_list(); list.funct() != null; list = list.funct_list())
+            functions.add(list.funct());
+
+        // declarations and headers, remembering where the output of each header ends
+        StringWriter headerDump = table_writer == null ? null : new StringWriter();
+        Diagnostics headerDiagnostics = new Diagnostics();
+        SemanticChecking declarations = new SemanticChecking(headerDump, build_ir, headerDiagnostics);
+        declarations.enterTiger_program(tree);
+        new IterativeParseTreeWalker().walk(declarations, tree.declaration_segment());
+        GlobalScope globals = declarations.getGlobalScope();
+        String[] keys = new String[functions.size()];
+        MessageDigest visible = null;
+        if (cache != null) {
+            visible = FunctionCache.newDigest();
+            visible.update((byte) optimization_level);
+            hash(visible, tree.declaration_segment().getStart(), tree.declaration_segment().getStop());
+        }
+        int[] dumpEnds = new int[functions.size() + 1];
+        int[] diagnosticEnds = new int[functions.size() + 1];
+        dumpEnds[0] = headerDump == null ? 0 : headerDump.getBuffer().length();
+        diagnosticEnds[0] = headerDiagnostics.getDiagnostics().size();
+        for (int k = 0; k < functions.size(); ++k) {
+            TigerParser.FunctContext function = functions.get(k);
+            globals.setFunction(k);
+            declarations.declareFunction(function);
+            // the function is still visible in its own body
+            if (function.semError)
+                declarations.getSymbolTable().removeSymbol(function.id);
+            if (cache != null) {
+                hash(visible, function.getStart(), function.BEGIN().getSymbol());
+                visible.update((byte) (function.semError ? 1 : 0));
+                keys[k] = key(visible, function);
+            }
+            dumpEnds[k + 1] = headerDump == null ? 0 : headerDump.getBuffer().length();
+            diagnosticEnds[k + 1] = headerDiagnostics.getDiagnostics().size();
+        }
+        program = declarations.getIRGenerator().program;
+        boolean emitIR = build_ir && !declarations.semanticErrorOccurred();
+
+        // cached bodies have no task
+        List<ForkJoinTask<Body>> bodies = new ArrayList<>(functions.size());
+        FunctionCache.Entry[] reused = new FunctionCache.Entry[functions.size()];
+        // in a batch the bodies share the pool of the files
+        Thread coordinator = Thread.currentThread();
+        ForkJoinPool pool = ForkJoinTask.inForkJoinPool() ? null : new ForkJoinPool(threads);
+        try {
+            for (int k = 0; k < functions.size(); ++k) {
+                TigerParser.FunctContext function = functions.get(k);
+                if (keys[k] != null && cfgBuilder == null) {
+                    FunctionCache.Entry entry = cache.get(keys[k]);
+                    if (entry != null && (table_writer == null || entry.dump != null)
+                            && (!emitIR || entry.ir != null || !entry.diagnostics.isEmpty())) {
+                        reused[k] = entry;
+                        reusedFunctions++;
+                        bodies.add(null);
+                        continue;
+                    }
+                }
+                Scope scope = globals.at(k);
+                ForkJoinTask<Body> task = ForkJoinTask.adapt(() -> checkBody(function, scope, emitIR, coordinator));
+                bodies.add(pool == null ? task.fork() : pool.submit(task));
+            }
+
+            List<Diagnostic> headers = headerDiagnostics.getDiagnostics();
+            CharSequence headerText = headerDump == null ? null : headerDump.getBuffer();
+            merge(headers, 0, diagnosticEnds[0], headerText, 0, dumpEnds[0]);
+            if (emitIR && writer != null)
+                writer.writeHeader(program);
+            for (int k = 0; k < functions.size(); ++k) {
+                int firstLine = functions.get(k).getStart().getLine();
+                Body body;
+                if (reused[k] != null) {
+                    body = restore(reused[k], firstLine);
+                    cache.put(keys[k], reused[k]);
+                } else {
+                    body = bodies.get(k).join();
+                    if (keys[k] != null)
+                        cache.put(keys[k], save(body, firstLine));
+                }
+                if (stats != null)
+                    stats.addWork(body.cpuNanos, body.allocatedBytes);
+                eliminatedInstructions += body.eliminatedInstructions;
+                hoistedInstructions += body.hoistedInstructions;
+                reducedMultiplications += body.reducedMultiplications;
+                merge(headers, diagnosticEnds[k], diagnosticEnds[k + 1], headerText, dumpEnds[k], dumpEnds[k + 1]);
+                merge(body.diagnostics, 0, body.diagnostics.size(), body.dump, 0, body.dump == null ? 0 : body.dump.length());
+                if ((body.function == null && body.ir == null) || diagnostics.hasErrors())
+                    continue;
+                if (body.function != null && cfgBuilder != null)
+                    new ControlFlowGraph(body.function).toGraphViz(cfgBuilder);
+                if (writer == null)
+                    program.addFunction(body.function);
+                else if (body.ir != null)
+                    writer.writeFunction(body.ir);
+                else
+                    writer.writeFunction(body.function);
+            }
+        } finally {
+            if (pool != null)
+                pool.shutdown();
+        }
+        semanticErrorOccurred = declarations.semanticErrorOccurred() || diagnostics.hasErrors();
+        if (emitIR && writer != null && !semanticErrorOccurred)
+            writer.writeEnd(program);
+
+        scopePushes = declarations.getSymbolTable().getScopePushes();
+        symbolLookups = declarations.getSymbolTable().getSymbolLookups();
+        for (SymbolTable table : allTables) {
+            scopePushes += table.getScopePushes();
+            symbolLookups += table.getSymbolLookups();
+        }
+    }
+
+    // bodies the coordinator runs itself while it waits are already in its own measurements
+    private Body checkBody(TigerParser.FunctContext function, Scope globals, boolean emitIR, Thread coordinator) {
+        long[] usage = stats == null || Thread.currentThread() == coordinator ? null : stats.threadUsage();
+        SymbolTable table = tables.get();
+        table.setGlobals(globals);
+        StringWriter dump = table_writer == null ? null : new StringWriter();
+        table.setDump(dump);
+        Diagnostics bodyDiagnostics = new Diagnostics();
+        IRGenerator generator = new IRGenerator(program);
+        Optimizer optimizer = optimization_level > 0 ? new Optimizer(optimization_level) : null;
+        generator.setOptimizer(optimizer);
+        SemanticChecking checking = new SemanticChecking(table, generator, emitIR, bodyDiagnostics);
+        new IterativeParseTreeWalker().walk(checking, function);
+        table.setDump(null);
+        Body body = new Body();
+        body.diagnostics = bodyDiagnostics.getDiagnostics();
+        body.dump = dump == null ? null : dump.getBuffer();
+        if (emitIR && !checking.semanticErrorOccurred())
+            body.function = generator.getLastFunction();
+        if (optimizer != null) {
+            body.eliminatedInstructions = optimizer.getEliminatedInstructions();
+            body.hoistedInstructions = optimizer.getHoistedInstructions();
+            body.reducedMultiplications = optimizer.getReducedMultiplications();
+        }
+        if (usage != null) {
+            long[] now = stats.threadUsage();
+            body.cpuNanos = now[0] - usage[0];
+            body.allocatedBytes = now[1] - usage[1];
+        }
+        return body;
+    }
+
+    private static Body restore(FunctionCache.Entry entry, int firstLine) {
+        Body body = new Body();
+        body.diagnostics = new ArrayList<>(entry.diagnostics.size());
+        for (Diagnostic d : entry.diagnostics)
+            body.diagnostics.add(new Diagnostic(d.error, d.line + firstLine, d.column, d.type, d.message));
+        body.dump = entry.dump;
+        body.ir = entry.ir;
+        return body;
+    }
+
+    // the IR is formatted once, the text is both cached and written
+    private static FunctionCache.Entry save(Body body, int firstLine) {
+        List<Diagnostic> diagnostics = new ArrayList<>(body.diagnostics.size());
+        for (Diagnostic d : body.diagnostics)
+            diagnostics.add(new Diagnostic(d.error, d.line - firstLine, d.column, d.type, d.message));
+        if (body.function != null) {
+            StringBuilder ir = new StringBuilder();
+            body.function.appendTo(ir);
+            body.ir = ir.toString();
+        }
+        return new FunctionCache.Entry(diagnostics, body.dump == null ? null : body.dump.toString(), body.ir);
+    }
+
+    // hashes the source text from the start of the first token to the end of the last one, with its
+    // length so that consecutive texts cannot run into each other
+    private static void hash(MessageDigest digest, Token first, Token last) {
+        String text = "";
+        if (last.getStopIndex() >= first.getStartIndex())
+            text = first.getInputStream().getText(Interval.of(first.getStartIndex(), last.getStopIndex()));
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(0, bytes.length));
+        digest.update(bytes);
+    }
+
+    private static String key(MessageDigest visible, ParserRuleContext function) {
+        try {
+            MessageDigest digest = (MessageDigest) visible.clone();
+            hash(digest, function.getStart(), function.getStop());
+            return FunctionCache.toKey(digest.digest());
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void merge(List<Diagnostic> from, int start, int end, CharSequence dump, int dumpStart, int dumpEnd) {
+        for (int i = start; i < end; ++i)
+            diagnostics.add(from.get(i));
+        if (table_writer == null)
+            return;
+        try {
+            table_writer.append(dump, dumpStart, dumpEnd);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -13,6 +13,9 @@ public class ParseTreeToGraphViz extends TigerBaseListener{
 
         String text = ctx.getClass().getSimpleName();
         text = text.substring(0, text.length() - 7); // 7 length of the word "Context"
+        // if and if-else share one grammar rule; the graph keeps telling them apart
+        if (ctx instanceof TigerParser.If_statContext && ((TigerParser.If_statContext) ctx).ELSE() != null)
+            text = "If_else_stat";
         Integer id = ctx.hashCode();
         builder.addAttribute(id.toString(), "label", String.format("\"%s\"", text));
         for(int i = 0; i < ctx.getChildCount(); ++i){
@@ -0,0 +1,400 @@
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates large Tiger programs that pass lexing, parsing and semantic checking, for benchmarks
+ * and memory profiling. The output only depends on the seed and the size knobs.
+ *
+ * Usage: java ProgramGenerator [-seed n] [-size bytes] [-functions n] [-statements n] [-depth n]
+ *                              [-expr n] [-globals n] [-arrays n] [-array-size n] [-o file]
+ * When -size is given, functions are generated until the program reaches that many bytes.
+ */
+public class ProgramGenerator {
+    public long seed = 0;
+    public long size = -1;
+    public int functions = 100;
+    public int statements = 8;      // statements per block
+    public int depth = 3;           // nesting of let/if/while/for blocks in a function body
+    public int expressionLength = 6; // operators in one arithmetic chain
+    public int globals = 8;         // scalar globals of each of int and float
+    public int arrays = 4;          // static arrays of each of int and float
+    public int arraySize = 1000;
+
+    private Random random;
+    private Writer out;
+    private long written;
+    private int fresh;
+
+    // what the code being generated can currently see
+    private final List<String> intVars = new ArrayList<>();
+    private final List<String> floatVars = new ArrayList<>();
+    private final List<String> intArrays = new ArrayList<>();
+    private final List<String> floatArrays = new ArrayList<>();
+    private final List<Function> callable = new ArrayList<>();
+    // int variables a statement may not assign, e.g. the counters of enclosing loops
+    private final List<String> locked = new ArrayList<>();
+
+    private static class Function {
+        final String name;
+        final Type returnType;
+        final List<Type> params;
+
+        Function(String name, Type returnType, List<Type> params) {
+            this.name = name;
+            this.returnType = returnType;
+            this.params = params;
+        }
+    }
+
+    public void generate(Writer out) throws IOException {
+        this.out = out;
+        random = new Random(seed);
+        written = 0;
+        fresh = 0;
+        intVars.clear();
+        floatVars.clear();
+        intArrays.clear();
+        floatArrays.clear();
+        callable.clear();
+        locked.clear();
+        callable.add(new Function("printi", Type.VOID, List.of(Type.INT)));
+        callable.add(new Function("printf", Type.VOID, List.of(Type.FLOAT)));
+
+        emit("program generated\nlet\n");
+        emit("  type myint = int;\n");
+        emit("  type myfloat = float;\n");
+        for (int i = 0; i < arrays; ++i) {
+            emit("  type IntArray" + i + " = array [" + arraySize + "] of int;\n");
+            emit("  type FloatArray" + i + " = array [" + arraySize + "] of float;\n");
+        }
+        for (int i = 0; i < arrays; ++i) {
+            declare("  static", "ia" + i, "IntArray" + i, "0", intArrays);
+            declare("  static", "fa" + i, "FloatArray" + i, "0.0", floatArrays);
+        }
+        for (int i = 0; i < globals; ++i) {
+            declare("  static", "gi" + i, random.nextBoolean() ? "int" : "myint", "0", intVars);
+            declare("  static", "gf" + i, random.nextBoolean() ? "float" : "myfloat", "0.0", floatVars);
+        }
+        emit("begin\n");
+        for (int i = 0; size >= 0 ? written < size : i < functions; ++i) {
+            function("f" + i);
+        }
+        emit("  function main()\n  begin\n");
+        block(2, 0, Type.VOID);
+        emit("  end\nend\n");
+        out.flush();
+    }
+
+    public String generate() {
+        java.io.StringWriter writer = new java.io.StringWriter();
+        try {
+            generate(writer);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return writer.toString();
+    }
+
+    private void function(String name) throws IOException {
+        int intMark = intVars.size(), floatMark = floatVars.size();
+        Type returnType = randomType(true);
+        List<Type> params = new ArrayList<>();
+        StringBuilder header = new StringBuilder("  function ").append(name).append("(");
+        int paramCount = random.nextInt(4);
+        for (int i = 0; i < paramCount; ++i) {
+            Type type = randomType(false);
+            String param = "p" + i;
+            if (i != 0) header.append(", ");
+            header.append(param).append(" : ").append(type);
+            params.add(type);
+            (type == Type.INT ? intVars : floatVars).add(param);
+        }
+        header.append(")");
+        if (returnType != Type.VOID)
+            header.append(" : ").append(returnType);
+        emit(header.append("\n  begin\n").toString());
+        block(2, 0, returnType);
+        emit("  end\n");
+        truncate(intVars, intMark);
+        truncate(floatVars, floatMark);
+        callable.add(new Function(name, returnType, params));
+    }
+
+    // a let statement with its own locals, a few statements and, in a function, the final return
+    private void block(int indent, int level, Type returnType) throws IOException {
+        int intMark = intVars.size(), floatMark = floatVars.size();
+        String pad = "  ".repeat(indent);
+        emit(pad + "let\n");
+        String i = local(), f = local();
+        declare(pad + "  var", i, "int", Integer.toString(random.nextInt(10)), null);
+        declare(pad + "  var", f, "float", random.nextInt(10) + ".5", null);
+        intVars.add(i);
+        floatVars.add(f);
+        emit(pad + "begin\n");
+        for (int n = 0; n < statements; ++n) {
+            statement(indent + 1, level, returnType);
+        }
+        if (returnType != Type.VOID && level == 0)
+            emit(pad + "  return " + expression(returnType, expressionLength) + ";\n");
+        emit(pad + "end\n");
+        truncate(intVars, intMark);
+        truncate(floatVars, floatMark);
+    }
+
+    private void statement(int indent, int level, Type returnType) throws IOException {
+        String pad = "  ".repeat(indent);
+        int kind = random.nextInt(level < depth ? 9 : 4);
+        switch (kind) {
+            case 0:
+            case 1: {
+                Type type = randomType(false);
+                String target = assignable(type);
+                if (target == null) target = element(type);
+                if (target == null) {
+                    call(pad);
+                    break;
+                }
+                emit(pad + target + " := " + expression(type, expressionLength) + ";\n");
+                break;
+            }
+            case 2: {
+                String target = element(randomType(false));
+                if (target == null) {
+                    call(pad);
+                    break;
+                }
+                emit(pad + target + " := " + expression(Type.INT, expressionLength) + ";\n");
+                break;
+            }
+            case 3:
+                call(pad);
+                break;
+            case 4:
+                emit(pad + "if " + condition() + " then\n");
+                statements(indent + 1, level + 1, returnType);
+                emit(pad + "endif;\n");
+                break;
+            case 5:
+                emit(pad + "if " + condition() + " then\n");
+                statements(indent + 1, level + 1, returnType);
+                emit(pad + "else\n");
+                statements(indent + 1, level + 1, returnType);
+                emit(pad + "endif;\n");
+                break;
+            case 6: {
+                String counter = counter();
+                if (counter == null) {
+                    call(pad);
+                    break;
+                }
+                emit(pad + counter + " := 0;\n");
+                emit(pad + "while " + counter + " < " + (1 + random.nextInt(100)) + " do\n");
+                locked.add(counter);
+                statements(indent + 1, level + 1, returnType);
+                locked.remove(locked.size() - 1);
+                emit(pad + "  " + counter + " := " + counter + " + 1;\n");
+                if (random.nextInt(4) == 0)
+                    emit(pad + "  if " + counter + " > " + random.nextInt(50) + " then break; endif;\n");
+                emit(pad + "enddo;\n");
+                break;
+            }
+            case 7: {
+                String counter = counter();
+                if (counter == null) {
+                    call(pad);
+                    break;
+                }
+                emit(pad + "for " + counter + " := 0 to " + (arraySize - 1) + " do\n");
+                locked.add(counter);
+                statements(indent + 1, level + 1, returnType);
+                if (!intArrays.isEmpty())
+                    emit(pad + "  " + pick(intArrays) + "[" + counter + "] := " + counter + " * 4 + " + operand(Type.INT) + ";\n");
+                locked.remove(locked.size() - 1);
+                emit(pad + "enddo;\n");
+                break;
+            }
+            default:
+                block(indent, level + 1, returnType);
+        }
+    }
+
+    private void statements(int indent, int level, Type returnType) throws IOException {
+        int count = 1 + random.nextInt(Math.max(1, statements / 2));
+        for (int i = 0; i < count; ++i) {
+            statement(indent, level, returnType);
+        }
+    }
+
+    private void call(String pad) throws IOException {
+        Function function = callable.get(random.nextInt(callable.size()));
+        StringBuilder call = new StringBuilder(pad);
+        if (function.returnType != Type.VOID && random.nextBoolean()) {
+            String target = assignable(function.returnType);
+            if (target != null)
+                call.append(target).append(" := ");
+        }
+        call.append(function.name).append("(");
+        for (int i = 0; i < function.params.size(); ++i) {
+            if (i != 0) call.append(", ");
+            call.append(expression(function.params.get(i), 2));
+        }
+        emit(call.append(");\n").toString());
+    }
+
+    private String condition() {
+        StringBuilder condition = new StringBuilder();
+        int terms = 1 + random.nextInt(3);
+        for (int i = 0; i < terms; ++i) {
+            if (i != 0) condition.append(random.nextBoolean() ? " & " : " | ");
+            Type type = randomType(false);
+            String[] compare = {"==", "!=", "<", ">", "<=", ">="};
+            condition.append(expression(type, 2)).append(' ')
+                    .append(compare[random.nextInt(compare.length)]).append(' ')
+                    .append(expression(type, 2));
+        }
+        return condition.toString();
+    }
+
+    // an arithmetic chain; float chains mix in int operands, which are promoted
+    private String expression(Type type, int length) {
+        StringBuilder expression = new StringBuilder(operand(type));
+        int operators = random.nextInt(length + 1);
+        for (int i = 0; i < operators; ++i) {
+            switch (random.nextInt(6)) {
+                case 0:
+                case 1:
+                    expression.append(" + ").append(operand(mixed(type)));
+                    break;
+                case 2:
+                    expression.append(" - ").append(operand(mixed(type)));
+                    break;
+                case 3:
+                    expression.append(" * ").append(operand(mixed(type)));
+                    break;
+                case 4:
+                    expression.append(" / ").append(1 + random.nextInt(9));
+                    break;
+                default:
+                    expression.append(" * (").append(operand(type)).append(" + ")
+                            .append(operand(mixed(type))).append(")");
+            }
+        }
+        return expression.toString();
+    }
+
+    private String operand(Type type) {
+        int kind = random.nextInt(8);
+        if (kind == 0)
+            return literal(type);
+        if (kind == 1)
+            return "(" + operand(type) + ") ** " + (1 + random.nextInt(3));
+        List<String> arrays = type == Type.INT ? intArrays : floatArrays;
+        if (kind == 2 && !arrays.isEmpty())
+            return pick(arrays) + "[" + random.nextInt(arraySize) + "]";
+        List<String> vars = type == Type.INT ? intVars : floatVars;
+        return vars.isEmpty() ? literal(type) : pick(vars);
+    }
+
+    private String literal(Type type) {
+        if (type == Type.INT)
+            return Integer.toString(random.nextInt(100));
+        return random.nextInt(100) + "." + random.nextInt(100);
+    }
+
+    // an array element, or a variable when there are no arrays; null when neither can be assigned
+    private String element(Type type) {
+        List<String> arrays = type == Type.INT ? intArrays : floatArrays;
+        if (arrays.isEmpty())
+            return assignable(type);
+        return pick(arrays) + "[" + random.nextInt(arraySize) + "]";
+    }
+
+    // a variable that is not the counter of an enclosing loop, null when all of them are
+    private String assignable(Type type) {
+        List<String> vars = type == Type.INT ? intVars : floatVars;
+        if (vars.isEmpty())
+            return null;
+        int start = random.nextInt(vars.size());
+        for (int i = 0; i < vars.size(); ++i) {
+            String var = vars.get((start + i) % vars.size());
+            if (!locked.contains(var))
+                return var;
+        }
+        return null;
+    }
+
+    // loop counters are locals, so that no call inside the loop can reset them
+    private String counter() {
+        for (int tries = 0; tries < 4; ++tries) {
+            String var = assignable(Type.INT);
+            if (var != null && !var.startsWith("g"))
+                return var;
+        }
+        return null;
+    }
+
+    private Type mixed(Type type) {
+        return type == Type.FLOAT && random.nextBoolean() ? Type.INT : type;
+    }
+
+    private Type randomType(boolean allowVoid) {
+        int kind = random.nextInt(allowVoid ? 3 : 2);
+        return kind == 0 ? Type.INT : kind == 1 ? Type.FLOAT : Type.VOID;
+    }
+
+    private String pick(List<String> list) {
+        return list.get(random.nextInt(list.size()));
+    }
+
+    private String local() {
+        return "v" + fresh++;
+    }
+
+    // storage is the indented storage class, e.g. "  static"
+    private void declare(String storage, String name, String type, String value, List<String> into) throws IOException {
+        emit(storage + " " + name + " : " + type + " := " + value + ";\n");
+        if (into != null)
+            into.add(name);
+    }
+
+    private static void truncate(List<String> list, int size) {
+        list.subList(size, list.size()).clear();
+    }
+
+    private void emit(String text) throws IOException {
+        out.write(text);
+        written += text.length();
+    }
+
+    public static void main(String[] args) throws IOException {
+        ProgramGenerator generator = new ProgramGenerator();
+        String output = null;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "-seed": generator.seed = Long.parseLong(value); break;
+                case "-size": generator.size = Long.parseLong(value); break;
+                case "-functions": generator.functions = Integer.parseInt(value); break;
+                case "-statements": generator.statements = Integer.parseInt(value); break;
+                case "-depth": generator.depth = Integer.parseInt(value); break;
+                case "-expr": generator.expressionLength = Integer.parseInt(value); break;
+                case "-globals": generator.globals = Integer.parseInt(value); break;
+                case "-arrays": generator.arrays = Integer.parseInt(value); break;
+                case "-array-size": generator.arraySize = Integer.parseInt(value); break;
+                case "-o": output = value; break;
+                default:
+                    System.err.println("unknown option " + args[i]);
+                    System.exit(Error.ARGUMENT_ERROR.getValue());
+            }
+        }
+        try (Writer writer = new BufferedWriter(output == null ? new OutputStreamWriter(System.out) : new FileWriter(output), 1 << 16)) {
+            generator.generate(writer);
+        }
+    }
+}
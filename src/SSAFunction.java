@@ -0,0 +1,717 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SSA form of one IR function, for the optimizer. Local scalars (parameters, variables and
+ * temporaries) become values, {@link Operand#VALUE} operands defined exactly once; arrays and static
+ * variables stay memory. A value a variable has on entry (a parameter, or whatever an uninitialized
+ * local holds) is defined before the first instruction. Phis are placed on the dominance frontiers
+ * of the definitions of every variable that is live across blocks and the values are renamed along
+ * the dominator tree.
+ * <p>
+ * Instructions are kept by id, a deleted instruction is null. Passes may delete instructions, rewrite
+ * operands and remove edges, so the dominator tree of the graph the form was built from stays correct
+ * (a block keeps its dominators when paths go away), and {@link #toIR()} writes the function back.
+ */
+public class SSAFunction {
+    final IRFunction function;
+    final List<Instruction> instructions = new ArrayList<>();
+    final IntList instructionBlocks = new IntList();
+    final int numBlocks;
+    // per block: its phis, then the other instructions in order (the label first, the jump last)
+    final IntList[] phis, code;
+    // a phi has its arguments in the order of the predecessors of its block
+    final IntList[] predecessors, successors;
+    // unreachable blocks, and blocks the passes found to be unreachable
+    final boolean[] removed;
+    final int[] idom;
+    // loop nesting of the graph the form was built from, see ControlFlowGraph#loopParent(int)
+    final int[] loopParent, loopDepth;
+    final boolean[] loopHeader;
+    final int[] labelBlocks;
+    // variable and defining instruction of every value, -1 for the value on entry
+    final IntList valueVars = new IntList();
+    final IntList valueDefs = new IntList();
+    private final int[] entryValues;
+
+    public SSAFunction(IRFunction function) {
+        this.function = function;
+        List<Instruction> ir = function.instructions;
+        // the entry block must not be a jump target, its phis would have no edge for the entry values
+        if (!ir.isEmpty() && ir.get(0).opcode == Opcode.LABEL)
+            ir.add(0, new Instruction(Opcode.GOTO, ir.get(0).operands[0]));
+        ControlFlowGraph cfg = new ControlFlowGraph(function);
+        numBlocks = cfg.numBlocks();
+        phis = new IntList[numBlocks];
+        code = new IntList[numBlocks];
+        predecessors = new IntList[numBlocks];
+        successors = new IntList[numBlocks];
+        removed = new boolean[numBlocks];
+        idom = new int[numBlocks];
+        loopParent = new int[numBlocks];
+        loopDepth = new int[numBlocks];
+        loopHeader = new boolean[numBlocks];
+        labelBlocks = new int[function.numLabels()];
+        for (int b = 0; b < numBlocks; ++b) {
+            phis[b] = new IntList(2);
+            code[b] = new IntList(Math.max(cfg.end(b) - cfg.start(b), 1));
+            predecessors[b] = new IntList(2);
+            successors[b] = new IntList(2);
+            removed[b] = !cfg.isReachable(b);
+            idom[b] = cfg.idom(b);
+            loopParent[b] = cfg.loopParent(b);
+            loopDepth[b] = cfg.loopDepth(b);
+            loopHeader[b] = cfg.isLoopHeader(b);
+            if (removed[b])
+                continue;
+            for (int i = 0; i < cfg.numPredecessors(b); ++i) {
+                if (cfg.isReachable(cfg.predecessor(b, i)))
+                    predecessors[b].add(cfg.predecessor(b, i));
+            }
+            for (int i = 0; i < cfg.numSuccessors(b); ++i)
+                successors[b].add(cfg.successor(b, i));
+            for (int i = cfg.start(b); i < cfg.end(b); ++i) {
+                Instruction instruction = ir.get(i);
+                if (instruction.opcode == Opcode.LABEL)
+                    labelBlocks[Operand.index(instruction.operands[0])] = b;
+                code[b].add(add(new Instruction(instruction.opcode, instruction.operands.clone()), b));
+            }
+        }
+        entryValues = new int[function.numVars()];
+        Arrays.fill(entryValues, -1);
+        placePhis(cfg);
+        rename(cfg);
+    }
+
+    public int numValues() {
+        return valueVars.size();
+    }
+
+    public boolean isFloat(int value) {
+        return function.isFloatVar(valueVars.get(value));
+    }
+
+    /**
+     * Whether the operand is a local scalar, that is a value in SSA form.
+     */
+    boolean isScalar(int operand) {
+        return Operand.kind(operand) == Operand.LOCAL && function.varSize(Operand.index(operand)) == 0;
+    }
+
+    /**
+     * Position of the operand the instruction writes, -1 if it writes none. All others are read.
+     */
+    static int defIndex(Instruction instruction) {
+        switch (instruction.opcode) {
+            case ASSIGN:
+                return instruction.operands.length == 2 ? 0 : -1;
+            case ADD:
+            case SUB:
+            case MULT:
+            case DIV:
+            case AND:
+            case OR:
+                return 2;
+            case CALLR:
+            case ARRAY_LOAD:
+            case PHI:
+                return 0;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * The value the instruction defines, -1 if it defines none.
+     */
+    static int defValue(Instruction instruction) {
+        int def = defIndex(instruction);
+        if (def < 0 || Operand.kind(instruction.operands[def]) != Operand.VALUE)
+            return -1;
+        return Operand.index(instruction.operands[def]);
+    }
+
+    int add(Instruction instruction, int block) {
+        instructions.add(instruction);
+        instructionBlocks.add(block);
+        return instructions.size() - 1;
+    }
+
+    int newValue(int var, int def) {
+        valueVars.add(var);
+        valueDefs.add(def);
+        return valueVars.size() - 1;
+    }
+
+    void delete(int id) {
+        instructions.set(id, null);
+    }
+
+    /**
+     * Whether the block is in the loop of {@code header}, which includes the loops nested in it.
+     */
+    boolean inLoop(int block, int header) {
+        for (int b = block; b != -1; b = loopParent[b]) {
+            if (b == header)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Inserts the instruction into the block before its jump, or at its end when it falls through.
+     */
+    int insertBeforeJump(Instruction instruction, int block) {
+        int id = add(instruction, block);
+        placeBeforeJump(id, block);
+        return id;
+    }
+
+    /**
+     * Inserts the instruction into the block of instruction {@code after}, right after it.
+     */
+    int insertAfter(Instruction instruction, int after) {
+        int block = instructionBlocks.get(after);
+        int id = add(instruction, block);
+        code[block].insert(code[block].indexOf(after) + 1, id);
+        return id;
+    }
+
+    /**
+     * Moves an instruction other than a phi to another block, before its jump.
+     */
+    void moveBeforeJump(int id, int block) {
+        code[instructionBlocks.get(id)].removeValue(id);
+        instructionBlocks.set(id, block);
+        placeBeforeJump(id, block);
+    }
+
+    private void placeBeforeJump(int id, int block) {
+        int last = lastId(block);
+        Opcode opcode = last < 0 ? null : instructions.get(last).opcode;
+        if (opcode == Opcode.GOTO || opcode == Opcode.RETURN || (opcode != null && opcode.isBranch()))
+            code[block].insert(code[block].indexOf(last), id);
+        else
+            code[block].add(id);
+    }
+
+    /**
+     * The last instruction of the block that is not deleted, or null.
+     */
+    Instruction last(int block) {
+        int id = lastId(block);
+        return id < 0 ? null : instructions.get(id);
+    }
+
+    int lastId(int block) {
+        IntList ids = code[block];
+        for (int i = ids.size() - 1; i >= 0; --i) {
+            if (instructions.get(ids.get(i)) != null)
+                return ids.get(i);
+        }
+        return -1;
+    }
+
+    /**
+     * Removes the edge and the phi arguments for it.
+     */
+    void removeEdge(int from, int to) {
+        successors[from].removeValue(to);
+        int index = predecessors[to].indexOf(from);
+        if (index < 0)
+            return;
+        predecessors[to].remove(index);
+        for (int i = 0; i < phis[to].size(); ++i) {
+            int id = phis[to].get(i);
+            Instruction phi = instructions.get(id);
+            if (phi == null)
+                continue;
+            int[] operands = new int[phi.operands.length - 1];
+            System.arraycopy(phi.operands, 0, operands, 0, index + 1);
+            System.arraycopy(phi.operands, index + 2, operands, index + 1, operands.length - index - 1);
+            instructions.set(id, new Instruction(Opcode.PHI, operands));
+        }
+    }
+
+    /**
+     * Instructions reading each value: the readers of value v are {@code users[starts[v]]} up to
+     * {@code users[starts[v + 1]]}, an instruction reading a value twice is there twice.
+     */
+    static final class Users {
+        final int[] starts, users;
+
+        Users(int[] starts, int[] users) {
+            this.starts = starts;
+            this.users = users;
+        }
+    }
+
+    Users users() {
+        int[] starts = new int[numValues() + 2];
+        for (Instruction instruction : instructions) {
+            if (instruction == null)
+                continue;
+            int def = defIndex(instruction);
+            for (int i = 0; i < instruction.operands.length; ++i) {
+                if (i != def && Operand.kind(instruction.operands[i]) == Operand.VALUE)
+                    starts[Operand.index(instruction.operands[i]) + 2]++;
+            }
+        }
+        for (int v = 0; v < numValues(); ++v)
+            starts[v + 2] += starts[v + 1];
+        int[] users = new int[starts[numValues() + 1]];
+        for (int id = 0; id < instructions.size(); ++id) {
+            Instruction instruction = instructions.get(id);
+            if (instruction == null)
+                continue;
+            int def = defIndex(instruction);
+            for (int i = 0; i < instruction.operands.length; ++i) {
+                if (i != def && Operand.kind(instruction.operands[i]) == Operand.VALUE)
+                    users[starts[Operand.index(instruction.operands[i]) + 1]++] = id;
+            }
+        }
+        return new Users(Arrays.copyOf(starts, numValues() + 1), users);
+    }
+
+    // semi-pruned: only variables read in some block before that block writes them get phis
+    private void placePhis(ControlFlowGraph cfg) {
+        int vars = function.numVars();
+        boolean[] crossing = new boolean[vars];
+        int[] written = new int[vars];
+        Arrays.fill(written, -1);
+        IntList[] defBlocks = new IntList[vars];
+        for (int b = 0; b < numBlocks; ++b) {
+            for (int i = 0; i < code[b].size(); ++i) {
+                Instruction instruction = instructions.get(code[b].get(i));
+                int def = defIndex(instruction);
+                for (int j = 0; j < instruction.operands.length; ++j) {
+                    int operand = instruction.operands[j];
+                    if (j != def && isScalar(operand) && written[Operand.index(operand)] != b)
+                        crossing[Operand.index(operand)] = true;
+                }
+                if (def >= 0 && isScalar(instruction.operands[def])) {
+                    int var = Operand.index(instruction.operands[def]);
+                    if (written[var] != b) {
+                        written[var] = b;
+                        if (defBlocks[var] == null)
+                            defBlocks[var] = new IntList(2);
+                        defBlocks[var].add(b);
+                    }
+                }
+            }
+        }
+
+        IntList[] frontiers = new IntList[numBlocks];
+        for (int b = 0; b < numBlocks; ++b) {
+            if (removed[b] || predecessors[b].size() < 2)
+                continue;
+            for (int i = 0; i < predecessors[b].size(); ++i) {
+                for (int runner = predecessors[b].get(i); runner != idom[b]; runner = idom[runner]) {
+                    if (frontiers[runner] == null)
+                        frontiers[runner] = new IntList(2);
+                    else if (frontiers[runner].last() == b)
+                        break;
+                    frontiers[runner].add(b);
+                }
+            }
+        }
+
+        int[] hasPhi = new int[numBlocks];
+        int[] queued = new int[numBlocks];
+        Arrays.fill(hasPhi, -1);
+        Arrays.fill(queued, -1);
+        IntList work = new IntList();
+        for (int var = 0; var < vars; ++var) {
+            if (!crossing[var] || defBlocks[var] == null)
+                continue;
+            for (int i = 0; i < defBlocks[var].size(); ++i) {
+                work.add(defBlocks[var].get(i));
+                queued[defBlocks[var].get(i)] = var;
+            }
+            while (!work.isEmpty()) {
+                int b = work.removeLast();
+                if (frontiers[b] == null)
+                    continue;
+                for (int i = 0; i < frontiers[b].size(); ++i) {
+                    int f = frontiers[b].get(i);
+                    if (hasPhi[f] == var)
+                        continue;
+                    hasPhi[f] = var;
+                    int[] operands = new int[predecessors[f].size() + 1];
+                    Arrays.fill(operands, Operand.of(Operand.LOCAL, var));
+                    phis[f].add(add(new Instruction(Opcode.PHI, operands), f));
+                    if (queued[f] != var) {
+                        queued[f] = var;
+                        work.add(f);
+                    }
+                }
+            }
+        }
+    }
+
+    private int current(int[] values, int var) {
+        if (values[var] >= 0)
+            return values[var];
+        if (entryValues[var] < 0)
+            entryValues[var] = newValue(var, -1);
+        return entryValues[var];
+    }
+
+    private void rename(ControlFlowGraph cfg) {
+        int[] values = new int[function.numVars()];
+        Arrays.fill(values, -1);
+        // variable and previous value of every definition on the way down the dominator tree
+        IntList undo = new IntList();
+        int[] stack = new int[numBlocks];
+        int[] undoMarks = new int[numBlocks];
+        int[] next = new int[numBlocks];
+        int top = 0;
+        stack[top++] = 0;
+        undoMarks[0] = enter(0, values, undo);
+        while (top > 0) {
+            int b = stack[top - 1];
+            if (next[b] < cfg.numChildren(b)) {
+                int child = cfg.child(b, next[b]++);
+                stack[top++] = child;
+                undoMarks[child] = enter(child, values, undo);
+            } else {
+                while (undo.size() > undoMarks[b]) {
+                    int previous = undo.removeLast();
+                    values[undo.removeLast()] = previous;
+                }
+                top--;
+            }
+        }
+    }
+
+    // renames the block and fills its arguments of the phis of its successors, returns the undo mark
+    private int enter(int b, int[] values, IntList undo) {
+        int mark = undo.size();
+        for (int i = 0; i < phis[b].size(); ++i) {
+            int id = phis[b].get(i);
+            int[] operands = instructions.get(id).operands;
+            int var = Operand.index(operands[0]);
+            undo.add(var);
+            undo.add(values[var]);
+            values[var] = newValue(var, id);
+            operands[0] = Operand.of(Operand.VALUE, values[var]);
+        }
+        for (int i = 0; i < code[b].size(); ++i) {
+            int id = code[b].get(i);
+            int[] operands = instructions.get(id).operands;
+            int def = defIndex(instructions.get(id));
+            for (int j = 0; j < operands.length; ++j) {
+                if (j != def && isScalar(operands[j]))
+                    operands[j] = Operand.of(Operand.VALUE, current(values, Operand.index(operands[j])));
+            }
+            if (def >= 0 && isScalar(operands[def])) {
+                int var = Operand.index(operands[def]);
+                undo.add(var);
+                undo.add(values[var]);
+                values[var] = newValue(var, id);
+                operands[def] = Operand.of(Operand.VALUE, values[var]);
+            }
+        }
+        for (int i = 0; i < successors[b].size(); ++i) {
+            int s = successors[b].get(i);
+            int index = predecessors[s].indexOf(b) + 1;
+            for (int j = 0; j < phis[s].size(); ++j) {
+                int[] operands = instructions.get(phis[s].get(j)).operands;
+                operands[index] = Operand.of(Operand.VALUE, current(values, Operand.index(operands[index])));
+            }
+        }
+        return mark;
+    }
+
+    /**
+     * Writes the function back as IR. Every value is named after its variable unless that variable
+     * has another value live where it is defined, then it gets a variable of its own. Phis become
+     * copies at the end of their predecessors; copies along an edge leaving a branch go after the
+     * branch when it falls through and to a new block at the end of the function when it jumps.
+     */
+    public void toIR() {
+        IntList[] liveOut = liveOut();
+        int[] names = valueVars.toArray();
+        nameValues(names, liveOut);
+
+        List<Instruction> out = new ArrayList<>(instructions.size());
+        List<Instruction> tail = new ArrayList<>();
+        IntList dsts = new IntList(), srcs = new IntList();
+        IntList fallDsts = new IntList(), fallSrcs = new IntList();
+        for (int b = 0; b < numBlocks; ++b) {
+            if (removed[b])
+                continue;
+            Instruction last = last(b);
+            boolean jumps = last != null && (last.opcode == Opcode.GOTO || last.opcode.isBranch());
+            for (int i = 0; i < code[b].size(); ++i) {
+                Instruction instruction = instructions.get(code[b].get(i));
+                if (instruction == null || (jumps && instruction == last))
+                    continue;
+                instruction = toIR(instruction, names);
+                if (instruction.opcode != Opcode.ASSIGN || instruction.operands.length != 2
+                        || instruction.operands[0] != instruction.operands[1])
+                    out.add(instruction);
+            }
+            if (last != null && last.opcode.isBranch()) {
+                int target = labelBlocks[Operand.index(last.operands[0])];
+                int fallthrough = successors[b].size() == 1 ? target : successors[b].get(0) == target
+                        ? successors[b].get(1) : successors[b].get(0);
+                Instruction branch = toIR(last, names);
+                phiCopies(b, target, names, dsts, srcs);
+                phiCopies(b, fallthrough, names, fallDsts, fallSrcs);
+                if (canHoist(b, branch, target == fallthrough, dsts, fallDsts, fallSrcs, names, liveOut)) {
+                    appendCopies(out, dsts, srcs);
+                    if (target == fallthrough)
+                        fallDsts.clear();
+                } else if (!dsts.isEmpty()) {
+                    int label = Operand.of(Operand.LABEL, function.newLabel());
+                    tail.add(new Instruction(Opcode.LABEL, label));
+                    appendCopies(tail, dsts, srcs);
+                    tail.add(new Instruction(Opcode.GOTO, last.operands[0]));
+                    int[] operands = branch.operands.clone();
+                    operands[0] = label;
+                    branch = new Instruction(branch.opcode, operands);
+                }
+                out.add(branch);
+                appendCopies(out, fallDsts, fallSrcs);
+            } else if (!successors[b].isEmpty()) {
+                phiCopies(b, successors[b].get(0), names, dsts, srcs);
+                appendCopies(out, dsts, srcs);
+                if (jumps)
+                    out.add(last);
+            }
+        }
+        if (!tail.isEmpty()) {
+            Instruction last = out.isEmpty() ? null : out.get(out.size() - 1);
+            if (last == null || (last.opcode != Opcode.GOTO && last.opcode != Opcode.RETURN)) {
+                int end = Operand.of(Operand.LABEL, function.newLabel());
+                out.add(new Instruction(Opcode.GOTO, end));
+                tail.add(new Instruction(Opcode.LABEL, end));
+            }
+            out.addAll(tail);
+        }
+
+        // jumps to the next instruction are left over by the entry block and by removed branches
+        function.instructions.clear();
+        for (int i = 0; i < out.size(); ++i) {
+            Instruction instruction = out.get(i);
+            if (instruction.opcode == Opcode.GOTO && jumpsToNext(out, i))
+                continue;
+            function.instructions.add(instruction);
+        }
+    }
+
+    // The copies for the jump of a branch can go before it, where they need no block of their own,
+    // when the branch does not read what they write and falling through cannot tell: what they write
+    // is neither live after the branch nor read by the copies of the fall through, or these
+    // overwrite it. When both edges go to one block the copies are the same.
+    private boolean canHoist(int b, Instruction branch, boolean same, IntList dsts, IntList fallDsts,
+                             IntList fallSrcs, int[] names, IntList[] liveOut) {
+        for (int i = 0; i < dsts.size(); ++i) {
+            int dst = dsts.get(i);
+            if (branch.operands[1] == dst || branch.operands[2] == dst)
+                return false;
+            if (same || fallDsts.indexOf(dst) >= 0 && fallSrcs.indexOf(dst) < 0)
+                continue;
+            if (fallSrcs.indexOf(dst) >= 0)
+                return false;
+            for (int j = 0; j < liveOut[b].size(); ++j) {
+                if (Operand.of(Operand.LOCAL, names[liveOut[b].get(j)]) == dst)
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean jumpsToNext(List<Instruction> out, int i) {
+        int label = out.get(i).operands[0];
+        for (int j = i + 1; j < out.size() && out.get(j).opcode == Opcode.LABEL; ++j) {
+            if (out.get(j).operands[0] == label)
+                return true;
+        }
+        return false;
+    }
+
+    private Instruction toIR(Instruction instruction, int[] names) {
+        int[] operands = instruction.operands.clone();
+        for (int i = 0; i < operands.length; ++i)
+            operands[i] = toIR(operands[i], names);
+        return new Instruction(instruction.opcode, operands);
+    }
+
+    private static int toIR(int operand, int[] names) {
+        if (Operand.kind(operand) != Operand.VALUE)
+            return operand;
+        return Operand.of(Operand.LOCAL, names[Operand.index(operand)]);
+    }
+
+    // the copies the phis of block to need on the edge from block from, without the ones to themselves
+    private void phiCopies(int from, int to, int[] names, IntList dsts, IntList srcs) {
+        dsts.clear();
+        srcs.clear();
+        int index = predecessors[to].indexOf(from) + 1;
+        for (int i = 0; i < phis[to].size(); ++i) {
+            Instruction phi = instructions.get(phis[to].get(i));
+            if (phi == null)
+                continue;
+            int dst = toIR(phi.operands[0], names);
+            int src = toIR(phi.operands[index], names);
+            if (dst != src) {
+                dsts.add(dst);
+                srcs.add(src);
+            }
+        }
+    }
+
+    // the copies of an edge happen at once: a copy waits while its destination is still to be read,
+    // and a cycle of copies is broken by saving one destination in a temporary
+    private void appendCopies(List<Instruction> out, IntList dsts, IntList srcs) {
+        while (!dsts.isEmpty()) {
+            boolean progress = false;
+            for (int i = 0; i < dsts.size(); ++i) {
+                if (srcs.indexOf(dsts.get(i)) >= 0)
+                    continue;
+                out.add(new Instruction(Opcode.ASSIGN, dsts.get(i), srcs.get(i)));
+                dsts.remove(i);
+                srcs.remove(i);
+                progress = true;
+                --i;
+            }
+            if (progress || dsts.isEmpty())
+                continue;
+            int dst = dsts.get(0);
+            int temp = function.newTemp(function.isFloat(dst));
+            out.add(new Instruction(Opcode.ASSIGN, temp, dst));
+            for (int i = 0; i < srcs.size(); ++i) {
+                if (srcs.get(i) == dst)
+                    srcs.set(i, temp);
+            }
+        }
+    }
+
+    private int defBlock(int value) {
+        int def = valueDefs.get(value);
+        return def < 0 ? 0 : instructionBlocks.get(def);
+    }
+
+    // the values live at the end of every block, found by walking back from the uses of each value
+    // to its definition; a phi reads its argument at the end of the predecessor
+    private IntList[] liveOut() {
+        IntList[] liveOut = new IntList[numBlocks];
+        for (int b = 0; b < numBlocks; ++b)
+            liveOut[b] = new IntList(4);
+        Users users = users();
+        int[] inStamp = new int[numBlocks];
+        int[] outStamp = new int[numBlocks];
+        Arrays.fill(inStamp, -1);
+        Arrays.fill(outStamp, -1);
+        IntList work = new IntList();
+        for (int v = 0; v < numValues(); ++v) {
+            int defBlock = defBlock(v);
+            for (int u = users.starts[v]; u < users.starts[v + 1]; ++u) {
+                int id = users.users[u];
+                Instruction user = instructions.get(id);
+                int block = instructionBlocks.get(id);
+                if (user.opcode == Opcode.PHI) {
+                    for (int i = 1; i < user.operands.length; ++i) {
+                        if (user.operands[i] == Operand.of(Operand.VALUE, v))
+                            liveAtEnd(predecessors[block].get(i - 1), v, defBlock, liveOut, inStamp, outStamp, work);
+                    }
+                } else if (block != defBlock && inStamp[block] != v) {
+                    inStamp[block] = v;
+                    work.add(block);
+                }
+                while (!work.isEmpty()) {
+                    int b = work.removeLast();
+                    for (int i = 0; i < predecessors[b].size(); ++i)
+                        liveAtEnd(predecessors[b].get(i), v, defBlock, liveOut, inStamp, outStamp, work);
+                }
+            }
+        }
+        return liveOut;
+    }
+
+    private static void liveAtEnd(int b, int v, int defBlock, IntList[] liveOut, int[] inStamp, int[] outStamp,
+                                  IntList work) {
+        if (outStamp[b] == v)
+            return;
+        outStamp[b] = v;
+        liveOut[b].add(v);
+        if (b != defBlock && inStamp[b] != v) {
+            inStamp[b] = v;
+            work.add(b);
+        }
+    }
+
+    // Walks every block backwards keeping count of the live values of each variable; a value
+    // defined while another one of its variable is live gets a new variable.
+    private void nameValues(int[] names, IntList[] liveOut) {
+        int vars = function.numVars();
+        int[] liveCounts = new int[vars];
+        boolean[] live = new boolean[numValues()];
+        IntList liveValues = new IntList();
+        for (int b = 0; b < numBlocks; ++b) {
+            if (removed[b])
+                continue;
+            for (int i = 0; i < liveOut[b].size(); ++i)
+                makeLive(liveOut[b].get(i), names, live, liveCounts, liveValues);
+            for (int i = code[b].size() - 1; i >= 0; --i) {
+                Instruction instruction = instructions.get(code[b].get(i));
+                if (instruction == null)
+                    continue;
+                int def = defValue(instruction);
+                if (def >= 0)
+                    define(def, names, live, liveCounts);
+                int defIndex = defIndex(instruction);
+                for (int j = 0; j < instruction.operands.length; ++j) {
+                    if (j != defIndex && Operand.kind(instruction.operands[j]) == Operand.VALUE)
+                        makeLive(Operand.index(instruction.operands[j]), names, live, liveCounts, liveValues);
+                }
+            }
+            for (int i = 0; i < phis[b].size(); ++i) {
+                Instruction phi = instructions.get(phis[b].get(i));
+                if (phi != null && live[Operand.index(phi.operands[0])]) {
+                    int def = Operand.index(phi.operands[0]);
+                    live[def] = false;
+                    liveCounts[names[def]]--;
+                }
+            }
+            for (int i = 0; i < phis[b].size(); ++i) {
+                Instruction phi = instructions.get(phis[b].get(i));
+                if (phi != null)
+                    define(Operand.index(phi.operands[0]), names, live, liveCounts);
+            }
+            for (int i = 0; i < liveValues.size(); ++i) {
+                int v = liveValues.get(i);
+                if (live[v]) {
+                    live[v] = false;
+                    if (names[v] < vars)
+                        liveCounts[names[v]]--;
+                }
+            }
+            liveValues.clear();
+        }
+    }
+
+    private static void makeLive(int v, int[] names, boolean[] live, int[] liveCounts, IntList liveValues) {
+        if (live[v])
+            return;
+        live[v] = true;
+        liveValues.add(v);
+        if (names[v] < liveCounts.length)
+            liveCounts[names[v]]++;
+    }
+
+    private void define(int v, int[] names, boolean[] live, int[] liveCounts) {
+        if (live[v]) {
+            live[v] = false;
+            if (names[v] < liveCounts.length)
+                liveCounts[names[v]]--;
+        }
+        if (names[v] < liveCounts.length && liveCounts[names[v]] > 0) {
+            int var = valueVars.get(v);
+            names[v] = Operand.index(function.addVariable(function.varName(var), function.isFloatVar(var), 0));
+        }
+    }
+}
@@ -1,22 +1,21 @@
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 
 public interface Scope{
 
     void addSymbol(Symbol symbol);
 
-    Symbol getSymbol(String symbolName);
+    Symbol getSymbol(int symbolId);
 
-    boolean hasSymbol(String symbolName);
+    boolean hasSymbol(int symbolId);
 
-    void removeSymbol(String symbolName);
+    void removeSymbol(int symbolId);
 
     String getName();
 }
 class GenericScope implements Scope{
 
-    // variable name, attribute name, attribute value
-    public Map<String, Symbol> symbols;
+    // variable identifier, attribute name, attribute value
+    public IntMap<Symbol> symbols;
     private String name;
 
     public GenericScope() {
@@ -24,22 +23,22 @@ class GenericScope implements Scope{
     }
 
     public GenericScope(String name) {
-        symbols = new HashMap<>();
+        symbols = new IntMap<>();
         this.name = name;
     }
     public void addSymbol(Symbol symbol) {
-        symbols.put(symbol.name, symbol);
+        symbols.put(symbol.id, symbol);
     }
 
-    public Symbol getSymbol(String symbolName) {
-        return symbols.get(symbolName);
+    public Symbol getSymbol(int symbolId) {
+        return symbols.get(symbolId);
     }
 
-    public boolean hasSymbol(String symbolName) {
-        return symbols.containsKey(symbolName);
+    public boolean hasSymbol(int symbolId) {
+        return symbols.containsKey(symbolId);
     }
 
-    public void removeSymbol(String symbolName){ symbols.remove(symbolName);}
+    public void removeSymbol(int symbolId){ symbols.remove(symbolId);}
 
     @Override
     public String getName() {
@@ -49,33 +48,180 @@ class GenericScope implements Scope{
 
 }
 
+/**
+ * The program scope. It remembers which functions saw each binding: a binding made while function k
+ * is declared is visible from function k on, until it is replaced or removed, so the scope as it was
+ * during any function body can be looked at later (see {@link #at(int)}).
+ */
+class GlobalScope implements Scope{
+    private static class Version {
+        final Symbol symbol;
+        final int from;
+        int until = Integer.MAX_VALUE;
+        final Version older;
+
+        Version(Symbol symbol, int from, Version older) {
+            this.symbol = symbol;
+            this.from = from;
+            this.older = older;
+        }
+    }
+
+    private final IntMap<Version> versions = new IntMap<>();
+    // the function being declared, -1 for the declarations before the first function
+    private int function = -1;
+
+    public void setFunction(int function) {
+        this.function = function;
+    }
+
+    public void addSymbol(Symbol symbol) {
+        Version current = versions.get(symbol.id);
+        if (current != null && current.until == Integer.MAX_VALUE)
+            current.until = function;
+        versions.put(symbol.id, new Version(symbol, function, current));
+    }
+
+    public Symbol getSymbol(int symbolId) {
+        Version current = versions.get(symbolId);
+        return current == null || current.until != Integer.MAX_VALUE ? null : current.symbol;
+    }
+
+    public boolean hasSymbol(int symbolId) {
+        return getSymbol(symbolId) != null;
+    }
+
+    // the symbol stays visible to the rest of the function being declared
+    public void removeSymbol(int symbolId) {
+        Version current = versions.get(symbolId);
+        if (current != null && current.until == Integer.MAX_VALUE)
+            current.until = function + 1;
+    }
+
+    /**
+     * Read-only view of the scope as the body of function {@code function} saw it.
+     */
+    public Scope at(int function) {
+        return new Scope() {
+            public void addSymbol(Symbol symbol) {
+                throw new UnsupportedOperationException("the global scope is read-only");
+            }
+
+            public Symbol getSymbol(int symbolId) {
+                Version version = versions.get(symbolId);
+                while (version != null && !(version.from <= function && function < version.until))
+                    version = version.older;
+                return version == null ? null : version.symbol;
+            }
+
+            public boolean hasSymbol(int symbolId) {
+                return getSymbol(symbolId) != null;
+            }
+
+            public void removeSymbol(int symbolId) {
+                throw new UnsupportedOperationException("the global scope is read-only");
+            }
+
+            public String getName() {
+                return "";
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return "";
+    }
+}
+
 class FunctionScope extends GenericScope{
-    public FunctionScope(String name) {
-        super(name);
+    public final int id;
+
+    public FunctionScope(int id) {
+        super(Identifiers.name(id));
+        this.id = id;
     }
 }
 
 
-class Symbol {
-    public String name;
-    public Map<String, Object> attributes;
+abstract class Symbol {
+    public final int id;
+    public final String name;
 
-    public Symbol(String name) {
-        this.name = name;
-        attributes = new HashMap<>();
+    public Symbol(int id) {
+        this.id = id;
+        this.name = Identifiers.name(id);
+    }
+
+    /**
+     * Declared type of a variable or the definition of a type, null for functions.
+     */
+    public Type getVarType() {
+        return null;
+    }
+}
+
+class VariableSymbol extends Symbol {
+    public final Type varType;
+    // "var" or "static", null for parameters
+    public final String storageClass;
+    // IR operand of the variable, Operand.NONE when no IR is generated
+    public final int operand;
+
+    public VariableSymbol(int id, Type varType, String storageClass, int operand) {
+        super(id);
+        this.varType = varType;
+        this.storageClass = storageClass;
+        this.operand = operand;
+    }
+
+    @Override
+    public Type getVarType() {
+        return varType;
     }
 
     @Override
     public String toString() {
-        StringBuilder builder = new StringBuilder();
-        builder.append(name).append(": ");
-        for(var pair: attributes.entrySet()){
-
-            if (pair.getValue() instanceof String)
-                builder.append((String)pair.getValue()).append(", ");
-            else
-                builder.append(pair.getValue().toString()).append(", ");
-        }
-        return builder.toString();
+        if (storageClass == null)
+            return name + ": " + varType + ", ";
+        return name + ": " + varType + ", " + storageClass + ", ";
+    }
+}
+
+class FunctionSymbol extends Symbol {
+    public final Type returnType;
+    public final List<Type> params;
+
+    public FunctionSymbol(int id, Type returnType, List<Type> params) {
+        super(id);
+        this.returnType = returnType;
+        this.params = params;
+    }
+
+    @Override
+    public String toString() {
+        return name + ": " + params + ", " + returnType + ", ";
     }
-}
\ No newline at end of file
+}
+
+class TypeSymbol extends Symbol {
+    public final Type varType;
+    // varType with all aliases resolved when the type was declared, null if that failed
+    public final Type baseType;
+
+    public TypeSymbol(int id, Type varType, Type baseType) {
+        super(id);
+        this.varType = varType;
+        this.baseType = baseType;
+    }
+
+    @Override
+    public Type getVarType() {
+        return varType;
+    }
+
+    @Override
+    public String toString() {
+        return name + ": " + varType + ", ";
+    }
+}
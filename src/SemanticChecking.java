@@ -1,22 +1,47 @@
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.RuleContext;
 import org.antlr.v4.runtime.tree.RuleNode;
+import org.antlr.v4.runtime.tree.TerminalNode;
 
-import java.io.IOException;
-import java.nio.file.Path;
+import java.io.Writer;
+import java.util.ArrayList;
 import java.util.List;
 
 public class SemanticChecking extends TigerBaseListener {
     private final SymbolTable symbolTable;
-    private final boolean save_table;
-    private final Path table_path;
     private boolean semanticErrorOccurred;
     private final IRGenerator irGenerator;
-
-    public SemanticChecking(boolean save_table, Path table_path) {
+    private final boolean build_ir;
+    private final Diagnostics diagnostics;
+    // function bodies only, the program scope and the function symbols are checked elsewhere
+    private final boolean body_only;
+    private GlobalScope globalScope;
+
+    /**
+     * The symbol table is written to {@code table_writer} while checking, unless it is null. With
+     * {@code build_ir} the program is lowered to IR as well, as long as it has no semantic errors.
+     */
+    public SemanticChecking(Writer table_writer, boolean build_ir, Diagnostics diagnostics) {
         symbolTable = new SymbolTable();
+        symbolTable.setDump(table_writer);
         irGenerator = new IRGenerator();
-        this.save_table = save_table;
-        this.table_path = table_path;
+        this.build_ir = build_ir;
+        this.diagnostics = diagnostics;
+        body_only = false;
+        semanticErrorOccurred = false;
+    }
+
+    /**
+     * Checks the bodies of functions already declared by another checker (see
+     * {@link #declareFunction}), with the program scope of {@code symbolTable}. The IR goes to
+     * {@code irGenerator}.
+     */
+    SemanticChecking(SymbolTable symbolTable, IRGenerator irGenerator, boolean build_ir, Diagnostics diagnostics) {
+        this.symbolTable = symbolTable;
+        this.irGenerator = irGenerator;
+        this.build_ir = build_ir;
+        this.diagnostics = diagnostics;
+        body_only = true;
         semanticErrorOccurred = false;
     }
 
@@ -24,26 +49,49 @@ public class SemanticChecking extends TigerBaseListener {
         return semanticErrorOccurred;
     }
 
+    public SymbolTable getSymbolTable() {
+        return symbolTable;
+    }
+
+    public IRGenerator getIRGenerator() {
+        return irGenerator;
+    }
+
+    public GlobalScope getGlobalScope() {
+        return globalScope;
+    }
+
     @Override
     public void enterTiger_program(TigerParser.Tiger_programContext ctx) {
-        symbolTable.addScope(new GenericScope()); // global scope
+        globalScope = new GlobalScope();
+        symbolTable.addScope(globalScope);
 
-        irGenerator.startProgram(ctx.id);
+        if (build_ir)
+            irGenerator.startProgram(ctx.id);
     }
 
     @Override
     public void exitTiger_program(TigerParser.Tiger_programContext ctx) {
         symbolTable.popScope();
-        try {
-            if(save_table)
-                symbolTable.toFile(table_path.toString());
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        if (emitIR())
+            irGenerator.endProgram();
     }
 
     @Override
     public void enterFunct(TigerParser.FunctContext ctx) {
+        if (!body_only)
+            declareFunction(ctx);
+        symbolTable.addScope(new FunctionScope(ctx.id)); // subroutine scope
+
+        if (emitIR())
+            irGenerator.startFunction(ctx.id, returnType(ctx));
+    }
+
+    /**
+     * Checks the header of the function and adds its symbol to the innermost scope. The attributes
+     * of the parse tree are left as parsed, so that the tree can be walked again.
+     */
+    void declareFunction(TigerParser.FunctContext ctx) {
         if(checkSemantic(!ctx.hasReturn && !ctx.retType.equals(Type.VOID), ctx.getStop().getLine(), ErrorType.noReturnError)) {
             checkSemantic(!ctx.hasReturn, ctx.getStart().getLine(), ErrorType.noReturnError);
             ctx.semError = true;
@@ -51,32 +99,31 @@ public class SemanticChecking extends TigerBaseListener {
         for(var line: ctx.breakLines)
             checkSemantic(ctx.outsideBreak, line, ErrorType.outsideBreakError);
         checkSemantic(symbolTable.getLast().hasSymbol(ctx.id), ctx.getStart().getLine(), ErrorType.redefineError);
-        Symbol function = new Symbol(ctx.id);
-        ctx.retType = getBaseType(ctx.retType);
-        if(checkSemantic(ctx.retType.isArray(), ctx.getStart().getLine(), ErrorType.arrayTypeError)) {
-            ctx.retType = Type.ERROR;
+        if(checkSemantic(getBaseType(ctx.retType).isArray(), ctx.getStart().getLine(), ErrorType.arrayTypeError))
             ctx.semError = true;
-        }
 
-        for(int i = 0; i < ctx.params.size(); ++i){
-            if((getBaseType(ctx.params.get(i))).isArray())
-                ctx.params.set(i, Type.ERROR);
+        List<Type> params = new ArrayList<>(ctx.params);
+        for(int i = 0; i < params.size(); ++i){
+            if((getBaseType(params.get(i))).isArray())
+                params.set(i, Type.ERROR);
         }
 
-        function.attributes.put("returnType", ctx.retType);
-        function.attributes.put("params", ctx.params);
-
-        symbolTable.addSymbol(function);
-        symbolTable.addScope(new FunctionScope(ctx.id)); // subroutine scope
+        symbolTable.addSymbol(new FunctionSymbol(ctx.id, returnType(ctx), params));
+    }
 
-        irGenerator.startFunction(ctx.id, ctx.retType);
+    // the declared return type with aliases resolved, an error for an array type
+    private Type returnType(TigerParser.FunctContext ctx) {
+        Type type = getBaseType(ctx.retType);
+        return type.isArray() ? Type.ERROR : type;
     }
 
     @Override
     public void exitFunct(TigerParser.FunctContext ctx) {
         symbolTable.popScope();
-        if(ctx.semError)
-            symbolTable.getLast().removeSymbol(ctx.id);
+        if(ctx.semError && !body_only)
+            symbolTable.removeSymbol(ctx.id);
+        if (emitIR())
+            irGenerator.endFunction();
     }
 
     @Override
@@ -95,19 +142,16 @@ public class SemanticChecking extends TigerBaseListener {
             return;
         }
 
-        Symbol type = new Symbol(ctx.id);
-        type.attributes.put("varType", ctx.varType);
-
-        symbolTable.addSymbol(type);
+        symbolTable.addSymbol(new TypeSymbol(ctx.id, ctx.varType, getBaseType(ctx.varType)));
     }
 
     @Override
     public void exitVar_declaration(TigerParser.Var_declarationContext ctx) {
         int line = ctx.getStart().getLine();
-        if(checkSemantic(!((Type.isBuiltIn(ctx.varType) && !ctx.varType.isArray()) || symbolTable.getSymbol(ctx.varType.getBaseType()) != null), line, ErrorType.undefinedTypeError))
+        if(checkSemantic(!((Type.isBuiltIn(ctx.varType) && !ctx.varType.isArray()) || symbolTable.getSymbol(ctx.varType.getBaseTypeId()) != null), line, ErrorType.undefinedTypeError))
             return;
         for (int i = 0; i < ctx.idList.size(); i++) {
-            String varName = ctx.idList.get(i);
+            int varName = ctx.idList.get(i);
 
             if (checkSemantic(symbolTable.getLast().hasSymbol(varName), line, ErrorType.redefineError)) {
                 continue;
@@ -117,18 +161,16 @@ public class SemanticChecking extends TigerBaseListener {
             if(checkSemantic(ctx.storageClass.equalsIgnoreCase("static") && symbolTable.numScopes() != 1, line))
                 return;
 
-            Symbol var = new Symbol(varName);
-            var.attributes.put("varType", ctx.varType);
-            var.attributes.put("storageClass", ctx.storageClass);
-
-            symbolTable.addSymbol(var);
-
-            if (ctx.varType.getBaseType().equals("int"))
-                irGenerator.addInt(varName, ctx.varType.getArraySize());
-            else
-                irGenerator.addFloat(varName, ctx.varType.getArraySize());
-
-            irGenerator.addCommand(Command.ASSIGN, varName, ctx.varValue);
+            int operand = Operand.NONE;
+            if (emitIR()) {
+                Type type = getBaseType(ctx.varType);
+                operand = irGenerator.addVar(varName, type);
+                if (ctx.isAssigned) {
+                    TigerParser.Const_Context init = ctx.optional_init().const_();
+                    irGenerator.initialize(operand, type, init.varType, init.getText());
+                }
+            }
+            symbolTable.addSymbol(new VariableSymbol(varName, ctx.varType, ctx.storageClass, operand));
         }
     }
 
@@ -141,12 +183,8 @@ public class SemanticChecking extends TigerBaseListener {
 
         if (checkSemantic(getBaseType(ctx.varType).isArray(), ctx.getStart().getLine(), ErrorType.arrayTypeError))
             return;
-        Symbol param = new Symbol(ctx.id);
-        param.attributes.put("varType", ctx.varType);
-
-        symbolTable.addSymbol(param);
-
-        irGenerator.addParam(ctx.id, ctx.varType);
+        int operand = emitIR() ? irGenerator.addParam(ctx.id, getBaseType(ctx.varType)) : Operand.NONE;
+        symbolTable.addSymbol(new VariableSymbol(ctx.id, ctx.varType, null, operand));
     }
 
 
@@ -154,26 +192,54 @@ public class SemanticChecking extends TigerBaseListener {
     public void enterValue(TigerParser.ValueContext ctx) {
         try {
             Symbol symbol = symbolTable.getSymbol(ctx.id);
-            if (checkSemantic(symbol == null, ctx.getStart().getLine(), ErrorType.notDefinedError)) {
+            if (checkSemantic(!(symbol instanceof VariableSymbol), ctx.getStart().getLine(), ErrorType.notDefinedError)) {
                 ctx.varType = Type.ERROR;
             }
-            ctx.varType = (Type) symbol.attributes.get("varType");
+            ctx.varType = symbol.getVarType();
             if (ctx.isSubscript) {
-                ctx.varType = new Type(((Type) symbolTable.getSymbol(ctx.varType.getBaseType()).attributes.get("varType")).getBaseType());
+                ctx.varType = Type.of(symbolTable.getSymbol(ctx.varType.getBaseTypeId()).getVarType().getBaseTypeId());
             }
-            ctx.varType = getBaseType(ctx.varType);
+            Type baseType = getBaseType(ctx.varType);
+            if (baseType != null)
+                ctx.varType = baseType;
         } catch (NullPointerException ignored){
 
         }
     }
 
+    @Override
+    public void exitValue(TigerParser.ValueContext ctx) {
+        if (!emitIR())
+            return;
+        int variable = ((VariableSymbol) symbolTable.getSymbol(ctx.id)).operand;
+        if (!ctx.isSubscript) {
+            ctx.place = variable;
+            return;
+        }
+        ctx.index = ctx.value_tail().expr().place;
+        // the target of an assignment is stored to, not loaded
+        ParserRuleContext parent = ctx.getParent();
+        if (parent instanceof TigerParser.Value_statContext || parent instanceof TigerParser.OptprefixContext)
+            ctx.place = variable;
+        else
+            ctx.place = irGenerator.arrayLoad(variable, ctx.index, ctx.varType.getKind() == Type.Kind.FLOAT);
+    }
+
+    @Override
+    public void exitConst_(TigerParser.Const_Context ctx) {
+        if (emitIR())
+            ctx.place = irGenerator.constant(ctx.varType, ctx.getText());
+    }
+
     @Override
     public void exitPrecedence_trail(TigerParser.Precedence_trailContext ctx){
         RuleContext childContext = ((RuleNode)ctx.getChild(0)).getRuleContext();
         if (childContext.getRuleIndex() == TigerParser.RULE_value){
             ctx.varType = ((TigerParser.ValueContext)childContext).varType;
+            ctx.place = ((TigerParser.ValueContext)childContext).place;
         }else{
             ctx.varType =  ((TigerParser.Const_Context)childContext).varType;
+            ctx.place = ((TigerParser.Const_Context)childContext).place;
         }
     }
 
@@ -181,8 +247,10 @@ public class SemanticChecking extends TigerBaseListener {
     public void exitPrecedence_paren(TigerParser.Precedence_parenContext ctx){
         if(ctx.getChildCount() != 1) {
             ctx.varType = ((TigerParser.ExprContext)((RuleNode)ctx.getChild(1)).getRuleContext()).varType;
+            ctx.place = ((TigerParser.ExprContext)((RuleNode)ctx.getChild(1)).getRuleContext()).place;
         }else{
             ctx.varType = ((TigerParser.Precedence_trailContext)((RuleNode)ctx.getChild(0)).getRuleContext()).varType;
+            ctx.place = ((TigerParser.Precedence_trailContext)((RuleNode)ctx.getChild(0)).getRuleContext()).place;
         }
     }
 
@@ -196,8 +264,14 @@ public class SemanticChecking extends TigerBaseListener {
             if (right.equals(Type.ERROR)) ctx.varType = Type.ERROR;
 
             checkSemantic(right.equals(Type.FLOAT), ctx.getStart().getLine(), ErrorType.typeError);
+            if (emitIR()) {
+                int base = ((TigerParser.Precedence_parenContext)((RuleNode)ctx.getChild(0)).getRuleContext()).place;
+                int exponent = ((TigerParser.Precedence_powContext)((RuleNode)ctx.getChild(2)).getRuleContext()).place;
+                ctx.place = irGenerator.pow(base, exponent, ctx.varType.equals(Type.FLOAT));
+            }
         }else{
             ctx.varType = ((TigerParser.Precedence_parenContext)((RuleNode)ctx.getChild(0)).getRuleContext()).varType;
+            ctx.place = ((TigerParser.Precedence_parenContext)((RuleNode)ctx.getChild(0)).getRuleContext()).place;
         }
     }
 
@@ -212,8 +286,15 @@ public class SemanticChecking extends TigerBaseListener {
                 ctx.varType = Type.FLOAT;
             else
                 ctx.varType = Type.INT;
+            if (emitIR()) {
+                int leftPlace = ((TigerParser.Precedence_mult_divContext)((RuleNode)ctx.getChild(0)).getRuleContext()).place;
+                int rightPlace = ((TigerParser.Precedence_powContext)((RuleNode)ctx.getChild(2)).getRuleContext()).place;
+                Opcode opcode = ((TigerParser.Mult_divContext)ctx.getChild(1)).MULT() != null ? Opcode.MULT : Opcode.DIV;
+                ctx.place = irGenerator.binary(opcode, leftPlace, rightPlace, ctx.varType.equals(Type.FLOAT));
+            }
         }else{
             ctx.varType = ((TigerParser.Precedence_powContext)((RuleNode)ctx.getChild(0)).getRuleContext()).varType;
+            ctx.place = ((TigerParser.Precedence_powContext)((RuleNode)ctx.getChild(0)).getRuleContext()).place;
         }
     }
 
@@ -229,9 +310,16 @@ public class SemanticChecking extends TigerBaseListener {
                 ctx.varType = Type.FLOAT;
             else
                 ctx.varType = Type.INT;
+            if (emitIR()) {
+                int leftPlace = ((TigerParser.Precedence_plus_minusContext)((RuleNode)ctx.getChild(0)).getRuleContext()).place;
+                int rightPlace = ((TigerParser.Precedence_mult_divContext)((RuleNode)ctx.getChild(2)).getRuleContext()).place;
+                Opcode opcode = ((TerminalNode)ctx.getChild(1)).getSymbol().getType() == TigerParser.PLUS ? Opcode.ADD : Opcode.SUB;
+                ctx.place = irGenerator.binary(opcode, leftPlace, rightPlace, ctx.varType.equals(Type.FLOAT));
+            }
 
         } else {
             ctx.varType = ((TigerParser.Precedence_mult_divContext)((RuleNode)ctx.getChild(0)).getRuleContext()).varType;
+            ctx.place = ((TigerParser.Precedence_mult_divContext)((RuleNode)ctx.getChild(0)).getRuleContext()).place;
         }
     }
 
@@ -249,9 +337,15 @@ public class SemanticChecking extends TigerBaseListener {
                 ctx.varType = Type.ERROR;
             else
                 ctx.varType = Type.INT;
+            if (emitIR()) {
+                int leftPlace = ((TigerParser.Precedence_plus_minusContext)((RuleNode)ctx.getChild(0)).getRuleContext()).place;
+                int rightPlace = ((TigerParser.Precedence_plus_minusContext)((RuleNode)ctx.getChild(2)).getRuleContext()).place;
+                ctx.place = irGenerator.compare(branch(((TerminalNode)ctx.getChild(1)).getSymbol().getType()), leftPlace, rightPlace);
+            }
 
         }else{
             ctx.varType = ((TigerParser.Precedence_plus_minusContext)((RuleNode)ctx.getChild(0)).getRuleContext()).varType;
+            ctx.place = ((TigerParser.Precedence_plus_minusContext)((RuleNode)ctx.getChild(0)).getRuleContext()).place;
         }
     }
 
@@ -266,9 +360,15 @@ public class SemanticChecking extends TigerBaseListener {
                 ctx.varType = Type.ERROR;
             else
                 ctx.varType = Type.INT;
+            if (emitIR()) {
+                int leftPlace = ((TigerParser.Precedence_andContext)((RuleNode)ctx.getChild(0)).getRuleContext()).place;
+                int rightPlace = ((TigerParser.Precedence_compareContext)((RuleNode)ctx.getChild(2)).getRuleContext()).place;
+                ctx.place = irGenerator.binary(Opcode.AND, leftPlace, rightPlace, false);
+            }
 
         } else {
             ctx.varType = ((TigerParser.Precedence_compareContext)((RuleNode)ctx.getChild(0)).getRuleContext()).varType;
+            ctx.place = ((TigerParser.Precedence_compareContext)((RuleNode)ctx.getChild(0)).getRuleContext()).place;
         }
     }
 
@@ -283,15 +383,52 @@ public class SemanticChecking extends TigerBaseListener {
                 ctx.varType = Type.ERROR;
             else
                 ctx.varType = Type.INT;
+            if (emitIR()) {
+                int leftPlace = ((TigerParser.Precedence_orContext)((RuleNode)ctx.getChild(0)).getRuleContext()).place;
+                int rightPlace = ((TigerParser.Precedence_andContext)((RuleNode)ctx.getChild(2)).getRuleContext()).place;
+                ctx.place = irGenerator.binary(Opcode.OR, leftPlace, rightPlace, false);
+            }
 
         } else {
             ctx.varType = ((TigerParser.Precedence_andContext)((RuleNode)ctx.getChild(0)).getRuleContext()).varType;
+            ctx.place = ((TigerParser.Precedence_andContext)((RuleNode)ctx.getChild(0)).getRuleContext()).place;
         }
     }
 
     @Override
     public void exitExpr(TigerParser.ExprContext ctx) {
         ctx.varType = ((TigerParser.Precedence_orContext)((RuleNode)ctx.getChild(0)).getRuleContext()).varType;
+        if (!emitIR())
+            return;
+        ctx.place = ((TigerParser.Precedence_orContext)((RuleNode)ctx.getChild(0)).getRuleContext()).place;
+        // conditions and loop bounds are followed by the branches of their statement
+        ParserRuleContext parent = ctx.getParent();
+        if (parent instanceof TigerParser.If_statContext) {
+            irGenerator.startIf(ctx.place);
+        } else if (parent instanceof TigerParser.While_statContext) {
+            irGenerator.whileCondition(ctx.place);
+        } else if (parent instanceof TigerParser.For_statContext) {
+            TigerParser.For_statContext forContext = (TigerParser.For_statContext) parent;
+            if (forContext.expr(0) == ctx)
+                irGenerator.startFor(loopCounter(forContext), ctx.place);
+            else
+                irGenerator.forBound(loopCounter(forContext), ctx.place);
+        }
+    }
+
+    @Override
+    public void exitStat_seq(TigerParser.Stat_seqContext ctx) {
+        if (emitIR() && ctx.getParent() instanceof TigerParser.If_statContext) {
+            TigerParser.If_statContext ifContext = (TigerParser.If_statContext) ctx.getParent();
+            if (ifContext.ELSE() != null && ifContext.a == ctx)
+                irGenerator.startElse();
+        }
+    }
+
+    @Override
+    public void exitStat(TigerParser.StatContext ctx) {
+        if (ctx.BREAK() != null && emitIR())
+            irGenerator.breakLoop();
     }
 
     @Override
@@ -324,24 +461,46 @@ public class SemanticChecking extends TigerBaseListener {
             return;
         int line = ctx.getStart().getLine();
         checkSemantic(!(rType.equals(lType) || (rType.equals(Type.INT) && lType.equals(Type.FLOAT))), line, ErrorType.typeError);
+        if (emitIR()) {
+            if (valueContext.isSubscript)
+                irGenerator.arrayStore(exprContext.place, valueContext.place, valueContext.index);
+            else
+                irGenerator.assign(valueContext.place, exprContext.place);
+        }
     }
 
     @Override
-    public void exitIf_else_stat(TigerParser.If_else_statContext ctx) {
+    public void exitIf_stat(TigerParser.If_statContext ctx) {
         TigerParser.ExprContext exprContext  = ((TigerParser.ExprContext)((RuleNode)ctx.getChild(1)).getRuleContext());
         checkSemantic(!exprContext.varType.equals(Type.INT), ctx.getStart().getLine(), ErrorType.conditionError);
+        if (emitIR())
+            irGenerator.endIf();
     }
 
     @Override
-    public void exitIf_stat(TigerParser.If_statContext ctx) {
-        TigerParser.ExprContext exprContext  = ((TigerParser.ExprContext)((RuleNode)ctx.getChild(1)).getRuleContext());
-        checkSemantic(!exprContext.varType.equals(Type.INT), ctx.getStart().getLine(), ErrorType.conditionError);
+    public void enterWhile_stat(TigerParser.While_statContext ctx) {
+        if (emitIR())
+            irGenerator.startWhile();
     }
 
     @Override
     public void exitWhile_stat(TigerParser.While_statContext ctx) {
         TigerParser.ExprContext exprContext  = ((TigerParser.ExprContext)((RuleNode)ctx.getChild(1)).getRuleContext());
         checkSemantic(!exprContext.varType.equals(Type.INT), ctx.getStart().getLine(), ErrorType.conditionError);
+        if (emitIR())
+            irGenerator.endWhile();
+    }
+
+    @Override
+    public void enterFor_stat(TigerParser.For_statContext ctx) {
+        Symbol counter = symbolTable.getSymbol(Identifiers.of(ctx.ID().getSymbol()));
+        int line = ctx.getStart().getLine();
+        if (checkSemantic(!(counter instanceof VariableSymbol), line, ErrorType.notDefinedError))
+            return;
+        // the counter is compared and incremented as a scalar int
+        Type type = getBaseType(counter.getVarType());
+        if (!checkSemantic(type != null && type.isArray(), line, ErrorType.arrayTypeError))
+            checkSemantic(!Type.INT.equals(type), line, ErrorType.typeError);
     }
 
     @Override
@@ -350,6 +509,12 @@ public class SemanticChecking extends TigerBaseListener {
         TigerParser.ExprContext exprContext2  = ((TigerParser.ExprContext)((RuleNode)ctx.getChild(5)).getRuleContext());
         checkSemantic(!exprContext1.varType.equals(Type.INT), ctx.getStart().getLine(), ErrorType.conditionError);
         checkSemantic(!exprContext2.varType.equals(Type.INT), ctx.getStart().getLine(), ErrorType.conditionError);
+        if (emitIR())
+            irGenerator.endFor(loopCounter(ctx));
+    }
+
+    private int loopCounter(TigerParser.For_statContext ctx) {
+        return ((VariableSymbol) symbolTable.getSymbol(Identifiers.of(ctx.ID().getSymbol()))).operand;
     }
 
     @Override
@@ -358,6 +523,7 @@ public class SemanticChecking extends TigerBaseListener {
             TigerParser.ExprContext exprContext = ((TigerParser.ExprContext)((RuleNode)ctx.getChild(0)).getRuleContext());
             TigerParser.Expr_list_tailContext exprListTailContext  = ((TigerParser.Expr_list_tailContext)((RuleNode)ctx.getChild(1)).getRuleContext());
 
+            ctx.params.clear();
             ctx.params.add(exprContext.varType);
             ctx.params.addAll(exprListTailContext.params);
         }
@@ -369,6 +535,7 @@ public class SemanticChecking extends TigerBaseListener {
             TigerParser.ExprContext exprContext = ((TigerParser.ExprContext)((RuleNode)ctx.getChild(1)).getRuleContext());
             TigerParser.Expr_list_tailContext exprListTailContext  = ((TigerParser.Expr_list_tailContext)((RuleNode)ctx.getChild(2)).getRuleContext());
 
+            ctx.params.clear();
             ctx.params.add(exprContext.varType);
             ctx.params.addAll(exprListTailContext.params);
         }
@@ -380,11 +547,12 @@ public class SemanticChecking extends TigerBaseListener {
         Type lType = optprefixContext.varType;
         TigerParser.Expr_listContext exprListContext = ((TigerParser.Expr_listContext)((RuleNode)ctx.getChild(3)).getRuleContext());
         List<Type> args = exprListContext.params;
-        Symbol symbol = symbolTable.getSymbol(ctx.ID().getText());
+        Symbol symbol = symbolTable.getSymbol(Identifiers.of(ctx.ID().getSymbol()));
         int line = ctx.getStart().getLine();
-        if(checkSemantic(symbol == null, line, ErrorType.notDefinedError))
+        if(checkSemantic(!(symbol instanceof FunctionSymbol), line, ErrorType.notDefinedError))
             return;
-        List<Type> params = (List<Type>) symbol.attributes.get("params");
+        FunctionSymbol function = (FunctionSymbol) symbol;
+        List<Type> params = function.params;
         if(checkSemantic(params.size() != args.size(), line, ErrorType.incorrectParameterError))
             return;
         for (int i = 0; i < params.size(); ++i) {
@@ -392,15 +560,39 @@ public class SemanticChecking extends TigerBaseListener {
             checkSemantic(!(param.equals(args.get(i)) || (param.equals(Type.FLOAT) && args.get(i).equals(Type.INT))), line, ErrorType.incorrectParameterError);
         }
 
-        Type returnType = (Type) symbol.attributes.get("returnType");
+        Type returnType = function.returnType;
         checkSemantic(!(lType.equals(Type.VOID) || lType.equals(returnType) || (lType.equals(Type.FLOAT) && returnType.equals(Type.INT))), line);
+        if (emitIR())
+            emitCall(function, exprListContext, optprefixContext.value());
+    }
+
+    private void emitCall(FunctionSymbol function, TigerParser.Expr_listContext exprListContext, TigerParser.ValueContext target) {
+        IntList args = new IntList(function.params.size());
+        TigerParser.ExprContext expr = exprListContext.expr();
+        TigerParser.Expr_list_tailContext tail = exprListContext.expr_list_tail();
+        while (expr != null) {
+            boolean toFloat = getBaseType(function.params.get(args.size())).equals(Type.FLOAT);
+            args.add(irGenerator.convert(expr.place, toFloat));
+            expr = tail.expr();
+            tail = tail.expr_list_tail();
+        }
+        if (target == null) {
+            irGenerator.call(function.id, args);
+            return;
+        }
+        int result = irGenerator.callr(function.id, args, function.returnType.equals(Type.FLOAT));
+        if (target.isSubscript)
+            irGenerator.arrayStore(result, target.place, target.index);
+        else
+            irGenerator.assign(target.place, result);
     }
 
     @Override
     public void exitRet_stat(TigerParser.Ret_statContext ctx) {
         TigerParser.OptreturnContext optreturnContext  = ((TigerParser.OptreturnContext)((RuleNode)ctx.getChild(1)).getRuleContext());
-        String funcName = symbolTable.getCurrentFunction();
-        Type returnType = (Type) symbolTable.get(0).getSymbol(funcName).attributes.get("returnType");
+        int funcName = symbolTable.getCurrentFunction();
+        Symbol function = symbolTable.get(0).getSymbol(funcName);
+        Type returnType = function instanceof FunctionSymbol ? ((FunctionSymbol) function).returnType : null;
         if(returnType == null){
             returnType = Type.VOID;
         }
@@ -408,6 +600,8 @@ public class SemanticChecking extends TigerBaseListener {
         if(checkSemantic(returnType.equals(Type.INT) && actualType.equals(Type.FLOAT), ctx.getStart().getLine(), ErrorType.narrowingError))
             return;
         checkSemantic(!(actualType.equals(returnType) || (returnType.equals(Type.FLOAT) && actualType.equals(Type.INT))), ctx.getStart().getLine(), ErrorType.returnTypeError);
+        if (emitIR())
+            irGenerator.ret(optreturnContext.expr() != null ? optreturnContext.expr().place : Operand.NONE);
 
     }
 
@@ -426,14 +620,42 @@ public class SemanticChecking extends TigerBaseListener {
         conditionError, outsideBreakError, comparisonError
     }
 
+    // type aliases know their resolved type, so only names of other kinds of symbols are followed
     private Type getBaseType(Type currType){
         Type baseType = currType;
-        while (!Type.isBuiltIn(baseType)) {
-            baseType = (Type) symbolTable.getSymbol(baseType.getBaseType()).attributes.get("varType");
+        while (baseType != null && !Type.isBuiltIn(baseType)) {
+            Symbol symbol = symbolTable.getSymbol(baseType.getBaseTypeId());
+            if (symbol == null)
+                return null;
+            if (symbol instanceof TypeSymbol && ((TypeSymbol) symbol).baseType != null)
+                return ((TypeSymbol) symbol).baseType;
+            baseType = symbol.getVarType();
         }
         return baseType;
     }
 
+    private static Opcode branch(int comparison) {
+        switch (comparison) {
+            case TigerParser.EQUAL:
+                return Opcode.BREQ;
+            case TigerParser.NEQUAL:
+                return Opcode.BRNEQ;
+            case TigerParser.LESS:
+                return Opcode.BRLT;
+            case TigerParser.GREAT:
+                return Opcode.BRGT;
+            case TigerParser.LESSEQ:
+                return Opcode.BRLEQ;
+            default:
+                return Opcode.BRGEQ;
+        }
+    }
+
+    // IR is only generated for -ir, and only as long as the program has no semantic errors
+    private boolean emitIR() {
+        return build_ir && !semanticErrorOccurred;
+    }
+
     private boolean checkSemantic(boolean cond, int line, ErrorType error){
         if (cond){
             throwError(error, line);
@@ -452,47 +674,38 @@ public class SemanticChecking extends TigerBaseListener {
 
     private void throwError(ErrorType error, int Line) {
         semanticErrorOccurred = true;
-        System.err.print("line " + Line + ": ");
+        diagnostics.addSemantic(error, Line, errorMessage(error));
+    }
+
+    private static String errorMessage(ErrorType error) {
         switch (error) {
-            case badError:
-                System.err.println("SEMANTIC ERROR OCCURRED");
-                break;
             case typeError:
-                System.err.println("Type mismatch");
-                break;
+                return "Type mismatch";
             case narrowingError:
-                System.err.println("Narrowing conversion on assignment");
-                break;
+                return "Narrowing conversion on assignment";
             case redefineError:
-                System.err.println("Redefinition in same scope");
-                break;
+                return "Redefinition in same scope";
             case notDefinedError:
-                System.err.println("Not defined");
-                break;
+                return "Not defined";
             case undefinedTypeError:
-                System.err.println("Type not defined");
-                break;
+                return "Type not defined";
             case returnTypeError:
-                System.err.println("Incorrect return type");
-                break;
+                return "Incorrect return type";
             case arrayTypeError:
-                System.err.println("Illegal use of array type");
-                break;
+                return "Illegal use of array type";
             case noReturnError:
-                System.err.println("Missing return statement");
-                break;
+                return "Missing return statement";
             case incorrectParameterError:
-                System.err.println("Incorrect type or number of parameters");
-                break;
+                return "Incorrect type or number of parameters";
             case conditionError:
-                System.err.println("Condition must be of type int");
-                break;
+                return "Condition must be of type int";
             case outsideBreakError:
-                System.err.println("Break statement outside of loop");
-                break;
+                return "Break statement outside of loop";
             case comparisonError:
-                System.err.println("Comparison is not associative operator");
+                return "Comparison is not associative operator";
+            case badError:
             default:
+                return "SEMANTIC ERROR OCCURRED";
         }
     }
 }
@@ -1,60 +1,164 @@
-import java.io.BufferedWriter;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 
 
+/**
+ * Scope stack with a single name index (LeBlanc-Cook): every name maps to the chain of its visible
+ * bindings, innermost first, so looking a name up is one hash lookup of its identifier (see
+ * {@link Identifiers}) whatever the nesting depth. Popping a scope unlinks exactly the bindings it
+ * introduced.
+ * With a dump writer set, every scope and symbol is written to it as it is added, in the format
+ * of the -st report; without one, nothing is formatted at all.
+ */
 public class SymbolTable {
     private List<Scope> table;
-    public StringBuilder savedTable;
+    // identifiers bound in each scope of the table, in binding order
+    private List<IntList> scopeNames;
+    // innermost binding of every bound identifier; only the names of this program are keys, while
+    // the identifiers are interned for the whole process
+    private IntMap<Binding> index;
+    // depths of the function scopes on the stack, innermost last
+    private List<Integer> functionScopes;
+    // read-only program scope of a table that checks function bodies only, see SymbolTable(Scope)
+    private Scope globals = null;
+    private Writer dump = null;
     private int indentation = 0;
+    private long scopePushes = 0;
+    private long symbolLookups = 0;
+
+    private static class Binding {
+        Symbol symbol;
+        final int depth;
+        final Binding shadowed;
+
+        Binding(Symbol symbol, int depth, Binding shadowed) {
+            this.symbol = symbol;
+            this.depth = depth;
+            this.shadowed = shadowed;
+        }
+    }
 
         public SymbolTable(){
             table = new ArrayList<>();
-            savedTable = new StringBuilder();
+            scopeNames = new ArrayList<>();
+            index = new IntMap<>();
+            functionScopes = new ArrayList<>();
             init_builtins();
         }
 
+        /**
+         * A table for checking function bodies on their own: the program scope is {@code globals},
+         * which is looked up directly instead of being bound in the index.
+         */
+        public SymbolTable(Scope globals){
+            this();
+            table.add(globals);
+            scopeNames.add(new IntList());
+            this.globals = globals;
+            indentation = 1;
+        }
+
+        /**
+         * Replaces the program scope of a table made by SymbolTable(Scope) while no function is open,
+         * so one table can check many function bodies.
+         */
+        public void setGlobals(Scope globals){
+            table.set(1, globals);
+            this.globals = globals;
+        }
+
     private void init_builtins(){
         table.add(new GenericScope()); // built_in scope
-        Symbol printi = new Symbol("printi");
-        printi.attributes.put("returnType", Type.VOID);
-        printi.attributes.put("params", List.of(Type.INT));
-        table.get(0).addSymbol(printi);
-
-        Symbol printf = new Symbol("printf");
-        printf.attributes.put("returnType", Type.VOID);
-        printf.attributes.put("params", List.of(Type.FLOAT));
-        table.get(0).addSymbol(printf);
-
-        Symbol not = new Symbol("not");
-        not.attributes.put("returnType", Type.INT);
-        not.attributes.put("params", List.of(Type.INT));
-        table.get(0).addSymbol(not);
-
-        Symbol exit = new Symbol("exit");
-        exit.attributes.put("returnType", Type.VOID);
-        exit.attributes.put("params", List.of(Type.INT));
-        table.get(0).addSymbol(exit);
+        scopeNames.add(new IntList());
+        bind(new FunctionSymbol(Identifiers.intern("printi"), Type.VOID, List.of(Type.INT)));
+        bind(new FunctionSymbol(Identifiers.intern("printf"), Type.VOID, List.of(Type.FLOAT)));
+        bind(new FunctionSymbol(Identifiers.intern("not"), Type.INT, List.of(Type.INT)));
+        bind(new FunctionSymbol(Identifiers.intern("exit"), Type.VOID, List.of(Type.INT)));
     }
 
         public void addScope(Scope scope){
+            scopePushes++;
             table.add(scope);
+            scopeNames.add(new IntList());
+            if (scope instanceof FunctionScope)
+                functionScopes.add(table.size() - 1);
             indentation++;
-            savedTable.append("\t".repeat(indentation))
-                    .append("Scope ").append(table.size() - 1).append(":").append("\n");
+            if (dump != null)
+                write(indentation, "Scope " + (table.size() - 1) + ":");
         }
 
         public void popScope(){
-            table.remove(table.size() - 1);
+            int depth = table.size() - 1;
+            IntList ids = scopeNames.remove(depth);
+            for (int i = 0; i < ids.size(); ++i) {
+                int id = ids.get(i);
+                Binding shadowed = index.get(id).shadowed;
+                if (shadowed == null)
+                    index.remove(id);
+                else
+                    index.put(id, shadowed);
+            }
+            if (!functionScopes.isEmpty() && functionScopes.get(functionScopes.size() - 1) == depth)
+                functionScopes.remove(functionScopes.size() - 1);
+            table.remove(depth);
             indentation--;
         }
 
         public void addSymbol(Symbol symbol){
-            getLast().addSymbol(symbol);
-            savedTable.append("\t".repeat(indentation + 1))
-                    .append(symbol.toString()).append("\n");
+            bind(symbol);
+            if (dump != null)
+                write(indentation + 1, symbol.toString());
+        }
+
+        /**
+         * Writes the scopes and symbols added from now on to {@code dump}, which the caller closes.
+         */
+        public void setDump(Writer dump){
+            this.dump = dump;
+        }
+
+        private void write(int tabs, String line){
+            try {
+                for (int i = 0; i < tabs; ++i)
+                    dump.write('\t');
+                dump.write(line);
+                dump.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        // adds the symbol to the innermost scope, replacing a symbol of the same name in that scope
+        private void bind(Symbol symbol){
+            int depth = table.size() - 1;
+            table.get(depth).addSymbol(symbol);
+            int id = symbol.id;
+            Binding binding = index.get(id);
+            if (binding != null && binding.depth == depth) {
+                binding.symbol = symbol;
+                return;
+            }
+            index.put(id, new Binding(symbol, depth, binding));
+            scopeNames.get(depth).add(id);
+        }
+
+        /**
+         * Removes the symbol from the innermost scope.
+         */
+        public void removeSymbol(int id){
+            int depth = table.size() - 1;
+            table.get(depth).removeSymbol(id);
+            Binding binding = index.get(id);
+            if (binding == null || binding.depth != depth)
+                return;
+            if (binding.shadowed == null)
+                index.remove(id);
+            else
+                index.put(id, binding.shadowed);
+            scopeNames.get(depth).removeValue(id);
         }
 
         public int numScopes(){
@@ -69,30 +173,41 @@ public class SymbolTable {
             return table.get(index + 1);
         }
 
-        public String toString(){
-            return savedTable.toString();
-        }
-
-        public void toFile(String path) throws IOException {
-            BufferedWriter writer = new BufferedWriter(new FileWriter(path));
-            writer.append(this.toString());
-            writer.flush();
+        public Symbol getSymbol(int id){
+            symbolLookups++;
+            Binding binding = index.get(id);
+            if (globals != null && (binding == null || binding.depth < 1)) {
+                Symbol symbol = globals.getSymbol(id);
+                if (symbol != null)
+                    return symbol;
+            }
+            return binding == null ? null : binding.symbol;
         }
 
         public Symbol getSymbol(String name){
-            for(int i = table.size() - 1; i >=0; --i){
-                if(table.get(i).hasSymbol(name))
-                    return table.get(i).getSymbol(name);
+            int id = Identifiers.lookup(name);
+            if (id < 0) {
+                symbolLookups++;
+                return null;
             }
-            return null;
+            return getSymbol(id);
         }
 
-        public String getCurrentFunction(){
-            for(int i = table.size() - 1; i >=0; --i){
-                if(table.get(i) instanceof FunctionScope)
-                    return table.get(i).getName();
-            }
-            return null;
+        public long getScopePushes(){
+            return scopePushes;
+        }
+
+        public long getSymbolLookups(){
+            return symbolLookups;
+        }
+
+        /**
+         * Identifier of the innermost enclosing function, or -1 outside of functions.
+         */
+        public int getCurrentFunction(){
+            if (functionScopes.isEmpty())
+                return -1;
+            return ((FunctionScope) table.get(functionScopes.get(functionScopes.size() - 1))).id;
         }
 
 }
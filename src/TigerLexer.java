@@ -0,0 +1,243 @@
+// Generated from Tiger.g4 by ANTLR 4.9.3
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class TigerLexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.9.3", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		WHITESPACE=1, COMMENT=2, INTLIT=3, FLOATLIT=4, ARRAY=5, BEGIN=6, BREAK=7, 
+		DO=8, ELSE=9, END=10, ENDDO=11, ENDIF=12, FLOAT=13, FOR=14, FUNCTION=15, 
+		IF=16, INT=17, LET=18, OF=19, PROGRAM=20, RETURN=21, STATIC=22, THEN=23, 
+		TO=24, TYPE=25, VAR=26, WHILE=27, COMMA=28, DOT=29, COLON=30, SEMICOLON=31, 
+		OPENPAREN=32, CLOSEPAREN=33, OPENBRACK=34, CLOSEBRACK=35, OPENCURLY=36, 
+		CLOSECURLY=37, PLUS=38, MINUS=39, MULT=40, DIV=41, POW=42, EQUAL=43, NEQUAL=44, 
+		LESS=45, GREAT=46, LESSEQ=47, GREATEQ=48, AND=49, OR=50, ASSIGN=51, TASSIGN=52, 
+		ID=53;
+	public static String[] channelNames = {
+		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
+	};
+
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"WHITESPACE", "COMMENT", "INTLIT", "FLOATLIT", "ARRAY", "BEGIN", "BREAK", 
+			"DO", "ELSE", "END", "ENDDO", "ENDIF", "FLOAT", "FOR", "FUNCTION", "IF", 
+			"INT", "LET", "OF", "PROGRAM", "RETURN", "STATIC", "THEN", "TO", "TYPE", 
+			"VAR", "WHILE", "COMMA", "DOT", "COLON", "SEMICOLON", "OPENPAREN", "CLOSEPAREN", 
+			"OPENBRACK", "CLOSEBRACK", "OPENCURLY", "CLOSECURLY", "PLUS", "MINUS", 
+			"MULT", "DIV", "POW", "EQUAL", "NEQUAL", "LESS", "GREAT", "LESSEQ", "GREATEQ", 
+			"AND", "OR", "ASSIGN", "TASSIGN", "ID"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, null, null, null, null, "'array'", "'begin'", "'break'", "'do'", 
+			"'else'", "'end'", "'enddo'", "'endif'", "'float'", "'for'", "'function'", 
+			"'if'", "'int'", "'let'", "'of'", "'program'", "'return'", "'static'", 
+			"'then'", "'to'", "'type'", "'var'", "'while'", "','", "'.'", "':'", 
+			"';'", "'('", "')'", "'['", "']'", "'{'", "'}'", "'+'", "'-'", "'*'", 
+			"'/'", "'**'", "'=='", "'!='", "'<'", "'>'", "'<='", "'>='", "'&'", "'|'", 
+			"':='", "'='"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "WHITESPACE", "COMMENT", "INTLIT", "FLOATLIT", "ARRAY", "BEGIN", 
+			"BREAK", "DO", "ELSE", "END", "ENDDO", "ENDIF", "FLOAT", "FOR", "FUNCTION", 
+			"IF", "INT", "LET", "OF", "PROGRAM", "RETURN", "STATIC", "THEN", "TO", 
+			"TYPE", "VAR", "WHILE", "COMMA", "DOT", "COLON", "SEMICOLON", "OPENPAREN", 
+			"CLOSEPAREN", "OPENBRACK", "CLOSEBRACK", "OPENCURLY", "CLOSECURLY", "PLUS", 
+			"MINUS", "MULT", "DIV", "POW", "EQUAL", "NEQUAL", "LESS", "GREAT", "LESSEQ", 
+			"GREATEQ", "AND", "OR", "ASSIGN", "TASSIGN", "ID"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public TigerLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "Tiger.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getChannelNames() { return channelNames; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2\67\u014c\b\1\4\2"+
+		"\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4"+
+		"\13\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22"+
+		"\t\22\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31"+
+		"\t\31\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t"+
+		" \4!\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t"+
+		"+\4,\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64"+
+		"\t\64\4\65\t\65\4\66\t\66\3\2\3\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3\7\3w\n\3"+
+		"\f\3\16\3z\13\3\3\3\3\3\3\3\3\3\3\3\3\4\3\4\3\4\7\4\u0084\n\4\f\4\16\4"+
+		"\u0087\13\4\5\4\u0089\n\4\3\5\3\5\5\5\u008d\n\5\3\5\3\5\7\5\u0091\n\5"+
+		"\f\5\16\5\u0094\13\5\3\6\3\6\3\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3\7\3"+
+		"\b\3\b\3\b\3\b\3\b\3\b\3\t\3\t\3\t\3\n\3\n\3\n\3\n\3\n\3\13\3\13\3\13"+
+		"\3\13\3\f\3\f\3\f\3\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\r\3\16\3\16\3\16\3"+
+		"\16\3\16\3\16\3\17\3\17\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3"+
+		"\20\3\20\3\21\3\21\3\21\3\22\3\22\3\22\3\22\3\23\3\23\3\23\3\23\3\24\3"+
+		"\24\3\24\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\26\3\26\3\26\3\26\3"+
+		"\26\3\26\3\26\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\30\3\30\3\30\3\30\3"+
+		"\30\3\31\3\31\3\31\3\32\3\32\3\32\3\32\3\32\3\33\3\33\3\33\3\33\3\34\3"+
+		"\34\3\34\3\34\3\34\3\34\3\35\3\35\3\36\3\36\3\37\3\37\3 \3 \3!\3!\3\""+
+		"\3\"\3#\3#\3$\3$\3%\3%\3&\3&\3\'\3\'\3(\3(\3)\3)\3*\3*\3+\3+\3+\3,\3,"+
+		"\3,\3-\3-\3-\3.\3.\3/\3/\3\60\3\60\3\60\3\61\3\61\3\61\3\62\3\62\3\63"+
+		"\3\63\3\64\3\64\3\64\3\65\3\65\3\66\3\66\7\66\u0148\n\66\f\66\16\66\u014b"+
+		"\13\66\3x\2\67\3\3\5\4\7\5\t\6\13\7\r\b\17\t\21\n\23\13\25\f\27\r\31\16"+
+		"\33\17\35\20\37\21!\22#\23%\24\'\25)\26+\27-\30/\31\61\32\63\33\65\34"+
+		"\67\359\36;\37= ?!A\"C#E$G%I&K\'M(O)Q*S+U,W-Y.[/]\60_\61a\62c\63e\64g"+
+		"\65i\66k\67\3\2\b\4\2\13\f\"\"\4\2\f\f\17\17\3\2\63;\3\2\62;\4\2C\\c|"+
+		"\6\2\62;C\\aac|\2\u0152\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2"+
+		"\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25"+
+		"\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2"+
+		"\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3\2\2"+
+		"\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63\3\2\2\2\2\65\3\2\2\2\2\67\3"+
+		"\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2\2\2\2A\3\2\2\2\2C\3\2\2"+
+		"\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2O\3\2\2\2\2"+
+		"Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3\2\2\2\2]\3"+
+		"\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2c\3\2\2\2\2e\3\2\2\2\2g\3\2\2\2\2i\3\2\2"+
+		"\2\2k\3\2\2\2\3m\3\2\2\2\5q\3\2\2\2\7\u0088\3\2\2\2\t\u008c\3\2\2\2\13"+
+		"\u0095\3\2\2\2\r\u009b\3\2\2\2\17\u00a1\3\2\2\2\21\u00a7\3\2\2\2\23\u00aa"+
+		"\3\2\2\2\25\u00af\3\2\2\2\27\u00b3\3\2\2\2\31\u00b9\3\2\2\2\33\u00bf\3"+
+		"\2\2\2\35\u00c5\3\2\2\2\37\u00c9\3\2\2\2!\u00d2\3\2\2\2#\u00d5\3\2\2\2"+
+		"%\u00d9\3\2\2\2\'\u00dd\3\2\2\2)\u00e0\3\2\2\2+\u00e8\3\2\2\2-\u00ef\3"+
+		"\2\2\2/\u00f6\3\2\2\2\61\u00fb\3\2\2\2\63\u00fe\3\2\2\2\65\u0103\3\2\2"+
+		"\2\67\u0107\3\2\2\29\u010d\3\2\2\2;\u010f\3\2\2\2=\u0111\3\2\2\2?\u0113"+
+		"\3\2\2\2A\u0115\3\2\2\2C\u0117\3\2\2\2E\u0119\3\2\2\2G\u011b\3\2\2\2I"+
+		"\u011d\3\2\2\2K\u011f\3\2\2\2M\u0121\3\2\2\2O\u0123\3\2\2\2Q\u0125\3\2"+
+		"\2\2S\u0127\3\2\2\2U\u0129\3\2\2\2W\u012c\3\2\2\2Y\u012f\3\2\2\2[\u0132"+
+		"\3\2\2\2]\u0134\3\2\2\2_\u0136\3\2\2\2a\u0139\3\2\2\2c\u013c\3\2\2\2e"+
+		"\u013e\3\2\2\2g\u0140\3\2\2\2i\u0143\3\2\2\2k\u0145\3\2\2\2mn\t\2\2\2"+
+		"no\3\2\2\2op\b\2\2\2p\4\3\2\2\2qr\7\61\2\2rs\7,\2\2sx\3\2\2\2tw\13\2\2"+
+		"\2uw\t\3\2\2vt\3\2\2\2vu\3\2\2\2wz\3\2\2\2xy\3\2\2\2xv\3\2\2\2y{\3\2\2"+
+		"\2zx\3\2\2\2{|\7,\2\2|}\7\61\2\2}~\3\2\2\2~\177\b\3\2\2\177\6\3\2\2\2"+
+		"\u0080\u0089\7\62\2\2\u0081\u0085\t\4\2\2\u0082\u0084\t\5\2\2\u0083\u0082"+
+		"\3\2\2\2\u0084\u0087\3\2\2\2\u0085\u0083\3\2\2\2\u0085\u0086\3\2\2\2\u0086"+
+		"\u0089\3\2\2\2\u0087\u0085\3\2\2\2\u0088\u0080\3\2\2\2\u0088\u0081\3\2"+
+		"\2\2\u0089\b\3\2\2\2\u008a\u008d\5\7\4\2\u008b\u008d\7\62\2\2\u008c\u008a"+
+		"\3\2\2\2\u008c\u008b\3\2\2\2\u008d\u008e\3\2\2\2\u008e\u0092\7\60\2\2"+
+		"\u008f\u0091\t\5\2\2\u0090\u008f\3\2\2\2\u0091\u0094\3\2\2\2\u0092\u0090"+
+		"\3\2\2\2\u0092\u0093\3\2\2\2\u0093\n\3\2\2\2\u0094\u0092\3\2\2\2\u0095"+
+		"\u0096\7c\2\2\u0096\u0097\7t\2\2\u0097\u0098\7t\2\2\u0098\u0099\7c\2\2"+
+		"\u0099\u009a\7{\2\2\u009a\f\3\2\2\2\u009b\u009c\7d\2\2\u009c\u009d\7g"+
+		"\2\2\u009d\u009e\7i\2\2\u009e\u009f\7k\2\2\u009f\u00a0\7p\2\2\u00a0\16"+
+		"\3\2\2\2\u00a1\u00a2\7d\2\2\u00a2\u00a3\7t\2\2\u00a3\u00a4\7g\2\2\u00a4"+
+		"\u00a5\7c\2\2\u00a5\u00a6\7m\2\2\u00a6\20\3\2\2\2\u00a7\u00a8\7f\2\2\u00a8"+
+		"\u00a9\7q\2\2\u00a9\22\3\2\2\2\u00aa\u00ab\7g\2\2\u00ab\u00ac\7n\2\2\u00ac"+
+		"\u00ad\7u\2\2\u00ad\u00ae\7g\2\2\u00ae\24\3\2\2\2\u00af\u00b0\7g\2\2\u00b0"+
+		"\u00b1\7p\2\2\u00b1\u00b2\7f\2\2\u00b2\26\3\2\2\2\u00b3\u00b4\7g\2\2\u00b4"+
+		"\u00b5\7p\2\2\u00b5\u00b6\7f\2\2\u00b6\u00b7\7f\2\2\u00b7\u00b8\7q\2\2"+
+		"\u00b8\30\3\2\2\2\u00b9\u00ba\7g\2\2\u00ba\u00bb\7p\2\2\u00bb\u00bc\7"+
+		"f\2\2\u00bc\u00bd\7k\2\2\u00bd\u00be\7h\2\2\u00be\32\3\2\2\2\u00bf\u00c0"+
+		"\7h\2\2\u00c0\u00c1\7n\2\2\u00c1\u00c2\7q\2\2\u00c2\u00c3\7c\2\2\u00c3"+
+		"\u00c4\7v\2\2\u00c4\34\3\2\2\2\u00c5\u00c6\7h\2\2\u00c6\u00c7\7q\2\2\u00c7"+
+		"\u00c8\7t\2\2\u00c8\36\3\2\2\2\u00c9\u00ca\7h\2\2\u00ca\u00cb\7w\2\2\u00cb"+
+		"\u00cc\7p\2\2\u00cc\u00cd\7e\2\2\u00cd\u00ce\7v\2\2\u00ce\u00cf\7k\2\2"+
+		"\u00cf\u00d0\7q\2\2\u00d0\u00d1\7p\2\2\u00d1 \3\2\2\2\u00d2\u00d3\7k\2"+
+		"\2\u00d3\u00d4\7h\2\2\u00d4\"\3\2\2\2\u00d5\u00d6\7k\2\2\u00d6\u00d7\7"+
+		"p\2\2\u00d7\u00d8\7v\2\2\u00d8$\3\2\2\2\u00d9\u00da\7n\2\2\u00da\u00db"+
+		"\7g\2\2\u00db\u00dc\7v\2\2\u00dc&\3\2\2\2\u00dd\u00de\7q\2\2\u00de\u00df"+
+		"\7h\2\2\u00df(\3\2\2\2\u00e0\u00e1\7r\2\2\u00e1\u00e2\7t\2\2\u00e2\u00e3"+
+		"\7q\2\2\u00e3\u00e4\7i\2\2\u00e4\u00e5\7t\2\2\u00e5\u00e6\7c\2\2\u00e6"+
+		"\u00e7\7o\2\2\u00e7*\3\2\2\2\u00e8\u00e9\7t\2\2\u00e9\u00ea\7g\2\2\u00ea"+
+		"\u00eb\7v\2\2\u00eb\u00ec\7w\2\2\u00ec\u00ed\7t\2\2\u00ed\u00ee\7p\2\2"+
+		"\u00ee,\3\2\2\2\u00ef\u00f0\7u\2\2\u00f0\u00f1\7v\2\2\u00f1\u00f2\7c\2"+
+		"\2\u00f2\u00f3\7v\2\2\u00f3\u00f4\7k\2\2\u00f4\u00f5\7e\2\2\u00f5.\3\2"+
+		"\2\2\u00f6\u00f7\7v\2\2\u00f7\u00f8\7j\2\2\u00f8\u00f9\7g\2\2\u00f9\u00fa"+
+		"\7p\2\2\u00fa\60\3\2\2\2\u00fb\u00fc\7v\2\2\u00fc\u00fd\7q\2\2\u00fd\62"+
+		"\3\2\2\2\u00fe\u00ff\7v\2\2\u00ff\u0100\7{\2\2\u0100\u0101\7r\2\2\u0101"+
+		"\u0102\7g\2\2\u0102\64\3\2\2\2\u0103\u0104\7x\2\2\u0104\u0105\7c\2\2\u0105"+
+		"\u0106\7t\2\2\u0106\66\3\2\2\2\u0107\u0108\7y\2\2\u0108\u0109\7j\2\2\u0109"+
+		"\u010a\7k\2\2\u010a\u010b\7n\2\2\u010b\u010c\7g\2\2\u010c8\3\2\2\2\u010d"+
+		"\u010e\7.\2\2\u010e:\3\2\2\2\u010f\u0110\7\60\2\2\u0110<\3\2\2\2\u0111"+
+		"\u0112\7<\2\2\u0112>\3\2\2\2\u0113\u0114\7=\2\2\u0114@\3\2\2\2\u0115\u0116"+
+		"\7*\2\2\u0116B\3\2\2\2\u0117\u0118\7+\2\2\u0118D\3\2\2\2\u0119\u011a\7"+
+		"]\2\2\u011aF\3\2\2\2\u011b\u011c\7_\2\2\u011cH\3\2\2\2\u011d\u011e\7}"+
+		"\2\2\u011eJ\3\2\2\2\u011f\u0120\7\177\2\2\u0120L\3\2\2\2\u0121\u0122\7"+
+		"-\2\2\u0122N\3\2\2\2\u0123\u0124\7/\2\2\u0124P\3\2\2\2\u0125\u0126\7,"+
+		"\2\2\u0126R\3\2\2\2\u0127\u0128\7\61\2\2\u0128T\3\2\2\2\u0129\u012a\7"+
+		",\2\2\u012a\u012b\7,\2\2\u012bV\3\2\2\2\u012c\u012d\7?\2\2\u012d\u012e"+
+		"\7?\2\2\u012eX\3\2\2\2\u012f\u0130\7#\2\2\u0130\u0131\7?\2\2\u0131Z\3"+
+		"\2\2\2\u0132\u0133\7>\2\2\u0133\\\3\2\2\2\u0134\u0135\7@\2\2\u0135^\3"+
+		"\2\2\2\u0136\u0137\7>\2\2\u0137\u0138\7?\2\2\u0138`\3\2\2\2\u0139\u013a"+
+		"\7@\2\2\u013a\u013b\7?\2\2\u013bb\3\2\2\2\u013c\u013d\7(\2\2\u013dd\3"+
+		"\2\2\2\u013e\u013f\7~\2\2\u013ff\3\2\2\2\u0140\u0141\7<\2\2\u0141\u0142"+
+		"\7?\2\2\u0142h\3\2\2\2\u0143\u0144\7?\2\2\u0144j\3\2\2\2\u0145\u0149\t"+
+		"\6\2\2\u0146\u0148\t\7\2\2\u0147\u0146\3\2\2\2\u0148\u014b\3\2\2\2\u0149"+
+		"\u0147\3\2\2\2\u0149\u014a\3\2\2\2\u014al\3\2\2\2\u014b\u0149\3\2\2\2"+
+		"\n\2vx\u0085\u0088\u008c\u0092\u0149\3\b\2\2";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,3436 @@
+// Generated from Tiger.g4 by ANTLR 4.9.3
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class TigerParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.9.3", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		WHITESPACE=1, COMMENT=2, INTLIT=3, FLOATLIT=4, ARRAY=5, BEGIN=6, BREAK=7, 
+		DO=8, ELSE=9, END=10, ENDDO=11, ENDIF=12, FLOAT=13, FOR=14, FUNCTION=15, 
+		IF=16, INT=17, LET=18, OF=19, PROGRAM=20, RETURN=21, STATIC=22, THEN=23, 
+		TO=24, TYPE=25, VAR=26, WHILE=27, COMMA=28, DOT=29, COLON=30, SEMICOLON=31, 
+		OPENPAREN=32, CLOSEPAREN=33, OPENBRACK=34, CLOSEBRACK=35, OPENCURLY=36, 
+		CLOSECURLY=37, PLUS=38, MINUS=39, MULT=40, DIV=41, POW=42, EQUAL=43, NEQUAL=44, 
+		LESS=45, GREAT=46, LESSEQ=47, GREATEQ=48, AND=49, OR=50, ASSIGN=51, TASSIGN=52, 
+		ID=53;
+	public static final int
+		RULE_tiger_program = 0, RULE_declaration_segment = 1, RULE_type_declaration_list = 2, 
+		RULE_var_declaration_list = 3, RULE_funct_list = 4, RULE_type_declaration = 5, 
+		RULE_type = 6, RULE_base_type = 7, RULE_var_declaration = 8, RULE_storage_class = 9, 
+		RULE_id_list = 10, RULE_optional_init = 11, RULE_funct = 12, RULE_param_list = 13, 
+		RULE_param_list_tail = 14, RULE_ret_type = 15, RULE_param = 16, RULE_stat_seq = 17, 
+		RULE_stat = 18, RULE_value_stat = 19, RULE_if_stat = 20, RULE_while_stat = 21, 
+		RULE_for_stat = 22, RULE_func_call_stat = 23, RULE_ret_stat = 24, RULE_let_stat = 25, 
+		RULE_optreturn = 26, RULE_optprefix = 27, RULE_expr = 28, RULE_precedence_or = 29, 
+		RULE_precedence_and = 30, RULE_precedence_compare = 31, RULE_precedence_plus_minus = 32, 
+		RULE_precedence_mult_div = 33, RULE_mult_div = 34, RULE_precedence_pow = 35, 
+		RULE_precedence_paren = 36, RULE_precedence_trail = 37, RULE_value = 38, 
+		RULE_const_ = 39, RULE_expr_list = 40, RULE_expr_list_tail = 41, RULE_value_tail = 42;
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"tiger_program", "declaration_segment", "type_declaration_list", "var_declaration_list", 
+			"funct_list", "type_declaration", "type", "base_type", "var_declaration", 
+			"storage_class", "id_list", "optional_init", "funct", "param_list", "param_list_tail", 
+			"ret_type", "param", "stat_seq", "stat", "value_stat", "if_stat", "while_stat", 
+			"for_stat", "func_call_stat", "ret_stat", "let_stat", "optreturn", "optprefix", 
+			"expr", "precedence_or", "precedence_and", "precedence_compare", "precedence_plus_minus", 
+			"precedence_mult_div", "mult_div", "precedence_pow", "precedence_paren", 
+			"precedence_trail", "value", "const_", "expr_list", "expr_list_tail", 
+			"value_tail"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, null, null, null, null, "'array'", "'begin'", "'break'", "'do'", 
+			"'else'", "'end'", "'enddo'", "'endif'", "'float'", "'for'", "'function'", 
+			"'if'", "'int'", "'let'", "'of'", "'program'", "'return'", "'static'", 
+			"'then'", "'to'", "'type'", "'var'", "'while'", "','", "'.'", "':'", 
+			"';'", "'('", "')'", "'['", "']'", "'{'", "'}'", "'+'", "'-'", "'*'", 
+			"'/'", "'**'", "'=='", "'!='", "'<'", "'>'", "'<='", "'>='", "'&'", "'|'", 
+			"':='", "'='"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "WHITESPACE", "COMMENT", "INTLIT", "FLOATLIT", "ARRAY", "BEGIN", 
+			"BREAK", "DO", "ELSE", "END", "ENDDO", "ENDIF", "FLOAT", "FOR", "FUNCTION", 
+			"IF", "INT", "LET", "OF", "PROGRAM", "RETURN", "STATIC", "THEN", "TO", 
+			"TYPE", "VAR", "WHILE", "COMMA", "DOT", "COLON", "SEMICOLON", "OPENPAREN", 
+			"CLOSEPAREN", "OPENBRACK", "CLOSEBRACK", "OPENCURLY", "CLOSECURLY", "PLUS", 
+			"MINUS", "MULT", "DIV", "POW", "EQUAL", "NEQUAL", "LESS", "GREAT", "LESSEQ", 
+			"GREATEQ", "AND", "OR", "ASSIGN", "TASSIGN", "ID"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "Tiger.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public TigerParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	public static class Tiger_programContext extends ParserRuleContext {
+		public int id;
+		public Token ID;
+		public TerminalNode PROGRAM() { return getToken(TigerParser.PROGRAM, 0); }
+		public TerminalNode ID() { return getToken(TigerParser.ID, 0); }
+		public TerminalNode LET() { return getToken(TigerParser.LET, 0); }
+		public Declaration_segmentContext declaration_segment() {
+			return getRuleContext(Declaration_segmentContext.class,0);
+		}
+		public TerminalNode BEGIN() { return getToken(TigerParser.BEGIN, 0); }
+		public Funct_listContext funct_list() {
+			return getRuleContext(Funct_listContext.class,0);
+		}
+		public TerminalNode END() { return getToken(TigerParser.END, 0); }
+		public Tiger_programContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_tiger_program; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterTiger_program(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitTiger_program(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitTiger_program(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Tiger_programContext tiger_program() throws RecognitionException {
+		Tiger_programContext _localctx = new Tiger_programContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_tiger_program);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(86);
+			match(PROGRAM);
+			setState(87);
+			((Tiger_programContext)_localctx).ID = match(ID);
+			setState(88);
+			match(LET);
+			setState(89);
+			declaration_segment();
+			setState(90);
+			match(BEGIN);
+			setState(91);
+			funct_list();
+			setState(92);
+			match(END);
+			((Tiger_programContext)_localctx).id =  Identifiers.of(((Tiger_programContext)_localctx).ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Declaration_segmentContext extends ParserRuleContext {
+		public Type_declaration_listContext type_declaration_list() {
+			return getRuleContext(Type_declaration_listContext.class,0);
+		}
+		public Var_declaration_listContext var_declaration_list() {
+			return getRuleContext(Var_declaration_listContext.class,0);
+		}
+		public Declaration_segmentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_declaration_segment; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterDeclaration_segment(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitDeclaration_segment(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitDeclaration_segment(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Declaration_segmentContext declaration_segment() throws RecognitionException {
+		Declaration_segmentContext _localctx = new Declaration_segmentContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_declaration_segment);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(95);
+			type_declaration_list();
+			setState(96);
+			var_declaration_list();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Type_declaration_listContext extends ParserRuleContext {
+		public Type_declarationContext type_declaration() {
+			return getRuleContext(Type_declarationContext.class,0);
+		}
+		public Type_declaration_listContext type_declaration_list() {
+			return getRuleContext(Type_declaration_listContext.class,0);
+		}
+		public Type_declaration_listContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_type_declaration_list; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterType_declaration_list(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitType_declaration_list(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitType_declaration_list(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Type_declaration_listContext type_declaration_list() throws RecognitionException {
+		Type_declaration_listContext _localctx = new Type_declaration_listContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_type_declaration_list);
+		try {
+			setState(102);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case TYPE:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(98);
+				type_declaration();
+				setState(99);
+				type_declaration_list();
+				}
+				break;
+			case BEGIN:
+			case STATIC:
+			case VAR:
+				enterOuterAlt(_localctx, 2);
+				{
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Var_declaration_listContext extends ParserRuleContext {
+		public Var_declarationContext var_declaration() {
+			return getRuleContext(Var_declarationContext.class,0);
+		}
+		public Var_declaration_listContext var_declaration_list() {
+			return getRuleContext(Var_declaration_listContext.class,0);
+		}
+		public Var_declaration_listContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_var_declaration_list; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterVar_declaration_list(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitVar_declaration_list(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitVar_declaration_list(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Var_declaration_listContext var_declaration_list() throws RecognitionException {
+		Var_declaration_listContext _localctx = new Var_declaration_listContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_var_declaration_list);
+		try {
+			setState(108);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case STATIC:
+			case VAR:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(104);
+				var_declaration();
+				setState(105);
+				var_declaration_list();
+				}
+				break;
+			case BEGIN:
+				enterOuterAlt(_localctx, 2);
+				{
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Funct_listContext extends ParserRuleContext {
+		public FunctContext funct() {
+			return getRuleContext(FunctContext.class,0);
+		}
+		public Funct_listContext funct_list() {
+			return getRuleContext(Funct_listContext.class,0);
+		}
+		public Funct_listContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_funct_list; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterFunct_list(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitFunct_list(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitFunct_list(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Funct_listContext funct_list() throws RecognitionException {
+		Funct_listContext _localctx = new Funct_listContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_funct_list);
+		try {
+			setState(114);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case FUNCTION:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(110);
+				funct();
+				setState(111);
+				funct_list();
+				}
+				break;
+			case END:
+				enterOuterAlt(_localctx, 2);
+				{
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Type_declarationContext extends ParserRuleContext {
+		public int id;
+		public Type varType;
+		public Token ID;
+		public TypeContext type;
+		public TerminalNode TYPE() { return getToken(TigerParser.TYPE, 0); }
+		public TerminalNode ID() { return getToken(TigerParser.ID, 0); }
+		public TerminalNode TASSIGN() { return getToken(TigerParser.TASSIGN, 0); }
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public TerminalNode SEMICOLON() { return getToken(TigerParser.SEMICOLON, 0); }
+		public Type_declarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_type_declaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterType_declaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitType_declaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitType_declaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Type_declarationContext type_declaration() throws RecognitionException {
+		Type_declarationContext _localctx = new Type_declarationContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_type_declaration);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(116);
+			match(TYPE);
+			setState(117);
+			((Type_declarationContext)_localctx).ID = match(ID);
+			setState(118);
+			match(TASSIGN);
+			setState(119);
+			((Type_declarationContext)_localctx).type = type();
+			setState(120);
+			match(SEMICOLON);
+			((Type_declarationContext)_localctx).id =  Identifiers.of(((Type_declarationContext)_localctx).ID);
+			                                              ((Type_declarationContext)_localctx).varType =  ((Type_declarationContext)_localctx).type.varType;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeContext extends ParserRuleContext {
+		public Type varType;
+		public Base_typeContext base_type;
+		public Token INTLIT;
+		public Token ID;
+		public Base_typeContext base_type() {
+			return getRuleContext(Base_typeContext.class,0);
+		}
+		public TerminalNode ARRAY() { return getToken(TigerParser.ARRAY, 0); }
+		public TerminalNode OPENBRACK() { return getToken(TigerParser.OPENBRACK, 0); }
+		public TerminalNode INTLIT() { return getToken(TigerParser.INTLIT, 0); }
+		public TerminalNode CLOSEBRACK() { return getToken(TigerParser.CLOSEBRACK, 0); }
+		public TerminalNode OF() { return getToken(TigerParser.OF, 0); }
+		public TerminalNode ID() { return getToken(TigerParser.ID, 0); }
+		public TypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_type; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterType(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitType(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeContext type() throws RecognitionException {
+		TypeContext _localctx = new TypeContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_type);
+		try {
+			setState(136);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case FLOAT:
+			case INT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(123);
+				((TypeContext)_localctx).base_type = base_type();
+				((TypeContext)_localctx).varType =  Type.of(((TypeContext)_localctx).base_type.varTypeString);
+				}
+				break;
+			case ARRAY:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(126);
+				match(ARRAY);
+				setState(127);
+				match(OPENBRACK);
+				setState(128);
+				((TypeContext)_localctx).INTLIT = match(INTLIT);
+				setState(129);
+				match(CLOSEBRACK);
+				setState(130);
+				match(OF);
+				setState(131);
+				((TypeContext)_localctx).base_type = base_type();
+				((TypeContext)_localctx).varType =  Type.array(((TypeContext)_localctx).base_type.varTypeString, (((TypeContext)_localctx).INTLIT!=null?Integer.valueOf(((TypeContext)_localctx).INTLIT.getText()):0));
+				}
+				break;
+			case ID:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(134);
+				((TypeContext)_localctx).ID = match(ID);
+				((TypeContext)_localctx).varType =  Type.of(Identifiers.of(((TypeContext)_localctx).ID));
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Base_typeContext extends ParserRuleContext {
+		public String varTypeString;
+		public Token INT;
+		public Token FLOAT;
+		public TerminalNode INT() { return getToken(TigerParser.INT, 0); }
+		public TerminalNode FLOAT() { return getToken(TigerParser.FLOAT, 0); }
+		public Base_typeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_base_type; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterBase_type(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitBase_type(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitBase_type(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Base_typeContext base_type() throws RecognitionException {
+		Base_typeContext _localctx = new Base_typeContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_base_type);
+		try {
+			setState(142);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case INT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(138);
+				((Base_typeContext)_localctx).INT = match(INT);
+				((Base_typeContext)_localctx).varTypeString =  (((Base_typeContext)_localctx).INT!=null?((Base_typeContext)_localctx).INT.getText():null);
+				}
+				break;
+			case FLOAT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(140);
+				((Base_typeContext)_localctx).FLOAT = match(FLOAT);
+				((Base_typeContext)_localctx).varTypeString =  (((Base_typeContext)_localctx).FLOAT!=null?((Base_typeContext)_localctx).FLOAT.getText():null);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Var_declarationContext extends ParserRuleContext {
+		public String storageClass;
+		public Type varType;
+		public IntList idList;
+		public boolean isAssigned;
+		public String varValue;
+		public Storage_classContext storage_class;
+		public Id_listContext id_list;
+		public TypeContext type;
+		public Optional_initContext optional_init;
+		public Storage_classContext storage_class() {
+			return getRuleContext(Storage_classContext.class,0);
+		}
+		public Id_listContext id_list() {
+			return getRuleContext(Id_listContext.class,0);
+		}
+		public TerminalNode COLON() { return getToken(TigerParser.COLON, 0); }
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public Optional_initContext optional_init() {
+			return getRuleContext(Optional_initContext.class,0);
+		}
+		public TerminalNode SEMICOLON() { return getToken(TigerParser.SEMICOLON, 0); }
+		public Var_declarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_var_declaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterVar_declaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitVar_declaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitVar_declaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Var_declarationContext var_declaration() throws RecognitionException {
+		Var_declarationContext _localctx = new Var_declarationContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_var_declaration);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(144);
+			((Var_declarationContext)_localctx).storage_class = storage_class();
+			setState(145);
+			((Var_declarationContext)_localctx).id_list = id_list();
+			setState(146);
+			match(COLON);
+			setState(147);
+			((Var_declarationContext)_localctx).type = type();
+			setState(148);
+			((Var_declarationContext)_localctx).optional_init = optional_init();
+			setState(149);
+			match(SEMICOLON);
+			((Var_declarationContext)_localctx).storageClass =  ((Var_declarationContext)_localctx).storage_class.storageClass;
+			                                                                        ((Var_declarationContext)_localctx).varType =  ((Var_declarationContext)_localctx).type.varType;
+			                                                                        ((Var_declarationContext)_localctx).idList =  ((Var_declarationContext)_localctx).id_list.idList;
+			                                                                        ((Var_declarationContext)_localctx).isAssigned =  ((Var_declarationContext)_localctx).optional_init.isAssigned;
+			                                                                        ((Var_declarationContext)_localctx).varValue =  ((Var_declarationContext)_localctx).optional_init.varValue;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Storage_classContext extends ParserRuleContext {
+		public String storageClass;
+		public Token VAR;
+		public Token STATIC;
+		public TerminalNode VAR() { return getToken(TigerParser.VAR, 0); }
+		public TerminalNode STATIC() { return getToken(TigerParser.STATIC, 0); }
+		public Storage_classContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_storage_class; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterStorage_class(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitStorage_class(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitStorage_class(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Storage_classContext storage_class() throws RecognitionException {
+		Storage_classContext _localctx = new Storage_classContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_storage_class);
+		try {
+			setState(156);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case VAR:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(152);
+				((Storage_classContext)_localctx).VAR = match(VAR);
+				((Storage_classContext)_localctx).storageClass =  (((Storage_classContext)_localctx).VAR!=null?((Storage_classContext)_localctx).VAR.getText():null);
+				}
+				break;
+			case STATIC:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(154);
+				((Storage_classContext)_localctx).STATIC = match(STATIC);
+				((Storage_classContext)_localctx).storageClass =  (((Storage_classContext)_localctx).STATIC!=null?((Storage_classContext)_localctx).STATIC.getText():null);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Id_listContext extends ParserRuleContext {
+		public IntList idList;
+		public Token ID;
+		public Id_listContext id_list;
+		public TerminalNode ID() { return getToken(TigerParser.ID, 0); }
+		public TerminalNode COMMA() { return getToken(TigerParser.COMMA, 0); }
+		public Id_listContext id_list() {
+			return getRuleContext(Id_listContext.class,0);
+		}
+		public Id_listContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_id_list; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterId_list(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitId_list(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitId_list(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Id_listContext id_list() throws RecognitionException {
+		Id_listContext _localctx = new Id_listContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_id_list);
+		try {
+			setState(165);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,6,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(158);
+				((Id_listContext)_localctx).ID = match(ID);
+				((Id_listContext)_localctx).idList =  new IntList();
+				                  _localctx.idList.add(Identifiers.of(((Id_listContext)_localctx).ID));
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(160);
+				((Id_listContext)_localctx).ID = match(ID);
+				setState(161);
+				match(COMMA);
+				setState(162);
+				((Id_listContext)_localctx).id_list = id_list();
+				((Id_listContext)_localctx).idList =  new IntList();
+				                                _localctx.idList.add(Identifiers.of(((Id_listContext)_localctx).ID));
+				                                for (int i = 0; i < ((Id_listContext)_localctx).id_list.idList.size(); ++i)
+				                                    _localctx.idList.add(((Id_listContext)_localctx).id_list.idList.get(i));
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Optional_initContext extends ParserRuleContext {
+		public boolean isAssigned;
+		public String varValue;
+		public Const_Context const_;
+		public TerminalNode ASSIGN() { return getToken(TigerParser.ASSIGN, 0); }
+		public Const_Context const_() {
+			return getRuleContext(Const_Context.class,0);
+		}
+		public Optional_initContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_optional_init; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterOptional_init(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitOptional_init(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitOptional_init(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Optional_initContext optional_init() throws RecognitionException {
+		Optional_initContext _localctx = new Optional_initContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_optional_init);
+		try {
+			setState(172);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case ASSIGN:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(167);
+				match(ASSIGN);
+				setState(168);
+				((Optional_initContext)_localctx).const_ = const_();
+				((Optional_initContext)_localctx).isAssigned =  true; ((Optional_initContext)_localctx).varValue =  ((Optional_initContext)_localctx).const_.varValue;
+				}
+				break;
+			case SEMICOLON:
+				enterOuterAlt(_localctx, 2);
+				{
+				((Optional_initContext)_localctx).isAssigned =  false; ((Optional_initContext)_localctx).varValue =  "";
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FunctContext extends ParserRuleContext {
+		public int id;
+		public Type retType;
+		public List<Type> params;
+		public boolean hasReturn;
+		public boolean outsideBreak;
+		public List<Integer> breakLines;
+		public boolean semError = false;
+		public Token ID;
+		public Param_listContext param_list;
+		public Ret_typeContext ret_type;
+		public Stat_seqContext stat_seq;
+		public TerminalNode FUNCTION() { return getToken(TigerParser.FUNCTION, 0); }
+		public TerminalNode ID() { return getToken(TigerParser.ID, 0); }
+		public TerminalNode OPENPAREN() { return getToken(TigerParser.OPENPAREN, 0); }
+		public Param_listContext param_list() {
+			return getRuleContext(Param_listContext.class,0);
+		}
+		public TerminalNode CLOSEPAREN() { return getToken(TigerParser.CLOSEPAREN, 0); }
+		public Ret_typeContext ret_type() {
+			return getRuleContext(Ret_typeContext.class,0);
+		}
+		public TerminalNode BEGIN() { return getToken(TigerParser.BEGIN, 0); }
+		public Stat_seqContext stat_seq() {
+			return getRuleContext(Stat_seqContext.class,0);
+		}
+		public TerminalNode END() { return getToken(TigerParser.END, 0); }
+		public FunctContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_funct; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterFunct(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitFunct(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitFunct(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FunctContext funct() throws RecognitionException {
+		FunctContext _localctx = new FunctContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_funct);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(174);
+			match(FUNCTION);
+			setState(175);
+			((FunctContext)_localctx).ID = match(ID);
+			setState(176);
+			match(OPENPAREN);
+			setState(177);
+			((FunctContext)_localctx).param_list = param_list();
+			setState(178);
+			match(CLOSEPAREN);
+			setState(179);
+			((FunctContext)_localctx).ret_type = ret_type();
+			setState(180);
+			match(BEGIN);
+			setState(181);
+			((FunctContext)_localctx).stat_seq = stat_seq();
+			setState(182);
+			match(END);
+			((FunctContext)_localctx).id =  Identifiers.of(((FunctContext)_localctx).ID);
+			                                                                                       ((FunctContext)_localctx).retType =  ((FunctContext)_localctx).ret_type.varType;
+			                                                                                       ((FunctContext)_localctx).params =  ((FunctContext)_localctx).param_list.params;
+			                                                                                       ((FunctContext)_localctx).hasReturn =  ((FunctContext)_localctx).stat_seq.hasReturn;
+			                                                                                       ((FunctContext)_localctx).outsideBreak =  ((FunctContext)_localctx).stat_seq.outsideBreak;
+			                                                                                       ((FunctContext)_localctx).breakLines =  ((FunctContext)_localctx).stat_seq.breakLines;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Param_listContext extends ParserRuleContext {
+		public List<Type> params = new ArrayList<>();
+		public ParamContext param;
+		public Param_list_tailContext param_list_tail;
+		public ParamContext param() {
+			return getRuleContext(ParamContext.class,0);
+		}
+		public Param_list_tailContext param_list_tail() {
+			return getRuleContext(Param_list_tailContext.class,0);
+		}
+		public Param_listContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_param_list; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterParam_list(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitParam_list(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitParam_list(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Param_listContext param_list() throws RecognitionException {
+		Param_listContext _localctx = new Param_listContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_param_list);
+		try {
+			setState(190);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case ID:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(185);
+				((Param_listContext)_localctx).param = param();
+				setState(186);
+				((Param_listContext)_localctx).param_list_tail = param_list_tail();
+				_localctx.params.add(((Param_listContext)_localctx).param.varType);
+				                                     _localctx.params.addAll(((Param_listContext)_localctx).param_list_tail.params);
+				}
+				break;
+			case CLOSEPAREN:
+				enterOuterAlt(_localctx, 2);
+				{
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Param_list_tailContext extends ParserRuleContext {
+		public List<Type> params = new ArrayList<>();
+		public ParamContext param;
+		public Param_list_tailContext param_list_tail;
+		public TerminalNode COMMA() { return getToken(TigerParser.COMMA, 0); }
+		public ParamContext param() {
+			return getRuleContext(ParamContext.class,0);
+		}
+		public Param_list_tailContext param_list_tail() {
+			return getRuleContext(Param_list_tailContext.class,0);
+		}
+		public Param_list_tailContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_param_list_tail; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterParam_list_tail(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitParam_list_tail(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitParam_list_tail(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Param_list_tailContext param_list_tail() throws RecognitionException {
+		Param_list_tailContext _localctx = new Param_list_tailContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_param_list_tail);
+		try {
+			setState(198);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case COMMA:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(192);
+				match(COMMA);
+				setState(193);
+				((Param_list_tailContext)_localctx).param = param();
+				setState(194);
+				((Param_list_tailContext)_localctx).param_list_tail = param_list_tail();
+				_localctx.params.add(((Param_list_tailContext)_localctx).param.varType);
+				                                          _localctx.params.addAll(((Param_list_tailContext)_localctx).param_list_tail.params);
+				}
+				break;
+			case CLOSEPAREN:
+				enterOuterAlt(_localctx, 2);
+				{
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Ret_typeContext extends ParserRuleContext {
+		public Type varType;
+		public TypeContext type;
+		public TerminalNode COLON() { return getToken(TigerParser.COLON, 0); }
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public Ret_typeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ret_type; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterRet_type(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitRet_type(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitRet_type(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Ret_typeContext ret_type() throws RecognitionException {
+		Ret_typeContext _localctx = new Ret_typeContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_ret_type);
+		try {
+			setState(205);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case COLON:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(200);
+				match(COLON);
+				setState(201);
+				((Ret_typeContext)_localctx).type = type();
+				((Ret_typeContext)_localctx).varType =  ((Ret_typeContext)_localctx).type.varType;
+				}
+				break;
+			case BEGIN:
+				enterOuterAlt(_localctx, 2);
+				{
+				((Ret_typeContext)_localctx).varType =  Type.VOID;
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ParamContext extends ParserRuleContext {
+		public Type varType;
+		public int id;
+		public Token ID;
+		public TypeContext type;
+		public TerminalNode ID() { return getToken(TigerParser.ID, 0); }
+		public TerminalNode COLON() { return getToken(TigerParser.COLON, 0); }
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public ParamContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_param; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterParam(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitParam(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitParam(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ParamContext param() throws RecognitionException {
+		ParamContext _localctx = new ParamContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_param);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(207);
+			((ParamContext)_localctx).ID = match(ID);
+			setState(208);
+			match(COLON);
+			setState(209);
+			((ParamContext)_localctx).type = type();
+			((ParamContext)_localctx).varType =  ((ParamContext)_localctx).type.varType;
+			                             ((ParamContext)_localctx).id =  Identifiers.of(((ParamContext)_localctx).ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Stat_seqContext extends ParserRuleContext {
+		public boolean hasReturn;
+		public boolean outsideBreak;
+		public List<Integer> breakLines;
+		public StatContext stat;
+		public Stat_seqContext rest;
+		public StatContext stat() {
+			return getRuleContext(StatContext.class,0);
+		}
+		public Stat_seqContext stat_seq() {
+			return getRuleContext(Stat_seqContext.class,0);
+		}
+		public Stat_seqContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_stat_seq; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterStat_seq(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitStat_seq(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitStat_seq(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Stat_seqContext stat_seq() throws RecognitionException {
+		Stat_seqContext _localctx = new Stat_seqContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_stat_seq);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(212);
+			((Stat_seqContext)_localctx).stat = stat();
+			((Stat_seqContext)_localctx).hasReturn =  ((Stat_seqContext)_localctx).stat.hasReturn;
+			                    ((Stat_seqContext)_localctx).outsideBreak =  ((Stat_seqContext)_localctx).stat.outsideBreak;
+			                    ((Stat_seqContext)_localctx).breakLines =  ((Stat_seqContext)_localctx).stat.breakLines;
+			setState(217);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BREAK) | (1L << FOR) | (1L << IF) | (1L << LET) | (1L << RETURN) | (1L << WHILE) | (1L << ID))) != 0)) {
+				{
+				setState(214);
+				((Stat_seqContext)_localctx).rest = stat_seq();
+				((Stat_seqContext)_localctx).hasReturn =  _localctx.hasReturn || ((Stat_seqContext)_localctx).rest.hasReturn;
+				                              ((Stat_seqContext)_localctx).outsideBreak =  _localctx.outsideBreak || ((Stat_seqContext)_localctx).rest.outsideBreak;
+				                              _localctx.breakLines.addAll(((Stat_seqContext)_localctx).rest.breakLines);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StatContext extends ParserRuleContext {
+		public boolean hasReturn;
+		public boolean outsideBreak = false;
+		public List<Integer> breakLines = new ArrayList<>();;
+		public If_statContext if_stat;
+		public While_statContext while_stat;
+		public For_statContext for_stat;
+		public Token BREAK;
+		public Let_statContext let_stat;
+		public Value_statContext value_stat() {
+			return getRuleContext(Value_statContext.class,0);
+		}
+		public If_statContext if_stat() {
+			return getRuleContext(If_statContext.class,0);
+		}
+		public While_statContext while_stat() {
+			return getRuleContext(While_statContext.class,0);
+		}
+		public For_statContext for_stat() {
+			return getRuleContext(For_statContext.class,0);
+		}
+		public Func_call_statContext func_call_stat() {
+			return getRuleContext(Func_call_statContext.class,0);
+		}
+		public TerminalNode BREAK() { return getToken(TigerParser.BREAK, 0); }
+		public TerminalNode SEMICOLON() { return getToken(TigerParser.SEMICOLON, 0); }
+		public Ret_statContext ret_stat() {
+			return getRuleContext(Ret_statContext.class,0);
+		}
+		public Let_statContext let_stat() {
+			return getRuleContext(Let_statContext.class,0);
+		}
+		public StatContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_stat; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterStat(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitStat(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitStat(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatContext stat() throws RecognitionException {
+		StatContext _localctx = new StatContext(_ctx, getState());
+		enterRule(_localctx, 36, RULE_stat);
+		try {
+			setState(239);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(219);
+				value_stat();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(220);
+				((StatContext)_localctx).if_stat = if_stat();
+				((StatContext)_localctx).hasReturn =  ((StatContext)_localctx).if_stat.hasReturn;
+				                ((StatContext)_localctx).outsideBreak =  ((StatContext)_localctx).if_stat.outsideBreak;
+				                ((StatContext)_localctx).breakLines =  ((StatContext)_localctx).if_stat.breakLines;
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(223);
+				((StatContext)_localctx).while_stat = while_stat();
+				((StatContext)_localctx).hasReturn =  ((StatContext)_localctx).while_stat.hasReturn;
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(226);
+				((StatContext)_localctx).for_stat = for_stat();
+				((StatContext)_localctx).hasReturn =  ((StatContext)_localctx).for_stat.hasReturn;
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(229);
+				func_call_stat();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(230);
+				((StatContext)_localctx).BREAK = match(BREAK);
+				setState(231);
+				match(SEMICOLON);
+				((StatContext)_localctx).outsideBreak =  true;
+				                       ((StatContext)_localctx).breakLines =  new ArrayList<>(List.of(((StatContext)_localctx).BREAK.getLine()));
+				}
+				break;
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(233);
+				ret_stat();
+				((StatContext)_localctx).hasReturn =  true;
+				}
+				break;
+			case 8:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(236);
+				((StatContext)_localctx).let_stat = let_stat();
+				((StatContext)_localctx).hasReturn =  ((StatContext)_localctx).let_stat.hasReturn;
+				                ((StatContext)_localctx).outsideBreak =  ((StatContext)_localctx).let_stat.outsideBreak;
+				                ((StatContext)_localctx).breakLines =  ((StatContext)_localctx).let_stat.breakLines;
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Value_statContext extends ParserRuleContext {
+		public String valueID;
+		public ValueContext value() {
+			return getRuleContext(ValueContext.class,0);
+		}
+		public TerminalNode ASSIGN() { return getToken(TigerParser.ASSIGN, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public TerminalNode SEMICOLON() { return getToken(TigerParser.SEMICOLON, 0); }
+		public Value_statContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_value_stat; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterValue_stat(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitValue_stat(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitValue_stat(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Value_statContext value_stat() throws RecognitionException {
+		Value_statContext _localctx = new Value_statContext(_ctx, getState());
+		enterRule(_localctx, 38, RULE_value_stat);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(241);
+			value();
+			setState(242);
+			match(ASSIGN);
+			setState(243);
+			expr();
+			setState(244);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class If_statContext extends ParserRuleContext {
+		public boolean hasReturn;
+		public boolean outsideBreak;
+		public List<Integer> breakLines;
+		public Stat_seqContext a;
+		public Stat_seqContext b;
+		public TerminalNode IF() { return getToken(TigerParser.IF, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public TerminalNode THEN() { return getToken(TigerParser.THEN, 0); }
+		public TerminalNode ENDIF() { return getToken(TigerParser.ENDIF, 0); }
+		public TerminalNode SEMICOLON() { return getToken(TigerParser.SEMICOLON, 0); }
+		public List<Stat_seqContext> stat_seq() {
+			return getRuleContexts(Stat_seqContext.class);
+		}
+		public Stat_seqContext stat_seq(int i) {
+			return getRuleContext(Stat_seqContext.class,i);
+		}
+		public TerminalNode ELSE() { return getToken(TigerParser.ELSE, 0); }
+		public If_statContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_if_stat; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterIf_stat(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitIf_stat(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitIf_stat(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final If_statContext if_stat() throws RecognitionException {
+		If_statContext _localctx = new If_statContext(_ctx, getState());
+		enterRule(_localctx, 40, RULE_if_stat);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(246);
+			match(IF);
+			setState(247);
+			expr();
+			setState(248);
+			match(THEN);
+			setState(249);
+			((If_statContext)_localctx).a = stat_seq();
+			((If_statContext)_localctx).hasReturn =  ((If_statContext)_localctx).a.hasReturn;
+			                                           ((If_statContext)_localctx).outsideBreak =  ((If_statContext)_localctx).a.outsideBreak;
+			                                           ((If_statContext)_localctx).breakLines =  ((If_statContext)_localctx).a.breakLines;
+			setState(255);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==ELSE) {
+				{
+				setState(251);
+				match(ELSE);
+				setState(252);
+				((If_statContext)_localctx).b = stat_seq();
+				((If_statContext)_localctx).hasReturn =  ((If_statContext)_localctx).a.hasReturn || ((If_statContext)_localctx).b.hasReturn;
+				                                    ((If_statContext)_localctx).outsideBreak =  _localctx.outsideBreak || ((If_statContext)_localctx).b.outsideBreak;
+				                                    _localctx.breakLines.addAll(((If_statContext)_localctx).b.breakLines);
+				}
+			}
+
+			setState(257);
+			match(ENDIF);
+			setState(258);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class While_statContext extends ParserRuleContext {
+		public boolean hasReturn;
+		public Stat_seqContext stat_seq;
+		public TerminalNode WHILE() { return getToken(TigerParser.WHILE, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public TerminalNode DO() { return getToken(TigerParser.DO, 0); }
+		public Stat_seqContext stat_seq() {
+			return getRuleContext(Stat_seqContext.class,0);
+		}
+		public TerminalNode ENDDO() { return getToken(TigerParser.ENDDO, 0); }
+		public TerminalNode SEMICOLON() { return getToken(TigerParser.SEMICOLON, 0); }
+		public While_statContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_while_stat; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterWhile_stat(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitWhile_stat(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitWhile_stat(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final While_statContext while_stat() throws RecognitionException {
+		While_statContext _localctx = new While_statContext(_ctx, getState());
+		enterRule(_localctx, 42, RULE_while_stat);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(260);
+			match(WHILE);
+			setState(261);
+			expr();
+			setState(262);
+			match(DO);
+			setState(263);
+			((While_statContext)_localctx).stat_seq = stat_seq();
+			setState(264);
+			match(ENDDO);
+			setState(265);
+			match(SEMICOLON);
+			((While_statContext)_localctx).hasReturn =  ((While_statContext)_localctx).stat_seq.hasReturn;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class For_statContext extends ParserRuleContext {
+		public boolean hasReturn;
+		public Stat_seqContext stat_seq;
+		public TerminalNode FOR() { return getToken(TigerParser.FOR, 0); }
+		public TerminalNode ID() { return getToken(TigerParser.ID, 0); }
+		public TerminalNode ASSIGN() { return getToken(TigerParser.ASSIGN, 0); }
+		public List<ExprContext> expr() {
+			return getRuleContexts(ExprContext.class);
+		}
+		public ExprContext expr(int i) {
+			return getRuleContext(ExprContext.class,i);
+		}
+		public TerminalNode TO() { return getToken(TigerParser.TO, 0); }
+		public TerminalNode DO() { return getToken(TigerParser.DO, 0); }
+		public Stat_seqContext stat_seq() {
+			return getRuleContext(Stat_seqContext.class,0);
+		}
+		public TerminalNode ENDDO() { return getToken(TigerParser.ENDDO, 0); }
+		public TerminalNode SEMICOLON() { return getToken(TigerParser.SEMICOLON, 0); }
+		public For_statContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_for_stat; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterFor_stat(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitFor_stat(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitFor_stat(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final For_statContext for_stat() throws RecognitionException {
+		For_statContext _localctx = new For_statContext(_ctx, getState());
+		enterRule(_localctx, 44, RULE_for_stat);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(268);
+			match(FOR);
+			setState(269);
+			match(ID);
+			setState(270);
+			match(ASSIGN);
+			setState(271);
+			expr();
+			setState(272);
+			match(TO);
+			setState(273);
+			expr();
+			setState(274);
+			match(DO);
+			setState(275);
+			((For_statContext)_localctx).stat_seq = stat_seq();
+			setState(276);
+			match(ENDDO);
+			setState(277);
+			match(SEMICOLON);
+			((For_statContext)_localctx).hasReturn =  ((For_statContext)_localctx).stat_seq.hasReturn;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Func_call_statContext extends ParserRuleContext {
+		public OptprefixContext optprefix() {
+			return getRuleContext(OptprefixContext.class,0);
+		}
+		public TerminalNode ID() { return getToken(TigerParser.ID, 0); }
+		public TerminalNode OPENPAREN() { return getToken(TigerParser.OPENPAREN, 0); }
+		public Expr_listContext expr_list() {
+			return getRuleContext(Expr_listContext.class,0);
+		}
+		public TerminalNode CLOSEPAREN() { return getToken(TigerParser.CLOSEPAREN, 0); }
+		public TerminalNode SEMICOLON() { return getToken(TigerParser.SEMICOLON, 0); }
+		public Func_call_statContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_func_call_stat; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterFunc_call_stat(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitFunc_call_stat(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitFunc_call_stat(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Func_call_statContext func_call_stat() throws RecognitionException {
+		Func_call_statContext _localctx = new Func_call_statContext(_ctx, getState());
+		enterRule(_localctx, 46, RULE_func_call_stat);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(280);
+			optprefix();
+			setState(281);
+			match(ID);
+			setState(282);
+			match(OPENPAREN);
+			setState(283);
+			expr_list();
+			setState(284);
+			match(CLOSEPAREN);
+			setState(285);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Ret_statContext extends ParserRuleContext {
+		public TerminalNode RETURN() { return getToken(TigerParser.RETURN, 0); }
+		public OptreturnContext optreturn() {
+			return getRuleContext(OptreturnContext.class,0);
+		}
+		public TerminalNode SEMICOLON() { return getToken(TigerParser.SEMICOLON, 0); }
+		public Ret_statContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ret_stat; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterRet_stat(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitRet_stat(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitRet_stat(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Ret_statContext ret_stat() throws RecognitionException {
+		Ret_statContext _localctx = new Ret_statContext(_ctx, getState());
+		enterRule(_localctx, 48, RULE_ret_stat);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(287);
+			match(RETURN);
+			setState(288);
+			optreturn();
+			setState(289);
+			match(SEMICOLON);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Let_statContext extends ParserRuleContext {
+		public boolean hasReturn;
+		public boolean outsideBreak;
+		public List<Integer> breakLines;
+		public Stat_seqContext stat_seq;
+		public TerminalNode LET() { return getToken(TigerParser.LET, 0); }
+		public Declaration_segmentContext declaration_segment() {
+			return getRuleContext(Declaration_segmentContext.class,0);
+		}
+		public TerminalNode BEGIN() { return getToken(TigerParser.BEGIN, 0); }
+		public Stat_seqContext stat_seq() {
+			return getRuleContext(Stat_seqContext.class,0);
+		}
+		public TerminalNode END() { return getToken(TigerParser.END, 0); }
+		public Let_statContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_let_stat; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterLet_stat(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitLet_stat(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitLet_stat(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Let_statContext let_stat() throws RecognitionException {
+		Let_statContext _localctx = new Let_statContext(_ctx, getState());
+		enterRule(_localctx, 50, RULE_let_stat);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(291);
+			match(LET);
+			setState(292);
+			declaration_segment();
+			setState(293);
+			match(BEGIN);
+			setState(294);
+			((Let_statContext)_localctx).stat_seq = stat_seq();
+			setState(295);
+			match(END);
+			((Let_statContext)_localctx).hasReturn =  ((Let_statContext)_localctx).stat_seq.hasReturn;
+			                                                          ((Let_statContext)_localctx).outsideBreak =  ((Let_statContext)_localctx).stat_seq.outsideBreak;
+			                                                          ((Let_statContext)_localctx).breakLines =  ((Let_statContext)_localctx).stat_seq.breakLines;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class OptreturnContext extends ParserRuleContext {
+		public Type varType;
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public OptreturnContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_optreturn; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterOptreturn(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitOptreturn(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitOptreturn(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final OptreturnContext optreturn() throws RecognitionException {
+		OptreturnContext _localctx = new OptreturnContext(_ctx, getState());
+		enterRule(_localctx, 52, RULE_optreturn);
+		try {
+			setState(300);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case INTLIT:
+			case FLOATLIT:
+			case OPENPAREN:
+			case ID:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(298);
+				expr();
+				}
+				break;
+			case SEMICOLON:
+				enterOuterAlt(_localctx, 2);
+				{
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class OptprefixContext extends ParserRuleContext {
+		public Type varType;
+		public int id = -1;
+		public ValueContext value;
+		public ValueContext value() {
+			return getRuleContext(ValueContext.class,0);
+		}
+		public TerminalNode ASSIGN() { return getToken(TigerParser.ASSIGN, 0); }
+		public OptprefixContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_optprefix; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterOptprefix(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitOptprefix(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitOptprefix(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final OptprefixContext optprefix() throws RecognitionException {
+		OptprefixContext _localctx = new OptprefixContext(_ctx, getState());
+		enterRule(_localctx, 54, RULE_optprefix);
+		try {
+			setState(307);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(302);
+				((OptprefixContext)_localctx).value = value();
+				setState(303);
+				match(ASSIGN);
+				((OptprefixContext)_localctx).id =  ((OptprefixContext)_localctx).value.id;
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExprContext extends ParserRuleContext {
+		public Type varType;
+		public boolean isSubscript;
+		public String varValue;
+		public String tail;
+		public int place = -1;
+		public Precedence_orContext precedence_or;
+		public Precedence_orContext precedence_or() {
+			return getRuleContext(Precedence_orContext.class,0);
+		}
+		public ExprContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expr; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterExpr(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitExpr(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitExpr(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExprContext expr() throws RecognitionException {
+		ExprContext _localctx = new ExprContext(_ctx, getState());
+		enterRule(_localctx, 56, RULE_expr);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(309);
+			((ExprContext)_localctx).precedence_or = precedence_or(0);
+			((ExprContext)_localctx).isSubscript =  ((ExprContext)_localctx).precedence_or.isSubscript;
+			                             ((ExprContext)_localctx).varValue =  ((ExprContext)_localctx).precedence_or.varValue;
+			                             ((ExprContext)_localctx).tail =  ((ExprContext)_localctx).precedence_or.tail;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Precedence_orContext extends ParserRuleContext {
+		public Type varType;
+		public boolean isEval = false;
+		public boolean isSubscript = false;
+		public String varValue;
+		public String tail = "";
+		public int place = -1;
+		public Precedence_andContext precedence_and;
+		public Precedence_andContext precedence_and() {
+			return getRuleContext(Precedence_andContext.class,0);
+		}
+		public Precedence_orContext precedence_or() {
+			return getRuleContext(Precedence_orContext.class,0);
+		}
+		public TerminalNode OR() { return getToken(TigerParser.OR, 0); }
+		public Precedence_orContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_precedence_or; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterPrecedence_or(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitPrecedence_or(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitPrecedence_or(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Precedence_orContext precedence_or() throws RecognitionException {
+		return precedence_or(0);
+	}
+
+	private Precedence_orContext precedence_or(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		Precedence_orContext _localctx = new Precedence_orContext(_ctx, _parentState);
+		Precedence_orContext _prevctx = _localctx;
+		int _startState = 58;
+		enterRecursionRule(_localctx, 58, RULE_precedence_or, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			setState(313);
+			((Precedence_orContext)_localctx).precedence_and = precedence_and(0);
+			((Precedence_orContext)_localctx).isSubscript =  ((Precedence_orContext)_localctx).precedence_and.isSubscript;
+			                              ((Precedence_orContext)_localctx).varValue =  ((Precedence_orContext)_localctx).precedence_and.varValue;
+			                              ((Precedence_orContext)_localctx).tail =  ((Precedence_orContext)_localctx).precedence_and.tail;
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(323);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,16,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					{
+					_localctx = new Precedence_orContext(_parentctx, _parentState);
+					pushNewRecursionContext(_localctx, _startState, RULE_precedence_or);
+					setState(316);
+					if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+					setState(317);
+					match(OR);
+					setState(318);
+					((Precedence_orContext)_localctx).precedence_and = precedence_and(0);
+					((Precedence_orContext)_localctx).isEval =  true; ((Precedence_orContext)_localctx).varValue =  "temp";
+					}
+					} 
+				}
+				setState(325);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,16,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class Precedence_andContext extends ParserRuleContext {
+		public Type varType;
+		public boolean isEval = false;
+		public boolean isSubscript = false;
+		public String varValue;
+		public String tail = "";
+		public int place = -1;
+		public Precedence_compareContext precedence_compare;
+		public Precedence_compareContext precedence_compare() {
+			return getRuleContext(Precedence_compareContext.class,0);
+		}
+		public Precedence_andContext precedence_and() {
+			return getRuleContext(Precedence_andContext.class,0);
+		}
+		public TerminalNode AND() { return getToken(TigerParser.AND, 0); }
+		public Precedence_andContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_precedence_and; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterPrecedence_and(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitPrecedence_and(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitPrecedence_and(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Precedence_andContext precedence_and() throws RecognitionException {
+		return precedence_and(0);
+	}
+
+	private Precedence_andContext precedence_and(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		Precedence_andContext _localctx = new Precedence_andContext(_ctx, _parentState);
+		Precedence_andContext _prevctx = _localctx;
+		int _startState = 60;
+		enterRecursionRule(_localctx, 60, RULE_precedence_and, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			setState(327);
+			((Precedence_andContext)_localctx).precedence_compare = precedence_compare();
+			((Precedence_andContext)_localctx).isSubscript =  ((Precedence_andContext)_localctx).precedence_compare.isSubscript;
+			                                  ((Precedence_andContext)_localctx).varValue =  ((Precedence_andContext)_localctx).precedence_compare.varValue;
+			                                  ((Precedence_andContext)_localctx).tail =  ((Precedence_andContext)_localctx).precedence_compare.tail;
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(337);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					{
+					_localctx = new Precedence_andContext(_parentctx, _parentState);
+					pushNewRecursionContext(_localctx, _startState, RULE_precedence_and);
+					setState(330);
+					if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+					setState(331);
+					match(AND);
+					setState(332);
+					((Precedence_andContext)_localctx).precedence_compare = precedence_compare();
+					((Precedence_andContext)_localctx).isEval =  true; ((Precedence_andContext)_localctx).varValue =  "temp";
+					}
+					} 
+				}
+				setState(339);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class Precedence_compareContext extends ParserRuleContext {
+		public Type varType;
+		public boolean isEval = false;
+		public boolean isSubscript = false;
+		public String varValue;
+		public String tail = "";
+		public int place = -1;
+		public Precedence_plus_minusContext first;
+		public List<Precedence_plus_minusContext> precedence_plus_minus() {
+			return getRuleContexts(Precedence_plus_minusContext.class);
+		}
+		public Precedence_plus_minusContext precedence_plus_minus(int i) {
+			return getRuleContext(Precedence_plus_minusContext.class,i);
+		}
+		public List<TerminalNode> EQUAL() { return getTokens(TigerParser.EQUAL); }
+		public TerminalNode EQUAL(int i) {
+			return getToken(TigerParser.EQUAL, i);
+		}
+		public List<TerminalNode> NEQUAL() { return getTokens(TigerParser.NEQUAL); }
+		public TerminalNode NEQUAL(int i) {
+			return getToken(TigerParser.NEQUAL, i);
+		}
+		public List<TerminalNode> LESS() { return getTokens(TigerParser.LESS); }
+		public TerminalNode LESS(int i) {
+			return getToken(TigerParser.LESS, i);
+		}
+		public List<TerminalNode> GREAT() { return getTokens(TigerParser.GREAT); }
+		public TerminalNode GREAT(int i) {
+			return getToken(TigerParser.GREAT, i);
+		}
+		public List<TerminalNode> GREATEQ() { return getTokens(TigerParser.GREATEQ); }
+		public TerminalNode GREATEQ(int i) {
+			return getToken(TigerParser.GREATEQ, i);
+		}
+		public List<TerminalNode> LESSEQ() { return getTokens(TigerParser.LESSEQ); }
+		public TerminalNode LESSEQ(int i) {
+			return getToken(TigerParser.LESSEQ, i);
+		}
+		public Precedence_compareContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_precedence_compare; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterPrecedence_compare(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitPrecedence_compare(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitPrecedence_compare(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Precedence_compareContext precedence_compare() throws RecognitionException {
+		Precedence_compareContext _localctx = new Precedence_compareContext(_ctx, getState());
+		enterRule(_localctx, 62, RULE_precedence_compare);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(340);
+			((Precedence_compareContext)_localctx).first = precedence_plus_minus(0);
+			((Precedence_compareContext)_localctx).isSubscript =  ((Precedence_compareContext)_localctx).first.isSubscript;
+			                                           ((Precedence_compareContext)_localctx).varValue =  ((Precedence_compareContext)_localctx).first.varValue;
+			                                           ((Precedence_compareContext)_localctx).tail =  ((Precedence_compareContext)_localctx).first.tail;
+			setState(348);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,18,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(342);
+					_la = _input.LA(1);
+					if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << EQUAL) | (1L << NEQUAL) | (1L << LESS) | (1L << GREAT) | (1L << LESSEQ) | (1L << GREATEQ))) != 0)) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					setState(343);
+					precedence_plus_minus(0);
+					((Precedence_compareContext)_localctx).isSubscript =  false;
+					                                                                      ((Precedence_compareContext)_localctx).varValue =  "temp";
+					                                                                      ((Precedence_compareContext)_localctx).tail =  "";
+					}
+					} 
+				}
+				setState(350);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,18,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Precedence_plus_minusContext extends ParserRuleContext {
+		public Type varType;
+		public boolean isEval = false;
+		public boolean isSubscript = false;
+		public String varValue;
+		public String tail = "";
+		public int place = -1;
+		public Precedence_mult_divContext precedence_mult_div;
+		public Precedence_mult_divContext precedence_mult_div() {
+			return getRuleContext(Precedence_mult_divContext.class,0);
+		}
+		public Precedence_plus_minusContext precedence_plus_minus() {
+			return getRuleContext(Precedence_plus_minusContext.class,0);
+		}
+		public TerminalNode PLUS() { return getToken(TigerParser.PLUS, 0); }
+		public TerminalNode MINUS() { return getToken(TigerParser.MINUS, 0); }
+		public Precedence_plus_minusContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_precedence_plus_minus; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterPrecedence_plus_minus(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitPrecedence_plus_minus(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitPrecedence_plus_minus(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Precedence_plus_minusContext precedence_plus_minus() throws RecognitionException {
+		return precedence_plus_minus(0);
+	}
+
+	private Precedence_plus_minusContext precedence_plus_minus(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		Precedence_plus_minusContext _localctx = new Precedence_plus_minusContext(_ctx, _parentState);
+		Precedence_plus_minusContext _prevctx = _localctx;
+		int _startState = 64;
+		enterRecursionRule(_localctx, 64, RULE_precedence_plus_minus, _p);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			setState(352);
+			((Precedence_plus_minusContext)_localctx).precedence_mult_div = precedence_mult_div(0);
+			((Precedence_plus_minusContext)_localctx).isSubscript =  ((Precedence_plus_minusContext)_localctx).precedence_mult_div.isSubscript;
+			                                   ((Precedence_plus_minusContext)_localctx).varValue =  ((Precedence_plus_minusContext)_localctx).precedence_mult_div.varValue;
+			                                   ((Precedence_plus_minusContext)_localctx).tail =  ((Precedence_plus_minusContext)_localctx).precedence_mult_div.tail;
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(362);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,19,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					{
+					_localctx = new Precedence_plus_minusContext(_parentctx, _parentState);
+					pushNewRecursionContext(_localctx, _startState, RULE_precedence_plus_minus);
+					setState(355);
+					if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+					setState(356);
+					_la = _input.LA(1);
+					if ( !(_la==PLUS || _la==MINUS) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					setState(357);
+					((Precedence_plus_minusContext)_localctx).precedence_mult_div = precedence_mult_div(0);
+					((Precedence_plus_minusContext)_localctx).isEval =  true; ((Precedence_plus_minusContext)_localctx).varValue =  "temp";
+					}
+					} 
+				}
+				setState(364);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,19,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class Precedence_mult_divContext extends ParserRuleContext {
+		public Type varType;
+		public boolean isEval = false;
+		public boolean isSubscript = false;
+		public String varValue;
+		public String tail = "";
+		public String action;
+		public int place = -1;
+		public Precedence_powContext precedence_pow;
+		public Mult_divContext mult_div;
+		public Precedence_powContext precedence_pow() {
+			return getRuleContext(Precedence_powContext.class,0);
+		}
+		public Precedence_mult_divContext precedence_mult_div() {
+			return getRuleContext(Precedence_mult_divContext.class,0);
+		}
+		public Mult_divContext mult_div() {
+			return getRuleContext(Mult_divContext.class,0);
+		}
+		public Precedence_mult_divContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_precedence_mult_div; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterPrecedence_mult_div(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitPrecedence_mult_div(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitPrecedence_mult_div(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Precedence_mult_divContext precedence_mult_div() throws RecognitionException {
+		return precedence_mult_div(0);
+	}
+
+	private Precedence_mult_divContext precedence_mult_div(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		Precedence_mult_divContext _localctx = new Precedence_mult_divContext(_ctx, _parentState);
+		Precedence_mult_divContext _prevctx = _localctx;
+		int _startState = 66;
+		enterRecursionRule(_localctx, 66, RULE_precedence_mult_div, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			setState(366);
+			((Precedence_mult_divContext)_localctx).precedence_pow = precedence_pow();
+			((Precedence_mult_divContext)_localctx).isSubscript =  ((Precedence_mult_divContext)_localctx).precedence_pow.isSubscript;
+			                              ((Precedence_mult_divContext)_localctx).varValue =  ((Precedence_mult_divContext)_localctx).precedence_pow.varValue;
+			                              ((Precedence_mult_divContext)_localctx).tail =  ((Precedence_mult_divContext)_localctx).precedence_pow.tail;
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(376);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,20,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					{
+					_localctx = new Precedence_mult_divContext(_parentctx, _parentState);
+					pushNewRecursionContext(_localctx, _startState, RULE_precedence_mult_div);
+					setState(369);
+					if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+					setState(370);
+					((Precedence_mult_divContext)_localctx).mult_div = mult_div();
+					setState(371);
+					((Precedence_mult_divContext)_localctx).precedence_pow = precedence_pow();
+					((Precedence_mult_divContext)_localctx).isEval =  true;
+					                                                                     ((Precedence_mult_divContext)_localctx).varValue =  "temp";
+					                                                                     ((Precedence_mult_divContext)_localctx).action =  ((Precedence_mult_divContext)_localctx).mult_div.action;
+					}
+					} 
+				}
+				setState(378);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,20,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class Mult_divContext extends ParserRuleContext {
+		public String action;
+		public TerminalNode MULT() { return getToken(TigerParser.MULT, 0); }
+		public TerminalNode DIV() { return getToken(TigerParser.DIV, 0); }
+		public Mult_divContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_mult_div; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterMult_div(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitMult_div(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitMult_div(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Mult_divContext mult_div() throws RecognitionException {
+		Mult_divContext _localctx = new Mult_divContext(_ctx, getState());
+		enterRule(_localctx, 68, RULE_mult_div);
+		try {
+			setState(383);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case MULT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(379);
+				match(MULT);
+				((Mult_divContext)_localctx).action =  "mult";
+				}
+				break;
+			case DIV:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(381);
+				match(DIV);
+				((Mult_divContext)_localctx).action =  "div";
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Precedence_powContext extends ParserRuleContext {
+		public Type varType;
+		public boolean isEval = false;
+		public boolean isSubscript = false;
+		public String varValue;
+		public String tail = "";
+		public int place = -1;
+		public Precedence_parenContext precedence_paren;
+		public Precedence_parenContext precedence_paren() {
+			return getRuleContext(Precedence_parenContext.class,0);
+		}
+		public TerminalNode POW() { return getToken(TigerParser.POW, 0); }
+		public Precedence_powContext precedence_pow() {
+			return getRuleContext(Precedence_powContext.class,0);
+		}
+		public Precedence_powContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_precedence_pow; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterPrecedence_pow(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitPrecedence_pow(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitPrecedence_pow(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Precedence_powContext precedence_pow() throws RecognitionException {
+		Precedence_powContext _localctx = new Precedence_powContext(_ctx, getState());
+		enterRule(_localctx, 70, RULE_precedence_pow);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(385);
+			((Precedence_powContext)_localctx).precedence_paren = precedence_paren();
+			((Precedence_powContext)_localctx).isSubscript =  ((Precedence_powContext)_localctx).precedence_paren.isSubscript;
+			                                ((Precedence_powContext)_localctx).varValue =  ((Precedence_powContext)_localctx).precedence_paren.varValue;
+			                                ((Precedence_powContext)_localctx).tail =  ((Precedence_powContext)_localctx).precedence_paren.tail;
+			setState(391);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,22,_ctx) ) {
+			case 1:
+				{
+				setState(387);
+				match(POW);
+				setState(388);
+				precedence_pow();
+				((Precedence_powContext)_localctx).isEval =  true;
+				                                   ((Precedence_powContext)_localctx).isSubscript =  false;
+				                                   ((Precedence_powContext)_localctx).varValue =  "temp";
+				                                   ((Precedence_powContext)_localctx).tail =  "";
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Precedence_parenContext extends ParserRuleContext {
+		public Type varType;
+		public boolean isSubscript = false;
+		public String varValue;
+		public String tail = "";
+		public int place = -1;
+		public Precedence_trailContext precedence_trail;
+		public TerminalNode OPENPAREN() { return getToken(TigerParser.OPENPAREN, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public TerminalNode CLOSEPAREN() { return getToken(TigerParser.CLOSEPAREN, 0); }
+		public Precedence_trailContext precedence_trail() {
+			return getRuleContext(Precedence_trailContext.class,0);
+		}
+		public Precedence_parenContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_precedence_paren; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterPrecedence_paren(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitPrecedence_paren(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitPrecedence_paren(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Precedence_parenContext precedence_paren() throws RecognitionException {
+		Precedence_parenContext _localctx = new Precedence_parenContext(_ctx, getState());
+		enterRule(_localctx, 72, RULE_precedence_paren);
+		try {
+			setState(401);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case OPENPAREN:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(393);
+				match(OPENPAREN);
+				setState(394);
+				expr();
+				setState(395);
+				match(CLOSEPAREN);
+				((Precedence_parenContext)_localctx).varValue =  "temp";
+				}
+				break;
+			case INTLIT:
+			case FLOATLIT:
+			case ID:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(398);
+				((Precedence_parenContext)_localctx).precedence_trail = precedence_trail();
+				((Precedence_parenContext)_localctx).varValue =  ((Precedence_parenContext)_localctx).precedence_trail.varValue;
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Precedence_trailContext extends ParserRuleContext {
+		public Type varType;
+		public boolean isSubscript;
+		public String varValue;
+		public String tail = "";
+		public int place = -1;
+		public Const_Context const_;
+		public ValueContext value;
+		public Const_Context const_() {
+			return getRuleContext(Const_Context.class,0);
+		}
+		public ValueContext value() {
+			return getRuleContext(ValueContext.class,0);
+		}
+		public Precedence_trailContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_precedence_trail; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterPrecedence_trail(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitPrecedence_trail(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitPrecedence_trail(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Precedence_trailContext precedence_trail() throws RecognitionException {
+		Precedence_trailContext _localctx = new Precedence_trailContext(_ctx, getState());
+		enterRule(_localctx, 74, RULE_precedence_trail);
+		try {
+			setState(409);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case INTLIT:
+			case FLOATLIT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(403);
+				((Precedence_trailContext)_localctx).const_ = const_();
+				((Precedence_trailContext)_localctx).isSubscript =  false; ((Precedence_trailContext)_localctx).varValue =  ((Precedence_trailContext)_localctx).const_.varValue;
+				}
+				break;
+			case ID:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(406);
+				((Precedence_trailContext)_localctx).value = value();
+				((Precedence_trailContext)_localctx).isSubscript =  ((Precedence_trailContext)_localctx).value.isSubscript;
+				                     ((Precedence_trailContext)_localctx).varValue =  Identifiers.name(((Precedence_trailContext)_localctx).value.id);
+				                     ((Precedence_trailContext)_localctx).tail =  ((Precedence_trailContext)_localctx).value.tail;
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ValueContext extends ParserRuleContext {
+		public Type varType;
+		public int id;
+		public boolean isSubscript;
+		public String tail;
+		public int place = -1;
+		public int index = -1;
+		public Token ID;
+		public Value_tailContext value_tail;
+		public TerminalNode ID() { return getToken(TigerParser.ID, 0); }
+		public Value_tailContext value_tail() {
+			return getRuleContext(Value_tailContext.class,0);
+		}
+		public ValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_value; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterValue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitValue(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitValue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ValueContext value() throws RecognitionException {
+		ValueContext _localctx = new ValueContext(_ctx, getState());
+		enterRule(_localctx, 76, RULE_value);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(411);
+			((ValueContext)_localctx).ID = match(ID);
+			setState(412);
+			((ValueContext)_localctx).value_tail = value_tail();
+			((ValueContext)_localctx).id =  Identifiers.of(((ValueContext)_localctx).ID);
+			                             ((ValueContext)_localctx).isSubscript =  ((ValueContext)_localctx).value_tail.isSubscript;
+			                             ((ValueContext)_localctx).tail =  ((ValueContext)_localctx).value_tail.varValue;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Const_Context extends ParserRuleContext {
+		public Type varType;
+		public String varValue;
+		public int place = -1;
+		public Token INTLIT;
+		public Token FLOATLIT;
+		public TerminalNode INTLIT() { return getToken(TigerParser.INTLIT, 0); }
+		public TerminalNode FLOATLIT() { return getToken(TigerParser.FLOATLIT, 0); }
+		public Const_Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_const_; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterConst_(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitConst_(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitConst_(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Const_Context const_() throws RecognitionException {
+		Const_Context _localctx = new Const_Context(_ctx, getState());
+		enterRule(_localctx, 78, RULE_const_);
+		try {
+			setState(419);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case INTLIT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(415);
+				((Const_Context)_localctx).INTLIT = match(INTLIT);
+				((Const_Context)_localctx).varType =  Type.INT; ((Const_Context)_localctx).varValue =  (((Const_Context)_localctx).INTLIT!=null?((Const_Context)_localctx).INTLIT.getText():null);
+				}
+				break;
+			case FLOATLIT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(417);
+				((Const_Context)_localctx).FLOATLIT = match(FLOATLIT);
+				((Const_Context)_localctx).varType =  Type.FLOAT; ((Const_Context)_localctx).varValue =  (((Const_Context)_localctx).FLOATLIT!=null?((Const_Context)_localctx).FLOATLIT.getText():null);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Expr_listContext extends ParserRuleContext {
+		public List<Type> params = new ArrayList<>();
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public Expr_list_tailContext expr_list_tail() {
+			return getRuleContext(Expr_list_tailContext.class,0);
+		}
+		public Expr_listContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expr_list; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterExpr_list(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitExpr_list(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitExpr_list(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Expr_listContext expr_list() throws RecognitionException {
+		Expr_listContext _localctx = new Expr_listContext(_ctx, getState());
+		enterRule(_localctx, 80, RULE_expr_list);
+		try {
+			setState(425);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case INTLIT:
+			case FLOATLIT:
+			case OPENPAREN:
+			case ID:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(421);
+				expr();
+				setState(422);
+				expr_list_tail();
+				}
+				break;
+			case CLOSEPAREN:
+				enterOuterAlt(_localctx, 2);
+				{
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Expr_list_tailContext extends ParserRuleContext {
+		public List<Type> params = new ArrayList<>();
+		public TerminalNode COMMA() { return getToken(TigerParser.COMMA, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public Expr_list_tailContext expr_list_tail() {
+			return getRuleContext(Expr_list_tailContext.class,0);
+		}
+		public Expr_list_tailContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expr_list_tail; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterExpr_list_tail(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitExpr_list_tail(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitExpr_list_tail(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Expr_list_tailContext expr_list_tail() throws RecognitionException {
+		Expr_list_tailContext _localctx = new Expr_list_tailContext(_ctx, getState());
+		enterRule(_localctx, 82, RULE_expr_list_tail);
+		try {
+			setState(432);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case COMMA:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(427);
+				match(COMMA);
+				setState(428);
+				expr();
+				setState(429);
+				expr_list_tail();
+				}
+				break;
+			case CLOSEPAREN:
+				enterOuterAlt(_localctx, 2);
+				{
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Value_tailContext extends ParserRuleContext {
+		public boolean isSubscript = false;
+		public String varValue = "";
+		public ExprContext expr;
+		public TerminalNode OPENBRACK() { return getToken(TigerParser.OPENBRACK, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public TerminalNode CLOSEBRACK() { return getToken(TigerParser.CLOSEBRACK, 0); }
+		public Value_tailContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_value_tail; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).enterValue_tail(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof TigerListener ) ((TigerListener)listener).exitValue_tail(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof TigerVisitor ) return ((TigerVisitor<? extends T>)visitor).visitValue_tail(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Value_tailContext value_tail() throws RecognitionException {
+		Value_tailContext _localctx = new Value_tailContext(_ctx, getState());
+		enterRule(_localctx, 84, RULE_value_tail);
+		try {
+			setState(440);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,28,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(434);
+				match(OPENBRACK);
+				setState(435);
+				((Value_tailContext)_localctx).expr = expr();
+				setState(436);
+				match(CLOSEBRACK);
+				((Value_tailContext)_localctx).isSubscript =  true;
+				                                         ((Value_tailContext)_localctx).varValue =  ((Value_tailContext)_localctx).expr.varValue;
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 29:
+			return precedence_or_sempred((Precedence_orContext)_localctx, predIndex);
+		case 30:
+			return precedence_and_sempred((Precedence_andContext)_localctx, predIndex);
+		case 32:
+			return precedence_plus_minus_sempred((Precedence_plus_minusContext)_localctx, predIndex);
+		case 33:
+			return precedence_mult_div_sempred((Precedence_mult_divContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean precedence_or_sempred(Precedence_orContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return precpred(_ctx, 2);
+		}
+		return true;
+	}
+	private boolean precedence_and_sempred(Precedence_andContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 1:
+			return precpred(_ctx, 2);
+		}
+		return true;
+	}
+	private boolean precedence_plus_minus_sempred(Precedence_plus_minusContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 2:
+			return precpred(_ctx, 2);
+		}
+		return true;
+	}
+	private boolean precedence_mult_div_sempred(Precedence_mult_divContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 3:
+			return precpred(_ctx, 2);
+		}
+		return true;
+	}
+
+	public static final String _serializedATN =
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\67\u01bd\4\2\t\2"+
+		"\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
+		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\3\3\3\3\3\3\4\3\4\3\4\3\4\5"+
+		"\4i\n\4\3\5\3\5\3\5\3\5\5\5o\n\5\3\6\3\6\3\6\3\6\5\6u\n\6\3\7\3\7\3\7"+
+		"\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\5"+
+		"\b\u008b\n\b\3\t\3\t\3\t\3\t\5\t\u0091\n\t\3\n\3\n\3\n\3\n\3\n\3\n\3\n"+
+		"\3\n\3\13\3\13\3\13\3\13\5\13\u009f\n\13\3\f\3\f\3\f\3\f\3\f\3\f\3\f\5"+
+		"\f\u00a8\n\f\3\r\3\r\3\r\3\r\3\r\5\r\u00af\n\r\3\16\3\16\3\16\3\16\3\16"+
+		"\3\16\3\16\3\16\3\16\3\16\3\16\3\17\3\17\3\17\3\17\3\17\5\17\u00c1\n\17"+
+		"\3\20\3\20\3\20\3\20\3\20\3\20\5\20\u00c9\n\20\3\21\3\21\3\21\3\21\3\21"+
+		"\5\21\u00d0\n\21\3\22\3\22\3\22\3\22\3\22\3\23\3\23\3\23\3\23\3\23\5\23"+
+		"\u00dc\n\23\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24"+
+		"\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\5\24\u00f2\n\24\3\25\3\25\3\25"+
+		"\3\25\3\25\3\26\3\26\3\26\3\26\3\26\3\26\3\26\3\26\3\26\5\26\u0102\n\26"+
+		"\3\26\3\26\3\26\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\30\3\30\3\30"+
+		"\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\31\3\31\3\31\3\31\3\31"+
+		"\3\31\3\31\3\32\3\32\3\32\3\32\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\34"+
+		"\3\34\5\34\u012f\n\34\3\35\3\35\3\35\3\35\3\35\5\35\u0136\n\35\3\36\3"+
+		"\36\3\36\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\7\37\u0144\n\37"+
+		"\f\37\16\37\u0147\13\37\3 \3 \3 \3 \3 \3 \3 \3 \3 \7 \u0152\n \f \16 "+
+		"\u0155\13 \3!\3!\3!\3!\3!\3!\7!\u015d\n!\f!\16!\u0160\13!\3\"\3\"\3\""+
+		"\3\"\3\"\3\"\3\"\3\"\3\"\7\"\u016b\n\"\f\"\16\"\u016e\13\"\3#\3#\3#\3"+
+		"#\3#\3#\3#\3#\3#\7#\u0179\n#\f#\16#\u017c\13#\3$\3$\3$\3$\5$\u0182\n$"+
+		"\3%\3%\3%\3%\3%\3%\5%\u018a\n%\3&\3&\3&\3&\3&\3&\3&\3&\5&\u0194\n&\3\'"+
+		"\3\'\3\'\3\'\3\'\3\'\5\'\u019c\n\'\3(\3(\3(\3(\3)\3)\3)\3)\5)\u01a6\n"+
+		")\3*\3*\3*\3*\5*\u01ac\n*\3+\3+\3+\3+\3+\5+\u01b3\n+\3,\3,\3,\3,\3,\3"+
+		",\5,\u01bb\n,\3,\2\6<>BD-\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&"+
+		"(*,.\60\62\64\668:<>@BDFHJLNPRTV\2\4\3\2-\62\3\2()\2\u01b5\2X\3\2\2\2"+
+		"\4a\3\2\2\2\6h\3\2\2\2\bn\3\2\2\2\nt\3\2\2\2\fv\3\2\2\2\16\u008a\3\2\2"+
+		"\2\20\u0090\3\2\2\2\22\u0092\3\2\2\2\24\u009e\3\2\2\2\26\u00a7\3\2\2\2"+
+		"\30\u00ae\3\2\2\2\32\u00b0\3\2\2\2\34\u00c0\3\2\2\2\36\u00c8\3\2\2\2 "+
+		"\u00cf\3\2\2\2\"\u00d1\3\2\2\2$\u00d6\3\2\2\2&\u00f1\3\2\2\2(\u00f3\3"+
+		"\2\2\2*\u00f8\3\2\2\2,\u0106\3\2\2\2.\u010e\3\2\2\2\60\u011a\3\2\2\2\62"+
+		"\u0121\3\2\2\2\64\u0125\3\2\2\2\66\u012e\3\2\2\28\u0135\3\2\2\2:\u0137"+
+		"\3\2\2\2<\u013a\3\2\2\2>\u0148\3\2\2\2@\u0156\3\2\2\2B\u0161\3\2\2\2D"+
+		"\u016f\3\2\2\2F\u0181\3\2\2\2H\u0183\3\2\2\2J\u0193\3\2\2\2L\u019b\3\2"+
+		"\2\2N\u019d\3\2\2\2P\u01a5\3\2\2\2R\u01ab\3\2\2\2T\u01b2\3\2\2\2V\u01ba"+
+		"\3\2\2\2XY\7\26\2\2YZ\7\67\2\2Z[\7\24\2\2[\\\5\4\3\2\\]\7\b\2\2]^\5\n"+
+		"\6\2^_\7\f\2\2_`\b\2\1\2`\3\3\2\2\2ab\5\6\4\2bc\5\b\5\2c\5\3\2\2\2de\5"+
+		"\f\7\2ef\5\6\4\2fi\3\2\2\2gi\3\2\2\2hd\3\2\2\2hg\3\2\2\2i\7\3\2\2\2jk"+
+		"\5\22\n\2kl\5\b\5\2lo\3\2\2\2mo\3\2\2\2nj\3\2\2\2nm\3\2\2\2o\t\3\2\2\2"+
+		"pq\5\32\16\2qr\5\n\6\2ru\3\2\2\2su\3\2\2\2tp\3\2\2\2ts\3\2\2\2u\13\3\2"+
+		"\2\2vw\7\33\2\2wx\7\67\2\2xy\7\66\2\2yz\5\16\b\2z{\7!\2\2{|\b\7\1\2|\r"+
+		"\3\2\2\2}~\5\20\t\2~\177\b\b\1\2\177\u008b\3\2\2\2\u0080\u0081\7\7\2\2"+
+		"\u0081\u0082\7$\2\2\u0082\u0083\7\5\2\2\u0083\u0084\7%\2\2\u0084\u0085"+
+		"\7\25\2\2\u0085\u0086\5\20\t\2\u0086\u0087\b\b\1\2\u0087\u008b\3\2\2\2"+
+		"\u0088\u0089\7\67\2\2\u0089\u008b\b\b\1\2\u008a}\3\2\2\2\u008a\u0080\3"+
+		"\2\2\2\u008a\u0088\3\2\2\2\u008b\17\3\2\2\2\u008c\u008d\7\23\2\2\u008d"+
+		"\u0091\b\t\1\2\u008e\u008f\7\17\2\2\u008f\u0091\b\t\1\2\u0090\u008c\3"+
+		"\2\2\2\u0090\u008e\3\2\2\2\u0091\21\3\2\2\2\u0092\u0093\5\24\13\2\u0093"+
+		"\u0094\5\26\f\2\u0094\u0095\7 \2\2\u0095\u0096\5\16\b\2\u0096\u0097\5"+
+		"\30\r\2\u0097\u0098\7!\2\2\u0098\u0099\b\n\1\2\u0099\23\3\2\2\2\u009a"+
+		"\u009b\7\34\2\2\u009b\u009f\b\13\1\2\u009c\u009d\7\30\2\2\u009d\u009f"+
+		"\b\13\1\2\u009e\u009a\3\2\2\2\u009e\u009c\3\2\2\2\u009f\25\3\2\2\2\u00a0"+
+		"\u00a1\7\67\2\2\u00a1\u00a8\b\f\1\2\u00a2\u00a3\7\67\2\2\u00a3\u00a4\7"+
+		"\36\2\2\u00a4\u00a5\5\26\f\2\u00a5\u00a6\b\f\1\2\u00a6\u00a8\3\2\2\2\u00a7"+
+		"\u00a0\3\2\2\2\u00a7\u00a2\3\2\2\2\u00a8\27\3\2\2\2\u00a9\u00aa\7\65\2"+
+		"\2\u00aa\u00ab\5P)\2\u00ab\u00ac\b\r\1\2\u00ac\u00af\3\2\2\2\u00ad\u00af"+
+		"\b\r\1\2\u00ae\u00a9\3\2\2\2\u00ae\u00ad\3\2\2\2\u00af\31\3\2\2\2\u00b0"+
+		"\u00b1\7\21\2\2\u00b1\u00b2\7\67\2\2\u00b2\u00b3\7\"\2\2\u00b3\u00b4\5"+
+		"\34\17\2\u00b4\u00b5\7#\2\2\u00b5\u00b6\5 \21\2\u00b6\u00b7\7\b\2\2\u00b7"+
+		"\u00b8\5$\23\2\u00b8\u00b9\7\f\2\2\u00b9\u00ba\b\16\1\2\u00ba\33\3\2\2"+
+		"\2\u00bb\u00bc\5\"\22\2\u00bc\u00bd\5\36\20\2\u00bd\u00be\b\17\1\2\u00be"+
+		"\u00c1\3\2\2\2\u00bf\u00c1\3\2\2\2\u00c0\u00bb\3\2\2\2\u00c0\u00bf\3\2"+
+		"\2\2\u00c1\35\3\2\2\2\u00c2\u00c3\7\36\2\2\u00c3\u00c4\5\"\22\2\u00c4"+
+		"\u00c5\5\36\20\2\u00c5\u00c6\b\20\1\2\u00c6\u00c9\3\2\2\2\u00c7\u00c9"+
+		"\3\2\2\2\u00c8\u00c2\3\2\2\2\u00c8\u00c7\3\2\2\2\u00c9\37\3\2\2\2\u00ca"+
+		"\u00cb\7 \2\2\u00cb\u00cc\5\16\b\2\u00cc\u00cd\b\21\1\2\u00cd\u00d0\3"+
+		"\2\2\2\u00ce\u00d0\b\21\1\2\u00cf\u00ca\3\2\2\2\u00cf\u00ce\3\2\2\2\u00d0"+
+		"!\3\2\2\2\u00d1\u00d2\7\67\2\2\u00d2\u00d3\7 \2\2\u00d3\u00d4\5\16\b\2"+
+		"\u00d4\u00d5\b\22\1\2\u00d5#\3\2\2\2\u00d6\u00d7\5&\24\2\u00d7\u00db\b"+
+		"\23\1\2\u00d8\u00d9\5$\23\2\u00d9\u00da\b\23\1\2\u00da\u00dc\3\2\2\2\u00db"+
+		"\u00d8\3\2\2\2\u00db\u00dc\3\2\2\2\u00dc%\3\2\2\2\u00dd\u00f2\5(\25\2"+
+		"\u00de\u00df\5*\26\2\u00df\u00e0\b\24\1\2\u00e0\u00f2\3\2\2\2\u00e1\u00e2"+
+		"\5,\27\2\u00e2\u00e3\b\24\1\2\u00e3\u00f2\3\2\2\2\u00e4\u00e5\5.\30\2"+
+		"\u00e5\u00e6\b\24\1\2\u00e6\u00f2\3\2\2\2\u00e7\u00f2\5\60\31\2\u00e8"+
+		"\u00e9\7\t\2\2\u00e9\u00ea\7!\2\2\u00ea\u00f2\b\24\1\2\u00eb\u00ec\5\62"+
+		"\32\2\u00ec\u00ed\b\24\1\2\u00ed\u00f2\3\2\2\2\u00ee\u00ef\5\64\33\2\u00ef"+
+		"\u00f0\b\24\1\2\u00f0\u00f2\3\2\2\2\u00f1\u00dd\3\2\2\2\u00f1\u00de\3"+
+		"\2\2\2\u00f1\u00e1\3\2\2\2\u00f1\u00e4\3\2\2\2\u00f1\u00e7\3\2\2\2\u00f1"+
+		"\u00e8\3\2\2\2\u00f1\u00eb\3\2\2\2\u00f1\u00ee\3\2\2\2\u00f2\'\3\2\2\2"+
+		"\u00f3\u00f4\5N(\2\u00f4\u00f5\7\65\2\2\u00f5\u00f6\5:\36\2\u00f6\u00f7"+
+		"\7!\2\2\u00f7)\3\2\2\2\u00f8\u00f9\7\22\2\2\u00f9\u00fa\5:\36\2\u00fa"+
+		"\u00fb\7\31\2\2\u00fb\u00fc\5$\23\2\u00fc\u0101\b\26\1\2\u00fd\u00fe\7"+
+		"\13\2\2\u00fe\u00ff\5$\23\2\u00ff\u0100\b\26\1\2\u0100\u0102\3\2\2\2\u0101"+
+		"\u00fd\3\2\2\2\u0101\u0102\3\2\2\2\u0102\u0103\3\2\2\2\u0103\u0104\7\16"+
+		"\2\2\u0104\u0105\7!\2\2\u0105+\3\2\2\2\u0106\u0107\7\35\2\2\u0107\u0108"+
+		"\5:\36\2\u0108\u0109\7\n\2\2\u0109\u010a\5$\23\2\u010a\u010b\7\r\2\2\u010b"+
+		"\u010c\7!\2\2\u010c\u010d\b\27\1\2\u010d-\3\2\2\2\u010e\u010f\7\20\2\2"+
+		"\u010f\u0110\7\67\2\2\u0110\u0111\7\65\2\2\u0111\u0112\5:\36\2\u0112\u0113"+
+		"\7\32\2\2\u0113\u0114\5:\36\2\u0114\u0115\7\n\2\2\u0115\u0116\5$\23\2"+
+		"\u0116\u0117\7\r\2\2\u0117\u0118\7!\2\2\u0118\u0119\b\30\1\2\u0119/\3"+
+		"\2\2\2\u011a\u011b\58\35\2\u011b\u011c\7\67\2\2\u011c\u011d\7\"\2\2\u011d"+
+		"\u011e\5R*\2\u011e\u011f\7#\2\2\u011f\u0120\7!\2\2\u0120\61\3\2\2\2\u0121"+
+		"\u0122\7\27\2\2\u0122\u0123\5\66\34\2\u0123\u0124\7!\2\2\u0124\63\3\2"+
+		"\2\2\u0125\u0126\7\24\2\2\u0126\u0127\5\4\3\2\u0127\u0128\7\b\2\2\u0128"+
+		"\u0129\5$\23\2\u0129\u012a\7\f\2\2\u012a\u012b\b\33\1\2\u012b\65\3\2\2"+
+		"\2\u012c\u012f\5:\36\2\u012d\u012f\3\2\2\2\u012e\u012c\3\2\2\2\u012e\u012d"+
+		"\3\2\2\2\u012f\67\3\2\2\2\u0130\u0131\5N(\2\u0131\u0132\7\65\2\2\u0132"+
+		"\u0133\b\35\1\2\u0133\u0136\3\2\2\2\u0134\u0136\3\2\2\2\u0135\u0130\3"+
+		"\2\2\2\u0135\u0134\3\2\2\2\u01369\3\2\2\2\u0137\u0138\5<\37\2\u0138\u0139"+
+		"\b\36\1\2\u0139;\3\2\2\2\u013a\u013b\b\37\1\2\u013b\u013c\5> \2\u013c"+
+		"\u013d\b\37\1\2\u013d\u0145\3\2\2\2\u013e\u013f\f\4\2\2\u013f\u0140\7"+
+		"\64\2\2\u0140\u0141\5> \2\u0141\u0142\b\37\1\2\u0142\u0144\3\2\2\2\u0143"+
+		"\u013e\3\2\2\2\u0144\u0147\3\2\2\2\u0145\u0143\3\2\2\2\u0145\u0146\3\2"+
+		"\2\2\u0146=\3\2\2\2\u0147\u0145\3\2\2\2\u0148\u0149\b \1\2\u0149\u014a"+
+		"\5@!\2\u014a\u014b\b \1\2\u014b\u0153\3\2\2\2\u014c\u014d\f\4\2\2\u014d"+
+		"\u014e\7\63\2\2\u014e\u014f\5@!\2\u014f\u0150\b \1\2\u0150\u0152\3\2\2"+
+		"\2\u0151\u014c\3\2\2\2\u0152\u0155\3\2\2\2\u0153\u0151\3\2\2\2\u0153\u0154"+
+		"\3\2\2\2\u0154?\3\2\2\2\u0155\u0153\3\2\2\2\u0156\u0157\5B\"\2\u0157\u015e"+
+		"\b!\1\2\u0158\u0159\t\2\2\2\u0159\u015a\5B\"\2\u015a\u015b\b!\1\2\u015b"+
+		"\u015d\3\2\2\2\u015c\u0158\3\2\2\2\u015d\u0160\3\2\2\2\u015e\u015c\3\2"+
+		"\2\2\u015e\u015f\3\2\2\2\u015fA\3\2\2\2\u0160\u015e\3\2\2\2\u0161\u0162"+
+		"\b\"\1\2\u0162\u0163\5D#\2\u0163\u0164\b\"\1\2\u0164\u016c\3\2\2\2\u0165"+
+		"\u0166\f\4\2\2\u0166\u0167\t\3\2\2\u0167\u0168\5D#\2\u0168\u0169\b\"\1"+
+		"\2\u0169\u016b\3\2\2\2\u016a\u0165\3\2\2\2\u016b\u016e\3\2\2\2\u016c\u016a"+
+		"\3\2\2\2\u016c\u016d\3\2\2\2\u016dC\3\2\2\2\u016e\u016c\3\2\2\2\u016f"+
+		"\u0170\b#\1\2\u0170\u0171\5H%\2\u0171\u0172\b#\1\2\u0172\u017a\3\2\2\2"+
+		"\u0173\u0174\f\4\2\2\u0174\u0175\5F$\2\u0175\u0176\5H%\2\u0176\u0177\b"+
+		"#\1\2\u0177\u0179\3\2\2\2\u0178\u0173\3\2\2\2\u0179\u017c\3\2\2\2\u017a"+
+		"\u0178\3\2\2\2\u017a\u017b\3\2\2\2\u017bE\3\2\2\2\u017c\u017a\3\2\2\2"+
+		"\u017d\u017e\7*\2\2\u017e\u0182\b$\1\2\u017f\u0180\7+\2\2\u0180\u0182"+
+		"\b$\1\2\u0181\u017d\3\2\2\2\u0181\u017f\3\2\2\2\u0182G\3\2\2\2\u0183\u0184"+
+		"\5J&\2\u0184\u0189\b%\1\2\u0185\u0186\7,\2\2\u0186\u0187\5H%\2\u0187\u0188"+
+		"\b%\1\2\u0188\u018a\3\2\2\2\u0189\u0185\3\2\2\2\u0189\u018a\3\2\2\2\u018a"+
+		"I\3\2\2\2\u018b\u018c\7\"\2\2\u018c\u018d\5:\36\2\u018d\u018e\7#\2\2\u018e"+
+		"\u018f\b&\1\2\u018f\u0194\3\2\2\2\u0190\u0191\5L\'\2\u0191\u0192\b&\1"+
+		"\2\u0192\u0194\3\2\2\2\u0193\u018b\3\2\2\2\u0193\u0190\3\2\2\2\u0194K"+
+		"\3\2\2\2\u0195\u0196\5P)\2\u0196\u0197\b\'\1\2\u0197\u019c\3\2\2\2\u0198"+
+		"\u0199\5N(\2\u0199\u019a\b\'\1\2\u019a\u019c\3\2\2\2\u019b\u0195\3\2\2"+
+		"\2\u019b\u0198\3\2\2\2\u019cM\3\2\2\2\u019d\u019e\7\67\2\2\u019e\u019f"+
+		"\5V,\2\u019f\u01a0\b(\1\2\u01a0O\3\2\2\2\u01a1\u01a2\7\5\2\2\u01a2\u01a6"+
+		"\b)\1\2\u01a3\u01a4\7\6\2\2\u01a4\u01a6\b)\1\2\u01a5\u01a1\3\2\2\2\u01a5"+
+		"\u01a3\3\2\2\2\u01a6Q\3\2\2\2\u01a7\u01a8\5:\36\2\u01a8\u01a9\5T+\2\u01a9"+
+		"\u01ac\3\2\2\2\u01aa\u01ac\3\2\2\2\u01ab\u01a7\3\2\2\2\u01ab\u01aa\3\2"+
+		"\2\2\u01acS\3\2\2\2\u01ad\u01ae\7\36\2\2\u01ae\u01af\5:\36\2\u01af\u01b0"+
+		"\5T+\2\u01b0\u01b3\3\2\2\2\u01b1\u01b3\3\2\2\2\u01b2\u01ad\3\2\2\2\u01b2"+
+		"\u01b1\3\2\2\2\u01b3U\3\2\2\2\u01b4\u01b5\7$\2\2\u01b5\u01b6\5:\36\2\u01b6"+
+		"\u01b7\7%\2\2\u01b7\u01b8\b,\1\2\u01b8\u01bb\3\2\2\2\u01b9\u01bb\3\2\2"+
+		"\2\u01ba\u01b4\3\2\2\2\u01ba\u01b9\3\2\2\2\u01bbW\3\2\2\2\37hnt\u008a"+
+		"\u0090\u009e\u00a7\u00ae\u00c0\u00c8\u00cf\u00db\u00f1\u0101\u012e\u0135"+
+		"\u0145\u0153\u015e\u016c\u017a\u0181\u0189\u0193\u019b\u01a5\u01ab\u01b2"+
+		"\u01ba";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -1,28 +1,134 @@
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
 import org.antlr.v4.runtime.Vocabulary;
-import org.antlr.v4.runtime.tree.TerminalNode;
 
-import java.io.BufferedWriter;
-import java.io.FileWriter;
+import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Writes tokens as lines of the form {@code <SYMBOL, "text">}. The lines are assembled as bytes in
+ * a large buffer that goes to the file channel only when full, and the fixed parts of every line are
+ * encoded once per token type, so logging a token allocates at most the token's text, and nothing
+ * at all when the source is a {@link MappedCharStream}.
+ */
+public class TokensLogger implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    // "<SYMBOL, \"" per token type, and the complete line for tokens that always have the same text
+    private final byte[][] prefixes;
+    private final byte[][] lines;
+    private static final byte[] SUFFIX = "\">\n".getBytes(StandardCharsets.US_ASCII);
 
-public class TokensLogger extends TigerBaseListener{
-    private BufferedWriter writer;
-    private Vocabulary vocabulary;
     public TokensLogger(String token_path, Vocabulary vocabulary) throws IOException {
-        super();
-        writer = new BufferedWriter(new FileWriter(token_path));
-        this.vocabulary = vocabulary;
+        channel = FileChannel.open(Path.of(token_path), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        int types = vocabulary.getMaxTokenType() + 1;
+        prefixes = new byte[types][];
+        lines = new byte[types][];
+        for (int type = 0; type < types; ++type) {
+            String symbol = vocabulary.getSymbolicName(type);
+            prefixes[type] = ("<" + symbol + ", \"").getBytes(StandardCharsets.UTF_8);
+            String literal = vocabulary.getLiteralName(type);
+            if (literal != null) {
+                String text = literal.substring(1, literal.length() - 1); // strip the quotes
+                lines[type] = ("<" + symbol + ", \"" + text + "\">\n").getBytes(StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    public void log(Token token) throws IOException {
+        int type = token.getType();
+        if (lines[type] != null) {
+            put(lines[type]);
+            return;
+        }
+        put(prefixes[type]);
+        if (token.getInputStream() instanceof MappedCharStream) {
+            // the text goes from the mapped file to the buffer without becoming a String
+            int length = token.getStopIndex() - token.getStartIndex() + 1;
+            if (length >= 0 && length + SUFFIX.length <= buffer.capacity()) {
+                if (buffer.remaining() < length)
+                    drain();
+                ((MappedCharStream) token.getInputStream()).copy(token.getStartIndex(), token.getStopIndex(), buffer);
+                put(SUFFIX);
+                return;
+            }
+        }
+        String text = token.getText();
+        for (int i = 0; i < text.length(); ++i) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                put(text.substring(i).getBytes(StandardCharsets.UTF_8));
+                break;
+            }
+            if (!buffer.hasRemaining())
+                drain();
+            buffer.put((byte) c);
+        }
+        put(SUFFIX);
+    }
+
+    /**
+     * Logs the tokens of the list up to and including index {@code last}.
+     */
+    public void log(List<Token> tokens, int last) throws IOException {
+        for (int i = 0; i <= last; ++i) {
+            Token token = tokens.get(i);
+            if (token.getType() != Token.EOF && token.getChannel() == Token.DEFAULT_CHANNEL)
+                log(token);
+        }
+    }
+
+    /**
+     * Drains the token source, without building a token stream or a parse tree.
+     * Returns the number of tokens logged.
+     */
+    public long logAll(TokenSource source) throws IOException {
+        long count = 0;
+        for (Token token = source.nextToken(); token.getType() != Token.EOF; token = source.nextToken()) {
+            if (token.getChannel() == Token.DEFAULT_CHANNEL) {
+                log(token);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void put(byte[] bytes) throws IOException {
+        if (buffer.remaining() < bytes.length) {
+            drain();
+            if (bytes.length > buffer.capacity()) {
+                ByteBuffer large = ByteBuffer.wrap(bytes);
+                while (large.hasRemaining())
+                    channel.write(large);
+                return;
+            }
+        }
+        buffer.put(bytes);
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
     }
 
     @Override
-    public void visitTerminal(TerminalNode node) {
-        String symbol = vocabulary.getSymbolicName(node.getSymbol().getType());
-        String text = node.getText();
+    public void close() throws IOException {
         try {
-            writer.append(String.format("<%s, \"%s\">\n", symbol, text));
-            writer.flush();
-        } catch (IOException e) {
-            e.printStackTrace();
+            drain();
+        } finally {
+            channel.close();
         }
     }
 }
@@ -1,57 +1,120 @@
-import java.util.Objects;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Types are canonical: {@link #of} and {@link #array} return the same instance for the same base
+ * type name and array size, so two types are equal exactly when they are the same object. The
+ * canonical table holds its types weakly: a type nothing refers to any more is dropped, so the
+ * table does not grow with every program a long running process compiles.
+ */
 public class Type {
-    public static Type FLOAT = new Type("float");
-    public static Type INT = new Type("int");
-    public static Type VOID = new Type("void");
-    public static Type ERROR = new Type("error");
+    enum Kind {
+        INT, FLOAT, VOID, ERROR,
+        // a type declared in the program, resolved through the symbol table
+        ALIAS
+    }
+
+    private static final ConcurrentHashMap<Long, Canonical> types = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<Type> collected = new ReferenceQueue<>();
+
+    private static class Canonical extends WeakReference<Type> {
+        final long key;
+
+        Canonical(Type type, long key) {
+            super(type, collected);
+            this.key = key;
+        }
+    }
+
+    public static Type FLOAT = of("float");
+    public static Type INT = of("int");
+    public static Type VOID = of("void");
+    public static Type ERROR = of("error");
 
     private final boolean isArray;
     private final int arraySize;
     private final String baseType;
+    // identifier of the base type name, see Identifiers
+    private final int baseTypeId;
+    private final Kind kind;
 
     public static boolean isBuiltIn(Type type){
-        return type.getBaseType().equals("float") ||
-                type.getBaseType().equals("int") ||
-                type.getBaseType().equals("error") ||
-                type.getBaseType().equals("void");
+        return type.kind != Kind.ALIAS;
     }
 
-    public Type(String baseType, int arraySize){
-        isArray = true;
-        this.baseType = baseType;
-        this.arraySize = arraySize;
+    public static Type of(String baseType){
+        return of(Identifiers.intern(baseType));
+    }
+
+    public static Type of(int baseTypeId){
+        return intern(baseTypeId, false, -1);
+    }
+
+    public static Type array(String baseType, int arraySize){
+        return intern(Identifiers.intern(baseType), true, arraySize);
+    }
+
+    private static Type intern(int baseTypeId, boolean isArray, int arraySize){
+        // array sizes are never negative, so -1 tells scalars apart
+        long key = (long) baseTypeId << 32 | (arraySize & 0xffffffffL);
+        purge();
+        Type type = get(key);
+        if (type != null)
+            return type;
+        synchronized (types) {
+            type = get(key);
+            if (type == null) {
+                type = new Type(baseTypeId, isArray, arraySize);
+                types.put(key, new Canonical(type, key));
+            }
+            return type;
+        }
+    }
+
+    private static Type get(long key){
+        Canonical canonical = types.get(key);
+        return canonical == null ? null : canonical.get();
+    }
+
+    // drops the entries of collected types, unless the key already maps to a newer type
+    private static void purge(){
+        for (Canonical canonical; (canonical = (Canonical) collected.poll()) != null; )
+            types.remove(canonical.key, canonical);
     }
 
-    public Type(String baseType){
-        isArray = false;
-        this.baseType = baseType;
-        this.arraySize = -1;
+    private Type(int baseTypeId, boolean isArray, int arraySize){
+        this.isArray = isArray;
+        this.baseType = Identifiers.name(baseTypeId);
+        this.baseTypeId = baseTypeId;
+        this.arraySize = arraySize;
+        switch (baseType) {
+            case "int": kind = Kind.INT; break;
+            case "float": kind = Kind.FLOAT; break;
+            case "void": kind = Kind.VOID; break;
+            case "error": kind = Kind.ERROR; break;
+            default: kind = Kind.ALIAS;
+        }
     }
 
     public String getBaseType() {
         return baseType;
     }
 
-    public int getArraySize() {
-        return arraySize;
+    public int getBaseTypeId() {
+        return baseTypeId;
     }
 
-    public boolean isArray() {
-        return isArray;
+    public Kind getKind() {
+        return kind;
     }
 
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        Type type = (Type) o;
-        return isArray == type.isArray && arraySize == type.arraySize && Objects.equals(baseType, type.baseType);
+    public int getArraySize() {
+        return arraySize;
     }
 
-    @Override
-    public int hashCode() {
-        return Objects.hash(isArray, arraySize, baseType);
+    public boolean isArray() {
+        return isArray;
     }
 
     @Override
@@ -0,0 +1,212 @@
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class CacheTest {
+    private static FunctionCache.Entry functionEntry() {
+        return new FunctionCache.Entry(List.of(new Diagnostic(Error.SEMANTIC_ERROR, 2, 4,
+                SemanticChecking.ErrorType.values()[0], "message")), "dump", null);
+    }
+
+    public static void testFunctionCacheRoundTrip() throws IOException {
+        Path directory = Files.createTempDirectory("cache");
+        try {
+            Path file = directory.resolve("unit.cache");
+            FunctionCache cache = FunctionCache.empty();
+            cache.put("key", functionEntry());
+            cache.save(file);
+            FunctionCache.Entry entry = FunctionCache.load(file).get("key");
+            TestRunner.check(entry != null, "entry saved");
+            TestRunner.checkEquals("dump", entry.dump, "dump");
+            TestRunner.checkEquals(null, entry.ir, "ir");
+            TestRunner.checkEquals(1, entry.diagnostics.size(), "diagnostics");
+            TestRunner.checkEquals("message", entry.diagnostics.get(0).message, "message");
+        } finally {
+            Compilations.delete(directory);
+        }
+    }
+
+    // a file from another build of the compiler, or of the old format with a version number
+    public static void testFunctionCacheOfOtherCompiler() throws IOException {
+        Path directory = Files.createTempDirectory("cache");
+        try {
+            Path file = directory.resolve("unit.cache");
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+                out.writeInt(0x54494743);
+                out.writeInt(1);
+                out.writeInt(0);
+            }
+            TestRunner.check(FunctionCache.load(file).get("key") == null, "entry of another compiler");
+        } finally {
+            Compilations.delete(directory);
+        }
+    }
+
+    // every int of the file in turn is replaced with a negative and a huge length
+    public static void testDamagedFunctionCache() throws IOException {
+        Path directory = Files.createTempDirectory("cache");
+        try {
+            Path file = directory.resolve("unit.cache");
+            FunctionCache cache = FunctionCache.empty();
+            cache.put("key", functionEntry());
+            cache.save(file);
+            byte[] saved = Files.readAllBytes(file);
+            for (int value : new int[]{-7, Integer.MAX_VALUE}) {
+                for (int i = 0; i + 4 <= saved.length; ++i) {
+                    Files.write(file, damage(saved, i, value));
+                    FunctionCache.load(file);
+                }
+            }
+        } finally {
+            Compilations.delete(directory);
+        }
+    }
+
+    private static CompileCache.Entry compileEntry(String ir) {
+        Map<String, byte[]> outputs = new LinkedHashMap<>();
+        outputs.put("ir", ir.getBytes());
+        return new CompileCache.Entry(List.of(), outputs);
+    }
+
+    public static void testCompileCacheRoundTrip() throws IOException {
+        Path directory = Files.createTempDirectory("cache");
+        try {
+            CompileCache cache = new CompileCache(directory, 1 << 20);
+            cache.put("key", compileEntry("ir of the unit"));
+            CompileCache.Entry entry = cache.get("key");
+            TestRunner.check(entry != null, "entry stored");
+            TestRunner.checkEquals("ir of the unit", new String(entry.outputs.get("ir")), "output");
+            TestRunner.check(cache.get("other") == null, "entry never stored");
+        } finally {
+            Compilations.delete(directory);
+        }
+    }
+
+    public static void testDamagedCompileCacheEntry() throws IOException {
+        Path directory = Files.createTempDirectory("cache");
+        try {
+            CompileCache cache = new CompileCache(directory, 1 << 20);
+            cache.put("key", compileEntry("ir of the unit"));
+            Path file = directory.resolve("key.entry");
+            byte[] saved = Files.readAllBytes(file);
+            for (int value : new int[]{-7, Integer.MAX_VALUE}) {
+                for (int i = 8; i + 4 <= saved.length; ++i) {
+                    Files.write(file, damage(saved, i, value));
+                    cache.get("key");
+                }
+            }
+        } finally {
+            Compilations.delete(directory);
+        }
+    }
+
+    // threads of one process putting into a full cache evict concurrently
+    public static void testConcurrentEviction() throws Exception {
+        Path directory = Files.createTempDirectory("cache");
+        try {
+            ExecutorService pool = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<?>> puts = new ArrayList<>();
+                for (int thread = 0; thread < 8; ++thread) {
+                    int t = thread;
+                    puts.add(pool.submit(() -> {
+                        CompileCache cache = new CompileCache(directory, 2000);
+                        for (int i = 0; i < 100; ++i)
+                            cache.put("key" + t + "_" + i, compileEntry("x".repeat(100)));
+                        return null;
+                    }));
+                }
+                for (Future<?> put : puts)
+                    put.get();
+            } finally {
+                pool.shutdown();
+            }
+            long total = 0;
+            try (var files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    if (file.toString().endsWith(".entry"))
+                        total += Files.size(file);
+                }
+            }
+            // the last eviction may have been skipped while another thread held the lock
+            TestRunner.check(total < 2000 + 8 * 200, "cache evicted down to its limit, " + total + " bytes");
+        } finally {
+            Compilations.delete(directory);
+        }
+    }
+
+    private static String[] compileCached(Path directory, String unit, Path cache) throws IOException {
+        CompileOptions options = new CompileOptions();
+        options.build_ir = true;
+        options.save_symbol_table = true;
+        options.optimization_level = 2;
+        options.cache_dir = cache.toString();
+        options.collect_stats = true;
+        Diagnostics diagnostics = Main.compile(directory.resolve(unit + ".tiger").toFile(), options);
+        Path ir = directory.resolve(unit + ".ir");
+        Matcher hits = Pattern.compile("\"cacheHits\": (\\d+)").matcher(Files.readString(directory.resolve(unit + ".stats.json")));
+        return new String[]{
+                diagnostics.toString(),
+                Files.readString(directory.resolve(unit + ".st")),
+                Files.exists(ir) ? Files.readString(ir) : null,
+                hits.find() ? hits.group(1) : null};
+    }
+
+    // the second compile of a unit is a hit that restores the outputs and diagnostics of the first
+    public static void testMainCompileCached() throws IOException {
+        Path directory = Files.createTempDirectory("cache");
+        try {
+            Path cache = directory.resolve("cache");
+            Files.writeString(directory.resolve("unit.tiger"), Compilations.generate(3));
+            String[] miss = compileCached(directory, "unit", cache);
+            TestRunner.checkEquals("0", miss[3], "hits of the first compile");
+            TestRunner.check(miss[2] != null, "IR written");
+            Files.delete(directory.resolve("unit.st"));
+            Files.delete(directory.resolve("unit.ir"));
+            String[] hit = compileCached(directory, "unit", cache);
+            TestRunner.checkEquals("1", hit[3], "hits of the second compile");
+            String[] outputs = {"diagnostics", "symbol table", "IR"};
+            for (int i = 0; i < outputs.length; ++i)
+                TestRunner.checkEquals(miss[i], hit[i], outputs[i] + " of the hit");
+        } finally {
+            Compilations.delete(directory);
+        }
+    }
+
+    // a hit for a unit with errors has no IR and removes the .ir of an earlier good compile
+    public static void testMainCompileCachedErrors() throws IOException {
+        Path directory = Files.createTempDirectory("cache");
+        try {
+            Path cache = directory.resolve("cache");
+            Files.writeString(directory.resolve("bad.tiger"), "program bad\nlet\nbegin\n  function main()\n  begin\n"
+                    + "    printi(undefined);\n  end\nend\n");
+            String[] miss = compileCached(directory, "bad", cache);
+            TestRunner.check(!miss[0].isEmpty(), "errors reported");
+            Files.writeString(directory.resolve("bad.ir"), "stale IR");
+            String[] hit = compileCached(directory, "bad", cache);
+            TestRunner.checkEquals("1", hit[3], "hits of the second compile");
+            TestRunner.checkEquals(miss[0], hit[0], "diagnostics of the hit");
+            TestRunner.checkEquals(miss[1], hit[1], "symbol table of the hit");
+            TestRunner.checkEquals(null, hit[2], "IR left by the hit");
+        } finally {
+            Compilations.delete(directory);
+        }
+    }
+
+    static byte[] damage(byte[] bytes, int offset, int value) {
+        byte[] damaged = bytes.clone();
+        for (int i = 0; i < 4; ++i)
+            damaged[offset + i] = (byte) (value >>> (24 - 8 * i));
+        return damaged;
+    }
+}
@@ -0,0 +1,95 @@
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.IterativeParseTreeWalker;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compiles Tiger sources in memory for the tests.
+ */
+class Compilations {
+    // a run that executes more instructions than this is taken to hang
+    static final long LIMIT = 50_000_000L;
+
+    static ParseTree parse(String source) {
+        Diagnostics diagnostics = new Diagnostics();
+        TigerLexer lexer = new TigerLexer(CharStreams.fromString(source));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(new ErrorHandler(Error.LEXICAL_ERROR, diagnostics));
+        lexer.setTokenFactory(IdentifierTokenFactory.DEFAULT);
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        ParseTree tree = Main.parse(new TigerParser(tokens), tokens, null, diagnostics);
+        TestRunner.check(!diagnostics.hasErrors(), "does not parse:\n" + diagnostics);
+        return tree;
+    }
+
+    /**
+     * The diagnostics of checking the program.
+     */
+    static Diagnostics check(String source) {
+        Diagnostics diagnostics = new Diagnostics();
+        new IterativeParseTreeWalker().walk(new SemanticChecking(null, false, diagnostics), parse(source));
+        return diagnostics;
+    }
+
+    /**
+     * The IR of the program, optimized at {@code level}.
+     */
+    static IRProgram lower(String source, int level) {
+        return lower(source, level == 0 ? null : new Optimizer(level));
+    }
+
+    static IRProgram lower(String source, Optimizer optimizer) {
+        Diagnostics diagnostics = new Diagnostics();
+        SemanticChecking checking = new SemanticChecking(null, true, diagnostics);
+        checking.getIRGenerator().setOptimizer(optimizer);
+        new IterativeParseTreeWalker().walk(checking, parse(source));
+        TestRunner.check(!diagnostics.hasErrors(), "has errors:\n" + diagnostics);
+        return checking.getIRGenerator().program;
+    }
+
+    static String run(IRProgram program) {
+        return new IRInterpreter(program, LIMIT).run();
+    }
+
+    /**
+     * Checks that the program prints the same at every optimization level and returns what it prints.
+     */
+    static String checkLevels(String source) {
+        String expected = run(lower(source, 0));
+        for (int level = 1; level <= 2; ++level) {
+            IRProgram program = lower(source, level);
+            TestRunner.checkEquals(expected, run(program), "output at -O" + level + " of\n" + source + "\nas\n" + program);
+        }
+        return expected;
+    }
+
+    /**
+     * Deletes a temporary directory of a test with everything in it.
+     */
+    static void delete(Path directory) throws IOException {
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            paths = walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        }
+        for (Path path : paths)
+            Files.deleteIfExists(path);
+    }
+
+    static String generate(long seed) {
+        ProgramGenerator generator = new ProgramGenerator();
+        generator.seed = seed;
+        generator.functions = 6;
+        generator.statements = 5;
+        generator.arraySize = 16;
+        generator.depth = 2;
+        return generator.generate();
+    }
+}
@@ -0,0 +1,52 @@
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class CompileServerTest {
+    // the response holds the -time report, the server's stderr gets nothing
+    public static void testTimeInResponse() throws IOException {
+        Path directory = Files.createTempDirectory("server");
+        try {
+            Path source = directory.resolve("p.tiger");
+            Files.writeString(source, "program p\nlet\nbegin\n  function main()\n  begin\n    printi(1);\n  end\nend\n");
+            PrintStream err = System.err;
+            ByteArrayOutputStream serverErr = new ByteArrayOutputStream();
+            String response;
+            System.setErr(new PrintStream(serverErr, true));
+            try {
+                response = new CompileServer().handle("-i " + source + " -time");
+            } finally {
+                System.setErr(err);
+            }
+            TestRunner.check(response.contains(source + ": parse "), "timing in the response:\n" + response);
+            TestRunner.check(response.endsWith("exit 0\n"), "exit status in the response:\n" + response);
+            TestRunner.checkEquals("", serverErr.toString(), "server stderr");
+        } finally {
+            Compilations.delete(directory);
+        }
+    }
+
+    public static void testMissingFile() throws IOException {
+        Path directory = Files.createTempDirectory("server");
+        try {
+            Path source = directory.resolve("missing.tiger");
+            String response = new CompileServer().handle("-i " + source);
+            TestRunner.check(response.contains("missing.tiger"), "failure in the response:\n" + response);
+            TestRunner.check(response.endsWith("exit " + Error.ARGUMENT_ERROR.getValue() + "\n"), "exit status:\n" + response);
+        } finally {
+            Compilations.delete(directory);
+        }
+    }
+
+    // the server's working directory is not the client's, so a relative path is refused
+    public static void testRelativePath() {
+        String response = new CompileServer().handle("-i prog.tiger -st");
+        TestRunner.check(response.contains("relative path prog.tiger"), "failure in the response:\n" + response);
+        TestRunner.check(response.endsWith("exit " + Error.ARGUMENT_ERROR.getValue() + "\n"), "exit status:\n" + response);
+        response = new CompileServer().handle("-i " + new File("prog.tiger").getAbsolutePath() + " -cache cache");
+        TestRunner.check(response.contains("relative path cache"), "failure in the response:\n" + response);
+    }
+}
@@ -0,0 +1,61 @@
+import org.antlr.v4.runtime.tree.IterativeParseTreeWalker;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+public class IRGeneratorTest {
+    private static String program(String body) {
+        return "program test\nlet\n  type F = array [4] of float;\n  static fa : F := 0.0;\nbegin\n"
+                + "  function main()\n  begin\n    let\n      var i : int := 3;\n      var x : float := 0.0;\n"
+                + "    begin\n" + body + "    end\n  end\nend\n";
+    }
+
+    // every value stored into a float array is a float, whatever the expression it came from
+    public static void testFloatArrayStores() {
+        String source = program("      fa[0] := 1; fa[1] := i; fa[2] := i + 2; fa[3] := x;\n");
+        for (int level = 0; level <= 2; ++level) {
+            int stores = 0;
+            for (IRFunction function : Compilations.lower(source, level).getFunctions()) {
+                for (Instruction instruction : function.instructions) {
+                    if (instruction.opcode != Opcode.ARRAY_STORE)
+                        continue;
+                    stores++;
+                    TestRunner.check(function.isFloat(instruction.operands[0]),
+                            "int stored into a float array at -O" + level + ": " + function);
+                }
+            }
+            TestRunner.checkEquals(4, stores, "stores at -O" + level);
+        }
+    }
+
+    // the counter of a for loop is a scalar int: a float or array counter is not lowered
+    public static void testForCounterType() {
+        String[] counters = {"x", "fa"};
+        SemanticChecking.ErrorType[] errors = {SemanticChecking.ErrorType.typeError, SemanticChecking.ErrorType.arrayTypeError};
+        for (int i = 0; i < counters.length; ++i) {
+            Diagnostics diagnostics = Compilations.check(program("      for " + counters[i] + " := 0 to 3 do i := i + 1; enddo;\n"));
+            TestRunner.checkEquals(1, diagnostics.getDiagnostics().size(), "diagnostics of counter " + counters[i] + ": " + diagnostics);
+            TestRunner.checkEquals(errors[i], diagnostics.getDiagnostics().get(0).type, "error of counter " + counters[i]);
+            TestRunner.checkEquals(12, diagnostics.getDiagnostics().get(0).line, "line of counter " + counters[i]);
+        }
+        Compilations.checkLevels(program("      for i := 0 to 3 do x := x + i; enddo;\n      printf(x);\n"));
+    }
+
+    // the walk leaves the tree as parsed, so walking it again (as the phase benchmarks do) gives the
+    // same diagnostics and IR
+    public static void testRepeatedWalk() {
+        ParseTree tree = Compilations.parse("program test\nlet\n  type T = int;\nbegin\n"
+                + "  function f(a : T, b : float) : T\n  begin\n    return a + 1;\n  end\n"
+                + "  function main()\n  begin\n    let\n      var i : int := 3;\n    begin\n"
+                + "      i := f(i, 2.0); i := f(i, i); printi(i);\n    end\n  end\nend\n");
+        String first = null;
+        for (int walk = 0; walk < 3; ++walk) {
+            Diagnostics diagnostics = new Diagnostics();
+            SemanticChecking checking = new SemanticChecking(null, true, diagnostics);
+            new IterativeParseTreeWalker().walk(checking, tree);
+            TestRunner.check(!diagnostics.hasErrors(), "walk " + walk + " has errors:\n" + diagnostics);
+            String ir = checking.getIRGenerator().program.toString();
+            if (first == null)
+                first = ir;
+            TestRunner.checkEquals(first, ir, "IR of walk " + walk);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs an IR program from main, for comparing the behaviour of differently optimized IR. Ints wrap
+ * at 32 bits and floats are single precision, like the target. printi and printf append to the
+ * output, one value per line; every executed instruction is counted.
+ */
+class IRInterpreter {
+    private final IRProgram program;
+    private final Map<String, IRFunction> functions = new HashMap<>();
+    private final double[] globals;
+    private final double[][] globalArrays;
+    private final StringBuilder output = new StringBuilder();
+    private final long limit;
+    private long executed = 0;
+    private boolean exited = false;
+
+    private static final class Frame {
+        final IRFunction function;
+        final double[] locals;
+        final double[][] arrays;
+
+        Frame(IRFunction function) {
+            this.function = function;
+            locals = new double[function.numVars()];
+            arrays = new double[function.numVars()][];
+            for (int i = 0; i < function.numVars(); ++i) {
+                if (function.varSize(i) > 0)
+                    arrays[i] = new double[function.varSize(i)];
+            }
+        }
+    }
+
+    IRInterpreter(IRProgram program, long limit) {
+        this.program = program;
+        this.limit = limit;
+        for (IRFunction function : program.getFunctions())
+            functions.put(function.getName(), function);
+        globals = new double[program.numVars()];
+        globalArrays = new double[program.numVars()][];
+        for (int i = 0; i < program.numVars(); ++i) {
+            if (program.varSize(i) > 0)
+                globalArrays[i] = new double[program.varSize(i)];
+        }
+    }
+
+    /**
+     * Runs main and returns the output.
+     */
+    String run() {
+        call(functions.get("main"), new double[0]);
+        return output.toString();
+    }
+
+    long getExecuted() {
+        return executed;
+    }
+
+    private double call(IRFunction function, double[] args) {
+        Frame frame = new Frame(function);
+        for (int i = 0; i < args.length; ++i) {
+            int param = function.getParams().get(i);
+            frame.locals[Operand.index(param)] = store(function.isFloat(param), args[i]);
+        }
+        List<Instruction> code = function.instructions;
+        int[] labels = new int[function.numLabels()];
+        for (int i = 0; i < code.size(); ++i) {
+            if (code.get(i).opcode == Opcode.LABEL)
+                labels[Operand.index(code.get(i).operands[0])] = i;
+        }
+        int pc = 0;
+        while (pc < code.size() && !exited) {
+            Instruction instruction = code.get(pc++);
+            int[] operands = instruction.operands;
+            if (instruction.opcode == Opcode.LABEL)
+                continue;
+            if (++executed > limit)
+                throw new IllegalStateException("more than " + limit + " instructions executed");
+            switch (instruction.opcode) {
+                case ASSIGN:
+                    if (operands.length == 2) {
+                        set(frame, operands[0], get(frame, operands[1]));
+                    } else {
+                        double[] array = array(frame, operands[0]);
+                        double value = store(function.isFloat(operands[0]), get(frame, operands[2]));
+                        for (int i = 0; i < (int) get(frame, operands[1]); ++i)
+                            array[i] = value;
+                    }
+                    break;
+                case ADD:
+                case SUB:
+                case MULT:
+                case DIV:
+                case AND:
+                case OR:
+                    set(frame, operands[2], arithmetic(instruction.opcode, get(frame, operands[0]),
+                            get(frame, operands[1]), function.isFloat(operands[2])));
+                    break;
+                case GOTO:
+                    pc = labels[Operand.index(operands[0])];
+                    break;
+                case BREQ:
+                case BRNEQ:
+                case BRLT:
+                case BRGT:
+                case BRLEQ:
+                case BRGEQ:
+                    if (branch(instruction.opcode, get(frame, operands[1]), get(frame, operands[2])))
+                        pc = labels[Operand.index(operands[0])];
+                    break;
+                case RETURN:
+                    return operands.length == 0 ? 0 : get(frame, operands[0]);
+                case CALL:
+                    invoke(frame, operands, 0);
+                    break;
+                case CALLR:
+                    set(frame, operands[0], invoke(frame, operands, 1));
+                    break;
+                case ARRAY_STORE:
+                    array(frame, operands[1])[(int) get(frame, operands[2])] =
+                            store(function.isFloat(operands[1]), get(frame, operands[0]));
+                    break;
+                case ARRAY_LOAD:
+                    set(frame, operands[0], array(frame, operands[1])[(int) get(frame, operands[2])]);
+                    break;
+                default:
+                    throw new IllegalStateException("cannot run " + instruction.opcode);
+            }
+        }
+        return 0;
+    }
+
+    private double invoke(Frame frame, int[] operands, int functionIndex) {
+        String name = Identifiers.name(Operand.index(operands[functionIndex]));
+        double[] args = new double[operands.length - functionIndex - 1];
+        for (int i = 0; i < args.length; ++i)
+            args[i] = get(frame, operands[functionIndex + 1 + i]);
+        switch (name) {
+            case "printi":
+                output.append((int) args[0]).append('\n');
+                return 0;
+            case "printf":
+                output.append((float) args[0]).append('\n');
+                return 0;
+            case "not":
+                return args[0] == 0 ? 1 : 0;
+            case "exit":
+                output.append("exit ").append((int) args[0]).append('\n');
+                exited = true;
+                return 0;
+            default:
+                return call(functions.get(name), args);
+        }
+    }
+
+    private static double arithmetic(Opcode opcode, double x, double y, boolean isFloat) {
+        if (isFloat) {
+            float a = (float) x, b = (float) y;
+            switch (opcode) {
+                case ADD:
+                    return a + b;
+                case SUB:
+                    return a - b;
+                case MULT:
+                    return a * b;
+                case DIV:
+                    return a / b;
+                default:
+                    throw new IllegalStateException("float " + opcode);
+            }
+        }
+        int a = (int) x, b = (int) y;
+        switch (opcode) {
+            case ADD:
+                return a + b;
+            case SUB:
+                return a - b;
+            case MULT:
+                return a * b;
+            case DIV:
+                return a / b;
+            case AND:
+                return a & b;
+            default:
+                return a | b;
+        }
+    }
+
+    private static boolean branch(Opcode opcode, double x, double y) {
+        switch (opcode) {
+            case BREQ:
+                return x == y;
+            case BRNEQ:
+                return x != y;
+            case BRLT:
+                return x < y;
+            case BRGT:
+                return x > y;
+            case BRLEQ:
+                return x <= y;
+            default:
+                return x >= y;
+        }
+    }
+
+    private static double store(boolean isFloat, double value) {
+        return isFloat ? (float) value : (int) value;
+    }
+
+    private double get(Frame frame, int operand) {
+        int index = Operand.index(operand);
+        switch (Operand.kind(operand)) {
+            case Operand.LOCAL:
+                return frame.locals[index];
+            case Operand.GLOBAL:
+                return globals[index];
+            case Operand.INT_CONST:
+                return Integer.parseInt(frame.function.constantText(operand));
+            case Operand.FLOAT_CONST:
+                return Float.parseFloat(frame.function.constantText(operand));
+            default:
+                throw new IllegalStateException("cannot read " + frame.function.operandToString(operand));
+        }
+    }
+
+    private void set(Frame frame, int operand, double value) {
+        double stored = store(frame.function.isFloat(operand), value);
+        if (Operand.kind(operand) == Operand.LOCAL)
+            frame.locals[Operand.index(operand)] = stored;
+        else
+            globals[Operand.index(operand)] = stored;
+    }
+
+    private double[] array(Frame frame, int operand) {
+        return Operand.kind(operand) == Operand.LOCAL ? frame.arrays[Operand.index(operand)]
+                : globalArrays[Operand.index(operand)];
+    }
+}
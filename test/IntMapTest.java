@@ -0,0 +1,62 @@
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class IntMapTest {
+    public static void testPutGetRemove() {
+        IntMap<String> map = new IntMap<>();
+        for (int key = 0; key < 100; ++key)
+            map.put(key, "v" + key);
+        for (int key = 0; key < 100; key += 2)
+            map.remove(key);
+        TestRunner.checkEquals(50, map.size(), "size");
+        for (int key = 0; key < 100; ++key)
+            TestRunner.checkEquals(key % 2 == 0 ? null : "v" + key, map.get(key), "value of " + key);
+        map.put(1, "w");
+        TestRunner.checkEquals("w", map.get(1), "replaced value");
+        TestRunner.checkEquals(50, map.size(), "size after replacing");
+    }
+
+    // well past 2^16 slots, where a hash of 16 bits could no longer reach every slot
+    public static void testManyKeys() {
+        int count = 1 << 20;
+        IntMap<Integer> map = new IntMap<>();
+        for (int key = 0; key < count; ++key)
+            map.put(key * 3, key);
+        TestRunner.checkEquals(count, map.size(), "size");
+        for (int key = 0; key < count; ++key) {
+            TestRunner.checkEquals(key, map.get(key * 3), "value of " + key * 3);
+            TestRunner.check(!map.containsKey(key * 3 + 1), "contains " + (key * 3 + 1));
+        }
+    }
+
+    public static void testAgainstHashMap() {
+        Random random = new Random(1);
+        IntMap<Integer> map = new IntMap<>(4);
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 200_000; ++i) {
+            int key = random.nextInt(50_000);
+            if (random.nextInt(3) == 0) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                map.put(key, i);
+                expected.put(key, i);
+            }
+        }
+        TestRunner.checkEquals(expected.size(), map.size(), "size");
+        for (int key = 0; key < 50_000; ++key)
+            TestRunner.checkEquals(expected.get(key), map.get(key), "value of " + key);
+    }
+
+    public static void testIntList() {
+        IntList list = new IntList(1);
+        for (int i = 0; i < 10; ++i)
+            list.add(i);
+        list.insert(0, -1);
+        list.insert(list.size(), 10);
+        TestRunner.checkEquals(12, list.size(), "size");
+        for (int i = 0; i < list.size(); ++i)
+            TestRunner.checkEquals(i - 1, list.get(i), "item " + i);
+    }
+}
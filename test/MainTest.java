@@ -0,0 +1,40 @@
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.io.PrintStream;
+import java.nio.file.Path;
+
+public class MainTest {
+    public static void testUnreadableFile() throws IOException {
+        Path directory = Files.createTempDirectory("main");
+        try {
+            Path missing = directory.resolve("missing.tiger");
+            Diagnostics diagnostics = Main.compileSafely(missing.toFile(), new CompileOptions());
+            TestRunner.checkEquals(Error.ARGUMENT_ERROR, diagnostics.getStatus(), "status");
+            String report = diagnostics.toString();
+            TestRunner.check(report.contains("missing.tiger") && !report.startsWith("line"),
+                    "report without a position: " + report);
+        } finally {
+            Compilations.delete(directory);
+        }
+    }
+
+    // a batch with an unreadable file and a file with semantic errors reports the unreadable file
+    public static void testUnreadableFileInBatch() throws IOException {
+        Path directory = Files.createTempDirectory("batch");
+        try {
+            Files.createDirectory(directory.resolve("a.tiger"));
+            Files.writeString(directory.resolve("b.tiger"), "program b\nlet\nbegin\n  function main()\n  begin\n"
+                    + "    printi(undefined);\n  end\nend\n");
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            PrintStream stream = new PrintStream(out, true);
+            File[] files = Main.getTigerFiles(directory.toString());
+            TestRunner.checkEquals(Error.ARGUMENT_ERROR, Main.compileAll(files, new CompileOptions(), stream, stream),
+                    "batch status of\n" + out);
+            TestRunner.check(out.toString().contains("b.tiger: " + Error.SEMANTIC_ERROR), "status of b.tiger in\n" + out);
+        } finally {
+            Compilations.delete(directory);
+        }
+    }
+}
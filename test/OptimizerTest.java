@@ -0,0 +1,164 @@
+/**
+ * Checks that the optimizer passes keep the output of programs unchanged: every program runs at
+ * -O0, -O1 and -O2 and must print the same.
+ */
+public class OptimizerTest {
+    private static String program(String declarations, String body) {
+        return "program test\nlet\n" + declarations + "begin\n"
+                + "  function main()\n  begin\n    let\n      var i, j, k, n : int := 0;\n"
+                + "      var x, y : float := 0.0;\n    begin\n" + body + "    end\n  end\nend\n";
+    }
+
+    private static String program(String body) {
+        return program("", body);
+    }
+
+    private static Optimizer optimize(String source, int level) {
+        Optimizer optimizer = new Optimizer(level);
+        Compilations.lower(source, optimizer);
+        return optimizer;
+    }
+
+    // SSA (-O1): values that flow around loops and through both arms of an if must survive the
+    // round trip through phis, including the swap of two variables
+    public static void testSSASwapInLoop() {
+        String source = program("      i := 1; j := 2;\n"
+                + "      for n := 1 to 5 do k := i; i := j; j := k; printi(i); enddo;\n"
+                + "      printi(j);\n");
+        TestRunner.checkEquals("2\n1\n2\n1\n2\n1\n", Compilations.checkLevels(source), "output");
+    }
+
+    public static void testSSABranches() {
+        String source = program("      for n := 1 to 6 do\n"
+                + "        if n > 3 then i := i + n; else j := j + n; x := x + 0.5; endif;\n"
+                + "        k := i * j;\n      enddo;\n      printi(i); printi(j); printi(k); printf(x);\n");
+        Compilations.checkLevels(source);
+    }
+
+    public static void testSSAWhileBreak() {
+        String source = program("      i := 10;\n"
+                + "      while i > 0 do j := j + i; if j > 30 then break; endif; i := i - 1; enddo;\n"
+                + "      printi(i); printi(j);\n");
+        TestRunner.checkEquals("7\n34\n", Compilations.checkLevels(source), "output");
+    }
+
+    // value numbering (-O1 within blocks, -O2 along dominators)
+    public static void testValueNumbering() {
+        String source = program("      i := 3; j := 4;\n"
+                + "      k := i * j + 1; n := i * j + 1; printi(k + n);\n"
+                + "      if k > 5 then printi(i * j + 1); endif;\n");
+        TestRunner.checkEquals("26\n13\n", Compilations.checkLevels(source), "output");
+        TestRunner.check(optimize(source, 1).getEliminatedInstructions() > 0, "nothing eliminated at -O1");
+        TestRunner.check(optimize(source, 2).getEliminatedInstructions() > optimize(source, 1).getEliminatedInstructions(),
+                "-O2 eliminates no more than -O1");
+    }
+
+    // a store to an array between two loads of the same element must not be numbered away
+    public static void testValueNumberingAcrossStores() {
+        String source = program("  type A = array [4] of int;\n  static a : A := 1;\n",
+                "      i := a[2]; a[2] := 7; j := a[2]; printi(i + j);\n");
+        TestRunner.checkEquals("8\n", Compilations.checkLevels(source), "output");
+    }
+
+    // loop invariant code motion and strength reduction (-O2), with local counters
+    public static void testLoopInvariantCode() {
+        String source = program("      i := 6; j := 7;\n"
+                + "      for n := 1 to 4 do k := k + i * j; enddo;\n      printi(k);\n");
+        TestRunner.checkEquals("168\n", Compilations.checkLevels(source), "output");
+        TestRunner.check(optimize(source, 2).getHoistedInstructions() > 0, "nothing hoisted");
+    }
+
+    public static void testStrengthReduction() {
+        String source = program("      for n := 1 to 10 do k := k + n * 4; enddo;\n"
+                + "      i := 0;\n      while i < 5 do j := j + i * 3; i := i + 1; enddo;\n"
+                + "      printi(k); printi(j);\n");
+        TestRunner.checkEquals("220\n30\n", Compilations.checkLevels(source), "output");
+        TestRunner.check(optimize(source, 2).getReducedMultiplications() > 0, "no multiplication reduced");
+    }
+
+    // the counter is a static, so the add at the end of the loop writes memory and the product
+    // of the counter must not be hoisted or reduced as if it were invariant
+    public static void testStaticLoopCounter() {
+        String source = program("  static g : int := 0;\n",
+                "      for g := 1 to 3 do k := k + g * 4; enddo;\n      printi(k);\n");
+        TestRunner.checkEquals("24\n", Compilations.checkLevels(source), "output");
+    }
+
+    // the loops of the strength reduction benchmark: -O2 must not execute more instructions than
+    // -O1 on any of them, and fewer where it reduces or hoists
+    private static final String[] LOOPS = {
+            "      j := 3;\n      for n := 0 to 15 do k := k + s[n * 4 / 4] * j * 2; s[n] := n * j; enddo;\n"
+                    + "      printi(k);\n",
+            "      j := 3;\n      for n := 0 to 15 do k := k + s[n * 4 / 4] * j * 2 + n * 8; enddo;\n"
+                    + "      printi(k);\n",
+            "      for n := 1 to 10 do k := k + n * 4; enddo;\n      printi(k);\n",
+            "      i := 6; j := 7;\n      for n := 0 to 15 do s[n] := s[n] + i * j; enddo;\n      printi(s[9]);\n",
+            "      for i := 0 to 7 do for n := 0 to 7 do k := k + s[i * 8 + n]; enddo; enddo;\n      printi(k);\n",
+            "      n := 0;\n      while n < 10 do s[n * 4] := k; k := k + n; n := n + 1; enddo;\n      printi(k);\n",
+            "      for n := 0 to 15 do k := k + n * 2; if k > 50 then break; endif; enddo;\n      printi(k);\n",
+            "      for n := 1 to 10 do k := k + n * 4; enddo;\n      printi(k); printi(n);\n",
+    };
+
+    private static long executed(String source, int level) {
+        IRInterpreter interpreter = new IRInterpreter(Compilations.lower(source, level), Compilations.LIMIT);
+        interpreter.run();
+        return interpreter.getExecuted();
+    }
+
+    public static void testLoopInstructionCounts() {
+        long total1 = 0, total2 = 0;
+        for (String loop : LOOPS) {
+            String source = program("  type A = array [64] of int;\n  static s : A := 1;\n", loop);
+            Compilations.checkLevels(source);
+            long o1 = executed(source, 1), o2 = executed(source, 2);
+            TestRunner.check(o2 <= o1, "-O2 executes " + o2 + " instructions, -O1 " + o1 + ", of\n" + source);
+            total1 += o1;
+            total2 += o2;
+        }
+        TestRunner.check(total2 < total1, "-O2 saves nothing on the loops: " + total2 + " of " + total1);
+    }
+
+    public static void testGeneratedInstructionCounts() {
+        for (long seed = 1; seed <= 30; ++seed) {
+            String source = Compilations.generate(seed);
+            long o1 = executed(source, 1), o2 = executed(source, 2);
+            TestRunner.check(o2 <= o1, "-O2 executes " + o2 + " instructions, -O1 " + o1 + ", of seed " + seed);
+        }
+    }
+
+    // the scaled comparison would overflow where the counter does not, so nothing is reduced
+    public static void testReductionNearOverflow() {
+        String source = program("      for n := 2147483000 to 2147483646 do k := k + n * 4; enddo;\n      printi(k);\n");
+        Compilations.checkLevels(source);
+        TestRunner.checkEquals(0L, optimize(source, 2).getReducedMultiplications(), "reduced multiplications");
+    }
+
+    // a loop that runs zero times must not execute its hoisted code's effects
+    public static void testEmptyLoop() {
+        String source = program("  type A = array [4] of int;\n  static a : A := 0;\n",
+                "      i := 2; j := 0;\n      for n := 1 to j do a[i] := 5; k := i / j; enddo;\n"
+                + "      printi(a[2]); printi(k);\n");
+        TestRunner.checkEquals("0\n0\n", Compilations.checkLevels(source), "output");
+    }
+
+    // folding while lowering expressions (all levels)
+    public static void testFolding() {
+        String source = program("      i := 5;\n"
+                + "      printi(2 ** 10); printi(i * 1 + 0); printi(0 + i * 0);\n"
+                + "      printi(7 / 2); printi(3 - 5);\n"
+                + "      x := 1 + 0.5; printf(x); printf(i * 1.0);\n"
+                + "      y := 2.5 * 4 - 0.25 / 0.5; printf(y); printf(0.1 + 0.2);\n"
+                + "      if 2 < 3 then printi(1); endif; if 2 >= 3 then printi(0); endif;\n");
+        TestRunner.checkEquals("1024\n5\n0\n3\n-2\n1.5\n5.0\n9.5\n0.3\n1\n", Compilations.checkLevels(source), "output");
+        IRProgram program = Compilations.lower(source, 0);
+        TestRunner.check(!program.toString().contains("mult"), "constant products left in\n" + program);
+        TestRunner.check(!program.toString().contains("add") && !program.toString().contains("sub"),
+                "constant sums left in\n" + program);
+    }
+
+    // generated programs mix all of the above with calls, globals and arrays
+    public static void testGeneratedPrograms() {
+        for (long seed = 1; seed <= 12; ++seed)
+            Compilations.checkLevels(Compilations.generate(seed));
+    }
+}
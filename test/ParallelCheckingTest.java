@@ -0,0 +1,120 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Checks that checking function bodies in parallel (-par) gives the outputs of the sequential walk.
+ */
+public class ParallelCheckingTest {
+    private static String[] compile(String source, boolean parallel, int level, int threads) throws IOException {
+        Path directory = Files.createTempDirectory("par");
+        try {
+            Path file = directory.resolve("unit.tiger");
+            Files.writeString(file, source);
+            CompileOptions options = new CompileOptions();
+            options.build_ir = true;
+            options.save_symbol_table = true;
+            options.parallel_functions = parallel;
+            options.optimization_level = level;
+            options.threads = threads;
+            Diagnostics diagnostics = Main.compile(new File(file.toString()), options);
+            Path ir = directory.resolve("unit.ir");
+            return new String[]{
+                    diagnostics.toString(),
+                    Files.readString(directory.resolve("unit.st")),
+                    Files.exists(ir) ? Files.readString(ir) : null};
+        } finally {
+            Compilations.delete(directory);
+        }
+    }
+
+    private static String[] compile(String source, boolean parallel, int level) throws IOException {
+        return compile(source, parallel, level, Runtime.getRuntime().availableProcessors());
+    }
+
+    private static void checkSame(String source, int level, int threads) throws IOException {
+        String[] sequential = compile(source, false, level);
+        String[] parallel = compile(source, true, level, threads);
+        String[] outputs = {"diagnostics", "symbol table", "IR"};
+        for (int i = 0; i < outputs.length; ++i)
+            TestRunner.checkEquals(sequential[i], parallel[i], outputs[i] + " at -O" + level + " with " + threads + " threads of\n" + source);
+    }
+
+    private static void checkSame(String source, int level) throws IOException {
+        checkSame(source, level, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static void testGeneratedPrograms() throws IOException {
+        for (long seed = 1; seed <= 8; ++seed) {
+            String source = Compilations.generate(seed);
+            for (int level = 0; level <= 2; ++level)
+                checkSame(source, level);
+        }
+    }
+
+    // -j sizes the pool of the bodies, one worker included
+    public static void testThreads() throws IOException {
+        String source = Compilations.generate(9);
+        for (int threads = 1; threads <= 3; ++threads)
+            checkSame(source, 2, threads);
+    }
+
+    private static String[] compileIn(Path directory, boolean incremental) throws IOException {
+        CompileOptions options = new CompileOptions();
+        options.build_ir = true;
+        options.save_symbol_table = true;
+        options.optimization_level = 2;
+        options.incremental = incremental;
+        options.collect_stats = true;
+        Diagnostics diagnostics = Main.compile(directory.resolve("unit.tiger").toFile(), options);
+        Matcher reused = Pattern.compile("\"reusedFunctions\": (\\d+)").matcher(Files.readString(directory.resolve("unit.stats.json")));
+        return new String[]{
+                diagnostics.toString(),
+                Files.readString(directory.resolve("unit.st")),
+                Files.exists(directory.resolve("unit.ir")) ? Files.readString(directory.resolve("unit.ir")) : null,
+                reused.find() ? reused.group(1) : "0"};
+    }
+
+    // -inc after lines were inserted into the first function: the bodies after it are reused with
+    // their lines moved, and the outputs are those of a compile without -inc, also when main has an
+    // error whose line moves
+    public static void testIncrementalAfterInsertedLines() throws IOException {
+        String source = Compilations.generate(10);
+        int main = source.indexOf("  begin\n", source.indexOf("function main")) + "  begin\n".length();
+        checkIncremental(source);
+        checkIncremental(source.substring(0, main) + "    gi0 := undefined;\n" + source.substring(main));
+    }
+
+    private static void checkIncremental(String source) throws IOException {
+        int body = source.indexOf("  begin\n", source.indexOf("function f0")) + "  begin\n".length();
+        String edited = source.substring(0, body) + "    gi0 := gi0 + 1;\n    gi0 := gi0 * 2;\n" + source.substring(body);
+        Path directory = Files.createTempDirectory("inc");
+        try {
+            Files.writeString(directory.resolve("unit.tiger"), source);
+            compileIn(directory, true);
+            Files.writeString(directory.resolve("unit.tiger"), edited);
+            String[] incremental = compileIn(directory, true);
+            String[] full = compileIn(directory, false);
+            String[] outputs = {"diagnostics", "symbol table", "IR"};
+            for (int i = 0; i < outputs.length; ++i)
+                TestRunner.checkEquals(full[i], incremental[i], outputs[i] + " of -inc");
+            TestRunner.check(Integer.parseInt(incremental[3]) > 0, "no function reused");
+        } finally {
+            Compilations.delete(directory);
+        }
+    }
+
+    // errors in several bodies are reported in source order with their lines
+    public static void testSemanticErrors() throws IOException {
+        String source = "program p\nlet\n  static g : int := 0;\nbegin\n"
+                + "  function f(a : int) : int\n  begin\n    return a + undefined;\n  end\n"
+                + "  function h(b : float)\n  begin\n    g := b;\n    f(1, 2);\n  end\n"
+                + "  function main()\n  begin\n    h(1.0);\n    g := f(g);\n    printi(g);\n  end\nend\n";
+        String[] sequential = compile(source, false, 0);
+        TestRunner.check(!sequential[0].isEmpty(), "errors reported");
+        checkSame(source, 0);
+    }
+}
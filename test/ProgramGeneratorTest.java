@@ -0,0 +1,26 @@
+public class ProgramGeneratorTest {
+    private static ProgramGenerator generator(long seed) {
+        ProgramGenerator generator = new ProgramGenerator();
+        generator.seed = seed;
+        generator.functions = 6;
+        generator.statements = 6;
+        generator.arraySize = 8;
+        return generator;
+    }
+
+    public static void testDeterministic() {
+        TestRunner.checkEquals(generator(7).generate(), generator(7).generate(), "program of seed 7");
+    }
+
+    // without arrays and globals, the only targets are locals, which enclosing loops lock
+    public static void testWithoutArraysOrGlobals() {
+        for (long seed = 1; seed <= 30; ++seed) {
+            ProgramGenerator generator = generator(seed);
+            generator.arrays = 0;
+            generator.globals = 0;
+            String source = generator.generate();
+            TestRunner.check(!source.contains("null"), "null target in\n" + source);
+            Compilations.lower(source, 0);
+        }
+    }
+}
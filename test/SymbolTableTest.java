@@ -0,0 +1,40 @@
+public class SymbolTableTest {
+    private static VariableSymbol variable(String name, Type type) {
+        return new VariableSymbol(Identifiers.intern(name), type, "var", Operand.NONE);
+    }
+
+    public static void testShadowing() {
+        SymbolTable table = new SymbolTable();
+        table.addScope(new GenericScope("outer"));
+        VariableSymbol outer = variable("shadowed", Type.INT);
+        table.addSymbol(outer);
+        table.addScope(new GenericScope("inner"));
+        VariableSymbol inner = variable("shadowed", Type.FLOAT);
+        table.addSymbol(inner);
+        table.addSymbol(variable("local", Type.INT));
+        TestRunner.check(table.getSymbol("shadowed") == inner, "inner binding visible");
+        table.popScope();
+        TestRunner.check(table.getSymbol("shadowed") == outer, "outer binding visible again");
+        TestRunner.check(table.getSymbol("local") == null, "popped binding gone");
+        table.removeSymbol(outer.id);
+        TestRunner.check(table.getSymbol("shadowed") == null, "removed binding gone");
+        TestRunner.check(table.getSymbol("printi") instanceof FunctionSymbol, "built-in visible");
+    }
+
+    // identifiers interned by other compilations do not make a table any larger
+    public static void testManyIdentifiers() {
+        for (int i = 0; i < 100_000; ++i)
+            Identifiers.intern("unrelated" + i);
+        SymbolTable table = new SymbolTable();
+        table.addScope(new GenericScope());
+        VariableSymbol symbol = variable("unrelated99999", Type.INT);
+        table.addSymbol(symbol);
+        TestRunner.check(table.getSymbol(symbol.id) == symbol, "binding of a late identifier");
+    }
+
+    public static void testCanonicalTypes() {
+        TestRunner.check(Type.array("int", 7) == Type.array("int", 7), "same array type");
+        TestRunner.check(Type.array("int", 7) != Type.array("int", 8), "different sizes");
+        TestRunner.check(Type.of("int") == Type.INT, "same base type");
+    }
+}
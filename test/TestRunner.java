@@ -0,0 +1,50 @@
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Runs the tests of the classes named on the command line: every public static method without
+ * parameters whose name starts with "test". A test fails by throwing. The exit status is the number
+ * of failed tests, capped at 1.
+ *
+ * Usage: java TestRunner class...
+ */
+public class TestRunner {
+    public static void main(String[] args) throws ClassNotFoundException {
+        int run = 0, failed = 0;
+        for (String name : args) {
+            Method[] methods = Class.forName(name).getMethods();
+            Arrays.sort(methods, Comparator.comparing(Method::getName));
+            for (Method method : methods) {
+                if (!method.getName().startsWith("test") || method.getParameterCount() != 0
+                        || !Modifier.isStatic(method.getModifiers()))
+                    continue;
+                run++;
+                try {
+                    method.invoke(null);
+                } catch (InvocationTargetException e) {
+                    failed++;
+                    System.out.println("FAIL " + name + "." + method.getName() + ": " + e.getCause());
+                    e.getCause().printStackTrace(System.out);
+                } catch (IllegalAccessException e) {
+                    failed++;
+                    System.out.println("FAIL " + name + "." + method.getName() + ": " + e);
+                }
+            }
+        }
+        System.out.println(run + " tests, " + failed + " failed");
+        System.exit(failed == 0 ? 0 : 1);
+    }
+
+    static void check(boolean condition, String message) {
+        if (!condition)
+            throw new AssertionError(message);
+    }
+
+    static void checkEquals(Object expected, Object actual, String message) {
+        if (expected == null ? actual != null : !expected.equals(actual))
+            throw new AssertionError(message + ": expected <" + expected + "> but was <" + actual + ">");
+    }
+}